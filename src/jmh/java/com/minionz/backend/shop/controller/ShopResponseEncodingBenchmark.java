@@ -0,0 +1,147 @@
+package com.minionz.backend.shop.controller;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.minionz.backend.shop.controller.dto.CommonShopResponseDto;
+import com.minionz.backend.shop.controller.dto.ShopTableResponseDto;
+import com.minionz.backend.shop.domain.OccupancySnapshot;
+import com.minionz.backend.shop.domain.ShopSearchEntry;
+import com.minionz.backend.shop.domain.UseStatus;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.GenericHttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ *  주변 매장 / 검색 응답(매장 카드 목록)과 테이블 목록을 형식별 HTTP 변환기로 직렬화하는 시간 비교
+ *  형식별 응답 크기는 Setup 에서 한 번 로그로 남김
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ShopResponseEncodingBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(ShopResponseEncodingBenchmark.class);
+    private static final Type SHOP_CARDS = new ParameterizedTypeReference<List<CommonShopResponseDto>>() {
+    }.getType();
+    private static final Type TABLES = new ParameterizedTypeReference<List<ShopTableResponseDto>>() {
+    }.getType();
+    private static final String SYLLABLES = "가나다라마바사아자차카타파하스벅커피맘터치역구월송도동";
+    private static final int TABLE_COUNT = 30;
+
+    @Param({"json", "smile", "cbor", "protobuf"})
+    private String format;
+
+    @Param({"20", "200"})
+    private int shopCount;
+
+    private GenericHttpMessageConverter<Object> converter;
+    private List<CommonShopResponseDto> shops;
+    private List<ShopTableResponseDto> tables;
+    private BufferOutputMessage outputMessage;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        converter = converter(format);
+        Random random = new Random(42);
+        shops = new ArrayList<>(shopCount);
+        for (int i = 0; i < shopCount; i++) {
+            int numberOfTables = 1 + random.nextInt(30);
+            int numberOfUsingTables = random.nextInt(numberOfTables + 1);
+            shops.add(new CommonShopResponseDto(
+                    new ShopSearchEntry((long) i + 1, word(random, 2, 6) + " " + word(random, 2, 3) + "점",
+                            word(random, 2, 4) + "동 " + random.nextInt(500) + "-" + random.nextInt(50), "인천시 " + word(random, 2, 2) + "구"),
+                    new OccupancySnapshot((long) i + 1, numberOfTables, numberOfUsingTables, numberOfUsingTables * 2, numberOfTables * 4)));
+        }
+        tables = new ArrayList<>(TABLE_COUNT);
+        for (int i = 0; i < TABLE_COUNT; i++) {
+            int countUser = random.nextInt(5);
+            tables.add(new ShopTableResponseDto((long) i + 1, i + 1, 4, countUser, UseStatus.of(countUser)));
+        }
+        outputMessage = new BufferOutputMessage();
+        log.info("[{}] shops({}) {} bytes, tables({}) {} bytes", format, shopCount,
+                nearShops(), TABLE_COUNT, tables());
+    }
+
+    @Benchmark
+    public int nearShops() throws IOException {
+        return write(shops, SHOP_CARDS);
+    }
+
+    @Benchmark
+    public int tables() throws IOException {
+        return write(tables, TABLES);
+    }
+
+    private int write(Object value, Type type) throws IOException {
+        outputMessage.reset();
+        converter.write(value, type, null, outputMessage);
+        return outputMessage.size();
+    }
+
+    private static GenericHttpMessageConverter<Object> converter(String format) {
+        switch (format) {
+            case "smile":
+                return new MappingJackson2SmileHttpMessageConverter(Jackson2ObjectMapperBuilder.json().factory(new SmileFactory()).build());
+            case "cbor":
+                return new MappingJackson2CborHttpMessageConverter(Jackson2ObjectMapperBuilder.json().factory(new CBORFactory()).build());
+            case "protobuf":
+                return new ShopProtobufHttpMessageConverter();
+            default:
+                return new MappingJackson2HttpMessageConverter(Jackson2ObjectMapperBuilder.json().build());
+        }
+    }
+
+    private static String word(Random random, int minLength, int maxLength) {
+        int length = minLength + random.nextInt(maxLength - minLength + 1);
+        StringBuilder word = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            word.append(SYLLABLES.charAt(random.nextInt(SYLLABLES.length())));
+        }
+        return word.toString();
+    }
+
+    private static class BufferOutputMessage implements HttpOutputMessage {
+
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream(64 * 1024);
+        private HttpHeaders headers = new HttpHeaders();
+
+        void reset() {
+            body.reset();
+            headers = new HttpHeaders();
+        }
+
+        int size() {
+            return body.size();
+        }
+
+        @Override
+        public OutputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+}
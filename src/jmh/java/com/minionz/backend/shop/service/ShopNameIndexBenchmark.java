@@ -0,0 +1,116 @@
+package com.minionz.backend.shop.service;
+
+import com.minionz.backend.shop.domain.SearchMode;
+import com.minionz.backend.shop.domain.ShopRepository;
+import com.minionz.backend.shop.domain.ShopSearchEntry;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ *  매장 100만 건(250개 지역) 이름 검색 : 부분 일치 / 지역 + 부분 일치 / 오타 허용(단어 트라이 + 편집 거리) 비교
+ *  오타 허용 검색 목표는 5ms 미만
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ShopNameIndexBenchmark {
+
+    private static final String SYLLABLES = "가나다라마바사아자차카타파하스벅커피맘터치역구월송도동신촌강남삼서울부산대전광주인천수원김밥천국떡볶이킨자버거페베리분식당";
+    private static final int BRAND_COUNT = 20000;
+    private static final int REGION_COUNT = 3000;
+    private static final int CITY_COUNT = 250;
+    private static final int QUERY_COUNT = 1024;
+
+    @Param("1000000")
+    private int shopCount;
+
+    private ShopNameIndex shopNameIndex;
+    private String[] exactQueries;
+    private String[] typoQueries;
+    private String[] queryCities;
+    private int queryIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        String[] brands = words(random, BRAND_COUNT, 2, 6);
+        String[] regions = words(random, REGION_COUNT, 2, 3);
+        List<ShopSearchEntry> entries = new ArrayList<>(shopCount);
+        for (int i = 0; i < shopCount; i++) {
+            String brand = random.nextInt(10) < 4 ? word(random, 2, 6) : brands[random.nextInt(BRAND_COUNT)];
+            String name = brand + " " + regions[random.nextInt(REGION_COUNT)] + "점";
+            entries.add(new ShopSearchEntry((long) i + 1, name, "거리", "도시" + random.nextInt(CITY_COUNT)));
+        }
+        ShopRepository shopRepository = (ShopRepository) Proxy.newProxyInstance(ShopRepository.class.getClassLoader(),
+                new Class<?>[]{ShopRepository.class}, (proxy, method, args) -> entries);
+        shopNameIndex = new ShopNameIndex(shopRepository);
+        shopNameIndex.rebuild();
+        exactQueries = new String[QUERY_COUNT];
+        typoQueries = new String[QUERY_COUNT];
+        queryCities = new String[QUERY_COUNT];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            String brand = brands[random.nextInt(BRAND_COUNT)];
+            exactQueries[i] = brand;
+            typoQueries[i] = typo(random, brand);
+            queryCities[i] = "도시" + random.nextInt(CITY_COUNT);
+        }
+    }
+
+    @Benchmark
+    public int nameSearch() {
+        return shopNameIndex.search(exactQueries[nextQuery()], SearchMode.NAME).size();
+    }
+
+    @Benchmark
+    public int regionSearch() {
+        int query = nextQuery();
+        return shopNameIndex.searchByRegion(exactQueries[query], queryCities[query], SearchMode.NAME).size();
+    }
+
+    @Benchmark
+    public int fuzzySearch() {
+        return shopNameIndex.search(typoQueries[nextQuery()], SearchMode.FUZZY).size();
+    }
+
+    private int nextQuery() {
+        queryIndex = (queryIndex + 1) % QUERY_COUNT;
+        return queryIndex;
+    }
+
+    private static String[] words(Random random, int count, int minLength, int maxLength) {
+        String[] words = new String[count];
+        for (int i = 0; i < count; i++) {
+            words[i] = word(random, minLength, maxLength);
+        }
+        return words;
+    }
+
+    private static String word(Random random, int minLength, int maxLength) {
+        int length = minLength + random.nextInt(maxLength - minLength + 1);
+        StringBuilder word = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            word.append(SYLLABLES.charAt(random.nextInt(SYLLABLES.length())));
+        }
+        return word.toString();
+    }
+
+    /**
+     *  세 글자 이상이면 한 글자를 바꿔 오타를 만듦
+     */
+    private static String typo(Random random, String word) {
+        if (word.length() < 3) {
+            return word;
+        }
+        char[] characters = word.toCharArray();
+        characters[random.nextInt(characters.length)] = SYLLABLES.charAt(random.nextInt(SYLLABLES.length()));
+        return new String(characters);
+    }
+}
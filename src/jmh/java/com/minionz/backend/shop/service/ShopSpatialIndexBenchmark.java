@@ -0,0 +1,153 @@
+package com.minionz.backend.shop.service;
+
+import com.minionz.backend.common.domain.GeoArea;
+import com.minionz.backend.common.domain.Geohash;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.*;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ *  반경 0.5km 근처 매장 조회 : acos 전체 스캔 / geohash 선필터 네이티브 쿼리 / 메모리 KD 트리 비교
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ShopSpatialIndexBenchmark {
+
+    private static final double RADIUS_KM = 0.5;
+    private static final int QUERY_COUNT = 1024;
+    private static final String NEAR_SHOP_CONDITION = "(6371*acos(cos(radians(latitude))*cos(radians(?))*cos(radians(?)-radians(longitude))+sin(radians(latitude))*sin(radians(?)))) < 0.5";
+
+    @Param("1000000")
+    private int shopCount;
+
+    private ShopKdTree tree;
+    private Connection connection;
+    private PreparedStatement fullScanStatement;
+    private double[] queryLatitudes;
+    private double[] queryLongitudes;
+    private int queryIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        Random random = new Random(42);
+        long[] ids = new long[shopCount];
+        double[] latitudes = new double[shopCount];
+        double[] longitudes = new double[shopCount];
+        connection = DriverManager.getConnection("jdbc:h2:mem:shop_benchmark;MODE=MYSQL", "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table shop (shop_id bigint primary key, latitude double, longitude double, geohash varchar(255))");
+            statement.execute("create index idx_shop_geohash on shop (geohash)");
+        }
+        try (PreparedStatement insert = connection.prepareStatement("insert into shop values (?, ?, ?, ?)")) {
+            for (int i = 0; i < shopCount; i++) {
+                ids[i] = i + 1;
+                latitudes[i] = 33.0 + random.nextDouble() * 5.5;
+                longitudes[i] = 124.5 + random.nextDouble() * 6.5;
+                insert.setLong(1, ids[i]);
+                insert.setDouble(2, latitudes[i]);
+                insert.setDouble(3, longitudes[i]);
+                insert.setString(4, Geohash.encode(latitudes[i], longitudes[i]));
+                insert.addBatch();
+                if (i % 10000 == 9999) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        tree = ShopKdTree.build(ids, latitudes, longitudes);
+        fullScanStatement = connection.prepareStatement("select shop_id from shop where " + NEAR_SHOP_CONDITION);
+        queryLatitudes = new double[QUERY_COUNT];
+        queryLongitudes = new double[QUERY_COUNT];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            queryLatitudes[i] = 33.5 + random.nextDouble() * 4.5;
+            queryLongitudes[i] = 125.0 + random.nextDouble() * 5.5;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        fullScanStatement.close();
+        connection.close();
+    }
+
+    @Benchmark
+    public int nativeFullScan() throws SQLException {
+        int query = nextQuery();
+        fullScanStatement.setDouble(1, queryLatitudes[query]);
+        fullScanStatement.setDouble(2, queryLongitudes[query]);
+        fullScanStatement.setDouble(3, queryLatitudes[query]);
+        return count(fullScanStatement);
+    }
+
+    @Benchmark
+    public int nativeGeohash() throws SQLException {
+        int query = nextQuery();
+        double latitude = queryLatitudes[query];
+        double longitude = queryLongitudes[query];
+        GeoArea area = GeoArea.around(latitude, longitude, RADIUS_KM);
+        List<String> geohashes = area.coveringGeohashes();
+        String placeholders = geohashes.stream().map(geohash -> "?").collect(Collectors.joining(", "));
+        String sql = "select shop_id from shop where geohash in (" + placeholders + ")"
+                + " and latitude between ? and ? and longitude between ? and ? and " + NEAR_SHOP_CONDITION;
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            int parameter = 1;
+            for (String geohash : geohashes) {
+                statement.setString(parameter++, geohash);
+            }
+            statement.setDouble(parameter++, area.getMinLatitude());
+            statement.setDouble(parameter++, area.getMaxLatitude());
+            statement.setDouble(parameter++, area.getMinLongitude());
+            statement.setDouble(parameter++, area.getMaxLongitude());
+            statement.setDouble(parameter++, latitude);
+            statement.setDouble(parameter++, longitude);
+            statement.setDouble(parameter, latitude);
+            return count(statement);
+        }
+    }
+
+    @Benchmark
+    public int kdTreeRadius() {
+        int query = nextQuery();
+        double latitude = queryLatitudes[query];
+        double longitude = queryLongitudes[query];
+        GeoArea area = GeoArea.around(latitude, longitude, RADIUS_KM);
+        int[] count = new int[1];
+        tree.search(area.getMinLatitude(), area.getMaxLatitude(), area.getMinLongitude(), area.getMaxLongitude(), index -> {
+            if (GeoArea.distanceKm(latitude, longitude, tree.latitude(index), tree.longitude(index)) < RADIUS_KM) {
+                count[0]++;
+            }
+        });
+        return count[0];
+    }
+
+    @Benchmark
+    public int kdTreeBox() {
+        int query = nextQuery();
+        int[] count = new int[1];
+        tree.search(queryLatitudes[query], queryLatitudes[query] + 0.01, queryLongitudes[query], queryLongitudes[query] + 0.01, index -> count[0]++);
+        return count[0];
+    }
+
+    private int nextQuery() {
+        queryIndex = (queryIndex + 1) % QUERY_COUNT;
+        return queryIndex;
+    }
+
+    private int count(PreparedStatement statement) throws SQLException {
+        int count = 0;
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,13 @@
+package com.minionz.backend;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ *  스케줄러 스레드는 spring.task.scheduling.pool.size 만큼 둠
+ *  기본값(1)이면 인덱스 재적재 / 집계 같은 긴 작업이 SSE 전송과 점유 상태 반영을 그동안 막음
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfiguration {
+}
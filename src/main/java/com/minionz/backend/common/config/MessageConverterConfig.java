@@ -0,0 +1,48 @@
+package com.minionz.backend.common.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.minionz.backend.shop.controller.ShopDetailJsonHttpMessageConverter;
+import com.minionz.backend.shop.controller.ShopProtobufHttpMessageConverter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ *  Accept 헤더로 Smile(application/x-jackson-smile) / CBOR(application/cbor) / protobuf(application/x-protobuf) 응답 선택
+ *  JSON 변환기는 건드리지 않고 목록 끝에 붙이므로 Accept 가 없거나 모든 타입을 받으면 지금과 같은 JSON 으로 응답
+ *  미리 만든 조각으로 쓰는 매장 상세 JSON 변환기만 Jackson JSON 변환기 바로 앞에 둠
+ */
+@Configuration
+@RequiredArgsConstructor
+public class MessageConverterConfig implements WebMvcConfigurer {
+
+    private final ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilders;
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.removeIf(converter -> converter instanceof MappingJackson2SmileHttpMessageConverter
+                || converter instanceof MappingJackson2CborHttpMessageConverter);
+        converters.add(new MappingJackson2SmileHttpMessageConverter(objectMapperBuilders.getObject().factory(new SmileFactory()).build()));
+        converters.add(new MappingJackson2CborHttpMessageConverter(objectMapperBuilders.getObject().factory(new CBORFactory()).build()));
+        converters.add(new ShopProtobufHttpMessageConverter());
+        converters.add(jsonConverterIndex(converters), new ShopDetailJsonHttpMessageConverter());
+    }
+
+    private int jsonConverterIndex(List<HttpMessageConverter<?>> converters) {
+        for (int i = 0; i < converters.size(); i++) {
+            if (converters.get(i) instanceof MappingJackson2HttpMessageConverter) {
+                return i;
+            }
+        }
+        return 0;
+    }
+}
@@ -16,6 +16,7 @@ public class Address {
     private String city;
     private double latitude;
     private double longitude;
+    private String geohash;
 
     @Builder
     public Address(String zipcode, String street, String city, double latitude, double longitude) {
@@ -24,5 +25,10 @@ public class Address {
         this.city = city;
         this.latitude = latitude;
         this.longitude = longitude;
+        updateGeohash();
+    }
+
+    public void updateGeohash() {
+        this.geohash = Geohash.encode(latitude, longitude);
     }
 }
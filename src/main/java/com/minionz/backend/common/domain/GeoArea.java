@@ -0,0 +1,68 @@
+package com.minionz.backend.common.domain;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ *  중심 좌표와 반경을 감싸는 위도/경도 사각 영역
+ */
+@Getter
+public class GeoArea {
+
+    public static final double EARTH_RADIUS_KM = 6371;
+    private static final double MARGIN_DEGREES = 0.000001;
+    private static final long MAX_COVERING_CELLS = 64;
+
+    private final double minLatitude;
+    private final double maxLatitude;
+    private final double minLongitude;
+    private final double maxLongitude;
+
+    GeoArea(double minLatitude, double maxLatitude, double minLongitude, double maxLongitude) {
+        this.minLatitude = minLatitude;
+        this.maxLatitude = maxLatitude;
+        this.minLongitude = minLongitude;
+        this.maxLongitude = maxLongitude;
+    }
+
+    public static GeoArea around(double latitude, double longitude, double radiusKm) {
+        double angularRadius = radiusKm / EARTH_RADIUS_KM;
+        double latitudeDelta = Math.toDegrees(angularRadius) + MARGIN_DEGREES;
+        double minLatitude = latitude - latitudeDelta;
+        double maxLatitude = latitude + latitudeDelta;
+        if (minLatitude <= -90 || maxLatitude >= 90) {
+            return new GeoArea(Math.max(minLatitude, -90), Math.min(maxLatitude, 90), -180, 180);
+        }
+        double ratio = Math.sin(angularRadius) / Math.cos(Math.toRadians(latitude));
+        if (ratio >= 1) {
+            return new GeoArea(minLatitude, maxLatitude, -180, 180);
+        }
+        double longitudeDelta = Math.toDegrees(Math.asin(ratio)) + MARGIN_DEGREES;
+        return new GeoArea(minLatitude, maxLatitude, longitude - longitudeDelta, longitude + longitudeDelta);
+    }
+
+    /**
+     *  구면 코사인 법칙으로 계산한 두 좌표 사이 거리 (km)
+     */
+    public static double distanceKm(double latitude1, double longitude1, double latitude2, double longitude2) {
+        double radianLatitude1 = Math.toRadians(latitude1);
+        double radianLatitude2 = Math.toRadians(latitude2);
+        double cosine = Math.cos(radianLatitude1) * Math.cos(radianLatitude2) * Math.cos(Math.toRadians(longitude2) - Math.toRadians(longitude1))
+                + Math.sin(radianLatitude1) * Math.sin(radianLatitude2);
+        return EARTH_RADIUS_KM * Math.acos(Math.max(-1, Math.min(1, cosine)));
+    }
+
+    /**
+     *  극점이나 날짜 변경선에 걸치거나 셀이 너무 많으면 셀 단위 조회를 쓰지 않음
+     */
+    public boolean isCoverable() {
+        return minLongitude > -180
+                && maxLongitude < 180
+                && Geohash.countCells(minLatitude, maxLatitude, minLongitude, maxLongitude) <= MAX_COVERING_CELLS;
+    }
+
+    public List<String> coveringGeohashes() {
+        return Geohash.covering(minLatitude, maxLatitude, minLongitude, maxLongitude);
+    }
+}
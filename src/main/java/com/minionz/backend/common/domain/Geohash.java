@@ -0,0 +1,106 @@
+package com.minionz.backend.common.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ *  위도/경도를 격자 셀 문자열로 변환하는 geohash
+ *  정밀도 6 기준 셀 하나는 약 1.2km x 0.6km
+ */
+public final class Geohash {
+
+    public static final int PRECISION = 6;
+
+    private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+    private static final String BASE32_CHARS = new String(BASE32);
+    private static final int BITS = PRECISION * 5;
+    private static final int BITS_PER_AXIS = BITS / 2;
+
+    private Geohash() {
+    }
+
+    public static String encode(double latitude, double longitude) {
+        return encode(latitudeIndex(latitude), longitudeIndex(longitude), PRECISION);
+    }
+
+    /**
+     *  정밀도를 지정한 geohash (홀수 정밀도는 경도 쪽 비트가 하나 더 많음)
+     */
+    public static String encode(double latitude, double longitude, int precision) {
+        int bits = precision * 5;
+        return encode(toIndex((latitude + 90) / 180, bits / 2), toIndex((longitude + 180) / 360, bits - bits / 2), precision);
+    }
+
+    /**
+     *  셀이 덮는 위도/경도 범위
+     */
+    public static GeoArea bounds(String geohash) {
+        int bits = geohash.length() * 5;
+        int latitudeIndex = 0;
+        int longitudeIndex = 0;
+        for (int bit = 0; bit < bits; bit++) {
+            int value = BASE32_CHARS.indexOf(geohash.charAt(bit / 5)) >>> 4 - bit % 5 & 1;
+            if (bit % 2 == 0) {
+                longitudeIndex = longitudeIndex << 1 | value;
+            } else {
+                latitudeIndex = latitudeIndex << 1 | value;
+            }
+        }
+        double latitudeCell = 180.0 / (1 << bits / 2);
+        double longitudeCell = 360.0 / (1 << bits - bits / 2);
+        return new GeoArea(latitudeIndex * latitudeCell - 90, (latitudeIndex + 1) * latitudeCell - 90,
+                longitudeIndex * longitudeCell - 180, (longitudeIndex + 1) * longitudeCell - 180);
+    }
+
+    /**
+     *  주어진 위도/경도 범위를 덮는 셀 목록 (경도 범위는 날짜 변경선을 넘지 않아야 함)
+     */
+    public static List<String> covering(double minLatitude, double maxLatitude, double minLongitude, double maxLongitude) {
+        List<String> geohashes = new ArrayList<>();
+        int maxLatitudeIndex = latitudeIndex(maxLatitude);
+        int maxLongitudeIndex = longitudeIndex(maxLongitude);
+        for (int latitudeIndex = latitudeIndex(minLatitude); latitudeIndex <= maxLatitudeIndex; latitudeIndex++) {
+            for (int longitudeIndex = longitudeIndex(minLongitude); longitudeIndex <= maxLongitudeIndex; longitudeIndex++) {
+                geohashes.add(encode(latitudeIndex, longitudeIndex, PRECISION));
+            }
+        }
+        return geohashes;
+    }
+
+    static long countCells(double minLatitude, double maxLatitude, double minLongitude, double maxLongitude) {
+        long latitudeCells = latitudeIndex(maxLatitude) - latitudeIndex(minLatitude) + 1L;
+        long longitudeCells = longitudeIndex(maxLongitude) - longitudeIndex(minLongitude) + 1L;
+        return latitudeCells * longitudeCells;
+    }
+
+    private static int latitudeIndex(double latitude) {
+        return toIndex((latitude + 90) / 180, BITS_PER_AXIS);
+    }
+
+    private static int longitudeIndex(double longitude) {
+        return toIndex((longitude + 180) / 360, BITS_PER_AXIS);
+    }
+
+    private static int toIndex(double ratio, int axisBits) {
+        int cellsPerAxis = 1 << axisBits;
+        int index = (int) Math.floor(ratio * cellsPerAxis);
+        return Math.max(0, Math.min(cellsPerAxis - 1, index));
+    }
+
+    private static String encode(int latitudeIndex, int longitudeIndex, int precision) {
+        int bits = precision * 5;
+        char[] geohash = new char[precision];
+        int value = 0;
+        for (int bit = 0; bit < bits; bit++) {
+            boolean longitudeBit = bit % 2 == 0;
+            int axisBit = (longitudeBit ? bits - bits / 2 : bits / 2) - 1 - bit / 2;
+            int index = longitudeBit ? longitudeIndex : latitudeIndex;
+            value = value << 1 | index >>> axisBit & 1;
+            if (bit % 5 == 4) {
+                geohash[bit / 5] = BASE32[value];
+                value = 0;
+            }
+        }
+        return new String(geohash);
+    }
+}
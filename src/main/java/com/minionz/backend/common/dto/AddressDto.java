@@ -15,4 +15,9 @@ public class AddressDto {
         this.street = address.getStreet();
         this.city = address.getCity();
     }
+
+    public AddressDto(String street, String city) {
+        this.street = street;
+        this.city = city;
+    }
 }
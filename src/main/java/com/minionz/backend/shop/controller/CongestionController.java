@@ -0,0 +1,50 @@
+package com.minionz.backend.shop.controller;
+
+import com.minionz.backend.shop.controller.dto.CongestionHistoryResponseDto;
+import com.minionz.backend.shop.service.CongestionHistoryService;
+import com.minionz.backend.shop.service.CongestionStreamService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Collections;
+import java.util.List;
+
+@Slf4j
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/v1/shops")
+public class CongestionController {
+
+    private static final String SUBSCRIBE_CONGESTION_SUCCESS_MESSAGE = "매장 혼잡도 구독 성공";
+
+    private static final String VIEW_CONGESTION_HISTORY_SUCCESS_MESSAGE = "매장 혼잡도 이력 조회 성공";
+
+    private final CongestionStreamService congestionStreamService;
+    private final CongestionHistoryService congestionHistoryService;
+
+    @GetMapping(value = "/{id}/congestion/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamCongestion(@PathVariable("id") Long id) {
+        SseEmitter emitter = congestionStreamService.subscribe(Collections.singletonList(id));
+        log.info(SUBSCRIBE_CONGESTION_SUCCESS_MESSAGE);
+        return emitter;
+    }
+
+    @GetMapping(value = "/congestion/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamCongestions(@RequestParam("ids") List<Long> ids) {
+        SseEmitter emitter = congestionStreamService.subscribe(ids);
+        log.info(SUBSCRIBE_CONGESTION_SUCCESS_MESSAGE);
+        return emitter;
+    }
+
+    @GetMapping("/{id}/congestion/history")
+    @ResponseStatus(HttpStatus.OK)
+    public List<CongestionHistoryResponseDto> viewCongestionHistory(@PathVariable("id") Long id, @RequestParam(value = "range", defaultValue = "24h") String range) {
+        List<CongestionHistoryResponseDto> congestionHistoryResponseDtos = congestionHistoryService.viewHistory(id, range);
+        log.info(VIEW_CONGESTION_HISTORY_SUCCESS_MESSAGE);
+        return congestionHistoryResponseDtos;
+    }
+}
@@ -2,12 +2,19 @@ package com.minionz.backend.shop.controller;
 
 import com.minionz.backend.common.domain.Message;
 import com.minionz.backend.shop.controller.dto.*;
+import com.minionz.backend.shop.domain.SearchMode;
+import com.minionz.backend.shop.domain.ShopFields;
+import com.minionz.backend.shop.service.ShopExportService;
 import com.minionz.backend.shop.service.ShopService;
+import com.minionz.backend.shop.service.ShopVersion;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
+import javax.servlet.http.HttpServletResponse;
 import java.util.List;
 
 @Slf4j
@@ -19,9 +26,16 @@ public class ShopController {
     private static final String SHOP_SAVE_SUCCESS_MESSAGE = "매장 등록 성공";
     private static final String VIEW_SHOP_LIST_SUCCESS_MESSAGE = "매장 리스트 조회 성공";
     private static final String SEARCH_SHOP_LIST_SUCCESS_MESSAGE = "매장 검색 성공";
+    private static final String AUTOCOMPLETE_SHOP_SUCCESS_MESSAGE = "매장 자동완성 성공";
     private static final String VIEW_SHOP_TABLE_LIST_SUCCESS_MESSAGE = "매장 테이블 리스트 조회 성공";
+    private static final String VIEW_SHOP_TABLE_CHANGES_SUCCESS_MESSAGE = "매장 테이블 변경분 조회 성공";
+    private static final String VIEW_SHOP_CARDS_SUCCESS_MESSAGE = "매장 카드 조회 성공";
+    private static final String VIEW_SEARCH_CACHE_STATS_SUCCESS_MESSAGE = "검색 캐시 통계 조회 성공";
+
+    private static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
 
     private final ShopService shopService;
+    private final ShopExportService shopExportService;
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
@@ -47,48 +61,135 @@ public class ShopController {
 
     @GetMapping
     @ResponseStatus(HttpStatus.OK)
-    public List<ShopResponseDto> viewAll() {
-        List<ShopResponseDto> shopResponseDtos = shopService.viewAll();
+    public ShopPageResponseDto viewAll(@RequestParam(value = "cursor", required = false) String cursor,
+                                       @RequestParam(value = "limit", defaultValue = "20") int limit,
+                                       @RequestParam(value = "fields", required = false) String fields) {
+        ShopPageResponseDto shopPageResponseDto = shopService.viewAll(cursor, limit, ShopFields.of(fields, ShopResponseDto.FIELDS));
         log.info(VIEW_SHOP_LIST_SUCCESS_MESSAGE);
-        return shopResponseDtos;
+        return shopPageResponseDto;
+    }
+
+    @PostMapping("/cards")
+    @ResponseStatus(HttpStatus.OK)
+    public List<CommonShopResponseDto> viewCards(@RequestBody ShopCardsRequestDto shopCardsRequestDto) {
+        List<CommonShopResponseDto> shopResponseDtoList = shopService.viewCards(shopCardsRequestDto.getShopIds());
+        log.info(VIEW_SHOP_CARDS_SUCCESS_MESSAGE);
+        return shopResponseDtoList;
+    }
+
+    /**
+     *  한 줄에 매장 하나씩 쓰는 NDJSON, 응답은 요청 스레드가 아닌 비동기 스레드에서 써 내려감
+     *  기본 비동기 제한 시간에 잘리지 않도록 내보내기용 제한 시간을 둔 WebAsyncTask 로 씀
+     */
+    @GetMapping("/export")
+    public WebAsyncTask<Void> export(HttpServletResponse response) {
+        response.setContentType(APPLICATION_NDJSON_VALUE);
+        return new WebAsyncTask<>(shopExportService.getTimeoutMillis(), () -> {
+            shopExportService.export(response.getOutputStream());
+            return null;
+        });
     }
 
     @GetMapping("/search")
     @ResponseStatus(HttpStatus.OK)
-    public List<CommonShopResponseDto> searchShop(@RequestParam("keyword") String keyword) {
-        List<CommonShopResponseDto> shopResponseDtoList = shopService.searchShop(keyword);
+    public List<CommonShopResponseDto> searchShop(@RequestParam("keyword") String keyword,
+                                                  @RequestParam(value = "mode", required = false) String mode,
+                                                  @RequestParam(value = "fuzzy", defaultValue = "false") boolean fuzzy,
+                                                  @RequestParam(value = "fields", required = false) String fields) {
+        List<CommonShopResponseDto> shopResponseDtoList = shopService.searchShop(keyword, SearchMode.of(mode, fuzzy),
+                ShopFields.of(fields, CommonShopResponseDto.FIELDS));
         log.info(SEARCH_SHOP_LIST_SUCCESS_MESSAGE);
         return shopResponseDtoList;
     }
 
+    @GetMapping("/autocomplete")
+    @ResponseStatus(HttpStatus.OK)
+    public List<AutocompleteResponseDto> autocomplete(@RequestParam("prefix") String prefix,
+                                                      @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        List<AutocompleteResponseDto> autocompleteResponseDtoList = shopService.autocomplete(prefix, limit);
+        log.info(AUTOCOMPLETE_SHOP_SUCCESS_MESSAGE);
+        return autocompleteResponseDtoList;
+    }
+
     @GetMapping("/search/region")
     @ResponseStatus(HttpStatus.OK)
     public List<CommonShopResponseDto> searchRegionShop(@RequestParam("keyword") String keyword,
-                                                        @RequestParam("region") String region) {
-        List<CommonShopResponseDto> shopResponseDtoList = shopService.searchShopByRegion(keyword, region);
+                                                        @RequestParam("region") String region,
+                                                        @RequestParam(value = "mode", required = false) String mode,
+                                                        @RequestParam(value = "fuzzy", defaultValue = "false") boolean fuzzy,
+                                                        @RequestParam(value = "fields", required = false) String fields) {
+        List<CommonShopResponseDto> shopResponseDtoList = shopService.searchShopByRegion(keyword, region, SearchMode.of(mode, fuzzy),
+                ShopFields.of(fields, CommonShopResponseDto.FIELDS));
         log.info(SEARCH_SHOP_LIST_SUCCESS_MESSAGE);
         return shopResponseDtoList;
     }
 
+    @GetMapping("/search/cache/stats")
+    @ResponseStatus(HttpStatus.OK)
+    public SearchCacheStatsResponseDto viewSearchCacheStats() {
+        SearchCacheStatsResponseDto searchCacheStatsResponseDto = shopService.searchCacheStats();
+        log.info(VIEW_SEARCH_CACHE_STATS_SUCCESS_MESSAGE);
+        return searchCacheStatsResponseDto;
+    }
+
+    /**
+     *  매장 변경 이벤트 없이 DB 에 직접 대량 적재한 지역의 검색 인덱스를 다시 만듦
+     */
+    @PostMapping("/search/index")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void rebuildSearchIndex(@RequestBody ShopSearchIndexRequestDto shopSearchIndexRequestDto) {
+        Message message = shopService.rebuildSearchIndex(shopSearchIndexRequestDto.getCities());
+        log.info(message.getMessage());
+    }
+
     @GetMapping("/near")
     @ResponseStatus(HttpStatus.OK)
-    public List<CommonShopResponseDto> viewNearShop(@RequestParam("latitude") double latitude, @RequestParam("longitude") double longitude) {
-        List<CommonShopResponseDto> shopResponseDtoList = shopService.nearShop(latitude, longitude);
+    public List<CommonShopResponseDto> viewNearShop(@RequestParam("latitude") double latitude, @RequestParam("longitude") double longitude,
+                                                    @RequestParam(value = "fields", required = false) String fields) {
+        List<CommonShopResponseDto> shopResponseDtoList = shopService.nearShop(latitude, longitude,
+                ShopFields.of(fields, CommonShopResponseDto.FIELDS));
         log.info(VIEW_SHOP_LIST_SUCCESS_MESSAGE);
         return shopResponseDtoList;
     }
 
-    @GetMapping("/{id}")
+    @GetMapping("/nearest")
     @ResponseStatus(HttpStatus.OK)
-    public List<ShopTableResponseDto> viewTables(@PathVariable("id") Long id) {
+    public List<NearestShopResponseDto> viewNearestShop(@RequestParam("lat") double latitude,
+                                                        @RequestParam("lng") double longitude,
+                                                        @RequestParam(value = "k", defaultValue = "10") int limit,
+                                                        @RequestParam(value = "maxRadius", defaultValue = "1") double maxRadius) {
+        List<NearestShopResponseDto> nearestShopResponseDtoList = shopService.nearestShops(latitude, longitude, limit, maxRadius);
+        log.info(VIEW_SHOP_LIST_SUCCESS_MESSAGE);
+        return nearestShopResponseDtoList;
+    }
+
+    /**
+     *  버전을 먼저 읽고 목록을 만들어야 변경과 겹쳐도 새 목록에 이전 ETag 가 붙는 쪽으로만 어긋남
+     *  304 는 @ResponseStatus 가 덮어쓰지 않도록 상태 코드를 지정하지 않음
+     */
+    @GetMapping("/{id}")
+    public List<ShopTableResponseDto> viewTables(@PathVariable("id") Long id, WebRequest webRequest) {
+        ShopVersion shopVersion = shopService.versionOf(id);
+        if (webRequest.checkNotModified(shopVersion.getETag())) {
+            return null;
+        }
         List<ShopTableResponseDto> shopTableResponseDtoList = shopService.viewTables(id);
         log.info(VIEW_SHOP_TABLE_LIST_SUCCESS_MESSAGE);
         return shopTableResponseDtoList;
     }
 
+    @GetMapping("/{id}/tables/changes")
+    @ResponseStatus(HttpStatus.OK)
+    public ShopTableChangesResponseDto viewTableChanges(@PathVariable("id") Long id, @RequestParam("since") long since) {
+        ShopTableChangesResponseDto shopTableChangesResponseDto = shopService.viewTableChanges(id, since);
+        log.info(VIEW_SHOP_TABLE_CHANGES_SUCCESS_MESSAGE);
+        return shopTableChangesResponseDto;
+    }
+
     @GetMapping("/detail/{shopId}/{userId}")
     @ResponseStatus(HttpStatus.OK)
-    public ShopDetailResponseDto detailShop(@PathVariable("userId") Long userId, @PathVariable("shopId") Long shopId) {
-        return shopService.viewDetail(userId, shopId);
+    public ShopDetailResponseDto detailShop(@PathVariable("userId") Long userId, @PathVariable("shopId") Long shopId,
+                                            @RequestParam(value = "fields", required = false) String fields) {
+        return shopService.viewDetail(userId, shopId, ShopFields.of(fields, ShopDetailResponseDto.FIELDS));
     }
 }
@@ -0,0 +1,81 @@
+package com.minionz.backend.shop.controller;
+
+import com.minionz.backend.shop.controller.dto.EncodedShopDetailResponseDto;
+import com.minionz.backend.shop.domain.CongestionStatus;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ *  매장 상세 JSON 을 미리 만든 조각 뒤에 혼잡도 / 인원 / 즐겨찾기만 이어 써서 응답
+ *  Jackson 이 쓰는 것과 같은 바이트가 나오도록 필드 순서와 형식을 ShopDetailResponseDto 에 맞춤
+ *  Jackson JSON 변환기 앞에 두어야 하고, 조각이 없는 ShopDetailResponseDto 와 다른 형식은 기존 변환기가 처리
+ */
+public class ShopDetailJsonHttpMessageConverter extends AbstractHttpMessageConverter<EncodedShopDetailResponseDto> {
+
+    private static final byte[] CONGESTION_STATUS = bytes(",\"congestionStatus\":\"");
+    private static final byte[] USE_USER = bytes("\",\"useUser\":");
+    private static final byte[] MAX_USER = bytes(",\"maxUser\":");
+    private static final byte[] BOOKMARK_TRUE = bytes(",\"bookMark\":true}");
+    private static final byte[] BOOKMARK_FALSE = bytes(",\"bookMark\":false}");
+    private static final byte[][] CONGESTION_STATUS_NAMES = new byte[CongestionStatus.values().length][];
+
+    static {
+        for (CongestionStatus congestionStatus : CongestionStatus.values()) {
+            CONGESTION_STATUS_NAMES[congestionStatus.ordinal()] = bytes(congestionStatus.name());
+        }
+    }
+
+    public ShopDetailJsonHttpMessageConverter() {
+        super(MediaType.APPLICATION_JSON);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return EncodedShopDetailResponseDto.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected EncodedShopDetailResponseDto readInternal(Class<? extends EncodedShopDetailResponseDto> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("매장 상세 요청 본문은 지원하지 않습니다.", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(EncodedShopDetailResponseDto shopDetail, HttpOutputMessage outputMessage) throws IOException {
+        OutputStream body = outputMessage.getBody();
+        body.write(shopDetail.getFragment().getJsonPrefix());
+        body.write(CONGESTION_STATUS);
+        body.write(CONGESTION_STATUS_NAMES[shopDetail.getCongestionStatus().ordinal()]);
+        body.write(USE_USER);
+        writeInt(body, shopDetail.getUseUser());
+        body.write(MAX_USER);
+        writeInt(body, shopDetail.getMaxUser());
+        body.write(shopDetail.getBookMark() ? BOOKMARK_TRUE : BOOKMARK_FALSE);
+    }
+
+    private static void writeInt(OutputStream body, int value) throws IOException {
+        if (value < 0) {
+            body.write(bytes(Integer.toString(value)));
+            return;
+        }
+        if (value >= 10) {
+            writeInt(body, value / 10);
+        }
+        body.write('0' + value % 10);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
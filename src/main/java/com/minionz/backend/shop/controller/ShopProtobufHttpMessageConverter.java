@@ -0,0 +1,221 @@
+package com.minionz.backend.shop.controller;
+
+import com.google.protobuf.MessageLite;
+import com.minionz.backend.common.domain.Message;
+import com.minionz.backend.common.dto.AddressDto;
+import com.minionz.backend.proto.Address;
+import com.minionz.backend.proto.ShopCard;
+import com.minionz.backend.proto.ShopCardList;
+import com.minionz.backend.proto.TableChanges;
+import com.minionz.backend.proto.TableState;
+import com.minionz.backend.proto.TableStateList;
+import com.minionz.backend.shop.controller.dto.CommonShopResponseDto;
+import com.minionz.backend.shop.controller.dto.ShopTableChangesResponseDto;
+import com.minionz.backend.shop.controller.dto.ShopTableResponseDto;
+import com.minionz.backend.shop.domain.CongestionStatus;
+import com.minionz.backend.shop.domain.UseStatus;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ *  Accept: application/x-protobuf 요청에 매장 카드 목록 / 테이블 목록 / 테이블 변경분 / 메시지를 protobuf 로 응답
+ *  static/proto/qrna.proto 로 생성한 메시지(com.minionz.backend.proto)에 DTO 를 옮겨 담아 씀
+ *  enum 은 이름으로 하나씩 옮기므로 도메인 enum 에 값을 추가하면 스키마와 여기에도 추가해야 함
+ */
+public class ShopProtobufHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public static final MediaType APPLICATION_PROTOBUF = new MediaType("application", "x-protobuf");
+
+    private enum Kind {
+        SHOP_CARDS, TABLES, TABLE_CHANGES, MESSAGE
+    }
+
+    public ShopProtobufHttpMessageConverter() {
+        super(APPLICATION_PROTOBUF);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return kindOf(clazz) != null;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return canWrite(mediaType) && kindOf(type != null ? type : clazz) != null;
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("protobuf 요청은 지원하지 않습니다.", inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("protobuf 요청은 지원하지 않습니다.", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+        Kind kind = kindOf(type != null ? type : object.getClass());
+        if (kind == null) {
+            throw new HttpMessageNotWritableException("protobuf 로 응답할 수 없는 타입입니다. " + type);
+        }
+        toProto(kind, object).writeTo(outputMessage.getBody());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static MessageLite toProto(Kind kind, Object object) {
+        switch (kind) {
+            case SHOP_CARDS:
+                ShopCardList.Builder shopCards = ShopCardList.newBuilder();
+                for (CommonShopResponseDto shop : (List<CommonShopResponseDto>) object) {
+                    shopCards.addShops(toShopCard(shop));
+                }
+                return shopCards.build();
+            case TABLES:
+                TableStateList.Builder tables = TableStateList.newBuilder();
+                for (ShopTableResponseDto table : (List<ShopTableResponseDto>) object) {
+                    tables.addTables(toTableState(table));
+                }
+                return tables.build();
+            case TABLE_CHANGES:
+                return toTableChanges((ShopTableChangesResponseDto) object);
+            default:
+                return toMessage((Message) object);
+        }
+    }
+
+    private static Kind kindOf(Type type) {
+        ResolvableType resolvableType = ResolvableType.forType(type);
+        Class<?> rawClass = resolvableType.resolve();
+        if (rawClass == null) {
+            return null;
+        }
+        if (List.class.isAssignableFrom(rawClass)) {
+            Class<?> elementClass = resolvableType.asCollection().resolveGeneric(0);
+            if (elementClass == CommonShopResponseDto.class) {
+                return Kind.SHOP_CARDS;
+            }
+            if (elementClass == ShopTableResponseDto.class) {
+                return Kind.TABLES;
+            }
+            return null;
+        }
+        if (rawClass == ShopTableChangesResponseDto.class) {
+            return Kind.TABLE_CHANGES;
+        }
+        if (rawClass == Message.class) {
+            return Kind.MESSAGE;
+        }
+        return null;
+    }
+
+    private static TableChanges toTableChanges(ShopTableChangesResponseDto changes) {
+        TableChanges.Builder tableChanges = TableChanges.newBuilder()
+                .setVersion(changes.getVersion())
+                .setFullResync(changes.isFullResync());
+        for (ShopTableResponseDto table : changes.getTables()) {
+            tableChanges.addTables(toTableState(table));
+        }
+        return tableChanges.build();
+    }
+
+    private static ShopCard toShopCard(CommonShopResponseDto shop) {
+        ShopCard.Builder shopCard = ShopCard.newBuilder();
+        if (shop.getId() != null) {
+            shopCard.setId(shop.getId());
+        }
+        if (shop.getName() != null) {
+            shopCard.setName(shop.getName());
+        }
+        if (shop.getAddress() != null) {
+            shopCard.setAddress(toAddress(shop.getAddress()));
+        }
+        if (shop.getCongestionStatus() != null) {
+            shopCard.setCongestionStatus(toCongestionStatus(shop.getCongestionStatus()));
+        }
+        if (shop.getNumberOfTables() != null) {
+            shopCard.setNumberOfTables(shop.getNumberOfTables());
+        }
+        if (shop.getUseTables() != null) {
+            shopCard.setUseTables(shop.getUseTables());
+        }
+        return shopCard.build();
+    }
+
+    private static Address toAddress(AddressDto addressDto) {
+        Address.Builder address = Address.newBuilder();
+        if (addressDto.getStreet() != null) {
+            address.setStreet(addressDto.getStreet());
+        }
+        if (addressDto.getCity() != null) {
+            address.setCity(addressDto.getCity());
+        }
+        return address.build();
+    }
+
+    private static TableState toTableState(ShopTableResponseDto table) {
+        TableState.Builder tableState = TableState.newBuilder()
+                .setTableNumber(table.getTableNumber())
+                .setMaxUser(table.getMaxUser())
+                .setCountUser(table.getCountUser());
+        if (table.getTableId() != null) {
+            tableState.setTableId(table.getTableId());
+        }
+        if (table.getUseStatus() != null) {
+            tableState.setUseStatus(toUseStatus(table.getUseStatus()));
+        }
+        return tableState.build();
+    }
+
+    private static com.minionz.backend.proto.Message toMessage(Message message) {
+        com.minionz.backend.proto.Message.Builder builder = com.minionz.backend.proto.Message.newBuilder();
+        if (message.getMessage() != null) {
+            builder.setMessage(message.getMessage());
+        }
+        return builder.build();
+    }
+
+    private static com.minionz.backend.proto.CongestionStatus toCongestionStatus(CongestionStatus congestionStatus) {
+        switch (congestionStatus) {
+            case SMOOTH:
+                return com.minionz.backend.proto.CongestionStatus.SMOOTH;
+            case NORMAL:
+                return com.minionz.backend.proto.CongestionStatus.NORMAL;
+            case CONGESTED:
+                return com.minionz.backend.proto.CongestionStatus.CONGESTED;
+            default:
+                throw new HttpMessageNotWritableException("protobuf 스키마에 없는 혼잡도입니다. " + congestionStatus);
+        }
+    }
+
+    private static com.minionz.backend.proto.UseStatus toUseStatus(UseStatus useStatus) {
+        switch (useStatus) {
+            case USING:
+                return com.minionz.backend.proto.UseStatus.USING;
+            case EMPTY:
+                return com.minionz.backend.proto.UseStatus.EMPTY;
+            default:
+                throw new HttpMessageNotWritableException("protobuf 스키마에 없는 사용 상태입니다. " + useStatus);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.minionz.backend.shop.controller.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class AutocompleteResponseDto {
+
+    private Long id;
+    private String name;
+
+    public AutocompleteResponseDto(Long id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+}
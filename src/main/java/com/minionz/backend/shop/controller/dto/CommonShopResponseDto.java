@@ -1,21 +1,32 @@
 package com.minionz.backend.shop.controller.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.minionz.backend.common.dto.AddressDto;
 import com.minionz.backend.shop.domain.CongestionStatus;
+import com.minionz.backend.shop.domain.OccupancySnapshot;
 import com.minionz.backend.shop.domain.Shop;
+import com.minionz.backend.shop.domain.ShopFields;
+import com.minionz.backend.shop.domain.ShopSearchEntry;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.Arrays;
+import java.util.List;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
 @Getter
 @NoArgsConstructor
 public class CommonShopResponseDto {
 
+    public static final List<String> FIELDS = Arrays.asList("id", "name", "address", "congestionStatus", "numberOfTables", "useTables");
+    public static final String[] OCCUPANCY_FIELDS = {"congestionStatus", "numberOfTables", "useTables"};
+
     private Long id;
     private String name;
     private AddressDto address;
     private CongestionStatus congestionStatus;
-    private int numberOfTables;
-    private int useTables;
+    private Integer numberOfTables;
+    private Integer useTables;
 
     public CommonShopResponseDto(Shop shop) {
         this.id = shop.getId();
@@ -25,4 +36,27 @@ public class CommonShopResponseDto {
         this.numberOfTables = shop.getNumberOfTables();
         this.useTables = shop.getNumberOfUsingTables();
     }
+
+    public CommonShopResponseDto(ShopSearchEntry shopSearchEntry, OccupancySnapshot occupancySnapshot) {
+        this.id = shopSearchEntry.getShopId();
+        this.name = shopSearchEntry.getName();
+        this.address = new AddressDto(shopSearchEntry.getStreet(), shopSearchEntry.getCity());
+        this.congestionStatus = occupancySnapshot.getCongestionStatus();
+        this.numberOfTables = occupancySnapshot.getNumberOfTables();
+        this.useTables = occupancySnapshot.getNumberOfUsingTables();
+    }
+
+    /**
+     *  occupancySnapshot 은 OCCUPANCY_FIELDS 중 하나라도 요청했을 때만 필요
+     */
+    public CommonShopResponseDto(ShopSearchEntry shopSearchEntry, OccupancySnapshot occupancySnapshot, ShopFields fields) {
+        this.id = fields.includes("id") ? shopSearchEntry.getShopId() : null;
+        this.name = fields.includes("name") ? shopSearchEntry.getName() : null;
+        this.address = fields.includes("address") ? new AddressDto(shopSearchEntry.getStreet(), shopSearchEntry.getCity()) : null;
+        if (occupancySnapshot != null) {
+            this.congestionStatus = fields.includes("congestionStatus") ? occupancySnapshot.getCongestionStatus() : null;
+            this.numberOfTables = fields.includes("numberOfTables") ? occupancySnapshot.getNumberOfTables() : null;
+            this.useTables = fields.includes("useTables") ? occupancySnapshot.getNumberOfUsingTables() : null;
+        }
+    }
 }
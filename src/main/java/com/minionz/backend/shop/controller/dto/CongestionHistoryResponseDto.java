@@ -0,0 +1,29 @@
+package com.minionz.backend.shop.controller.dto;
+
+import com.minionz.backend.shop.domain.CongestionRollup;
+import com.minionz.backend.shop.domain.CongestionStatus;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+public class CongestionHistoryResponseDto {
+
+    private LocalDateTime time;
+    private CongestionStatus congestionStatus;
+    private int useTables;
+    private int useUser;
+
+    public CongestionHistoryResponseDto(LocalDateTime time, CongestionStatus congestionStatus, int useTables, int useUser) {
+        this.time = time;
+        this.congestionStatus = congestionStatus;
+        this.useTables = useTables;
+        this.useUser = useUser;
+    }
+
+    public CongestionHistoryResponseDto(CongestionRollup congestionRollup) {
+        this(congestionRollup.getStartedAt(), congestionRollup.getPeakCongestionStatus(), congestionRollup.getMaxUseTables(), congestionRollup.getMaxUseUser());
+    }
+}
@@ -0,0 +1,30 @@
+package com.minionz.backend.shop.controller.dto;
+
+import com.minionz.backend.shop.domain.CongestionStatus;
+import com.minionz.backend.shop.domain.OccupancySnapshot;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class CongestionResponseDto {
+
+    private Long shopId;
+    private CongestionStatus congestionStatus;
+    private int numberOfTables;
+    private int useTables;
+
+    public CongestionResponseDto(OccupancySnapshot occupancySnapshot) {
+        this.shopId = occupancySnapshot.getShopId();
+        this.congestionStatus = occupancySnapshot.getCongestionStatus();
+        this.numberOfTables = occupancySnapshot.getNumberOfTables();
+        this.useTables = occupancySnapshot.getNumberOfUsingTables();
+    }
+
+    public boolean isSameCongestion(CongestionResponseDto other) {
+        return other != null
+                && congestionStatus == other.congestionStatus
+                && numberOfTables == other.numberOfTables
+                && useTables == other.useTables;
+    }
+}
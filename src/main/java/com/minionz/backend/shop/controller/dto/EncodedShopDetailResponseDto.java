@@ -0,0 +1,21 @@
+package com.minionz.backend.shop.controller.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.minionz.backend.shop.domain.OccupancySnapshot;
+import lombok.Getter;
+
+/**
+ *  미리 만든 ShopDetailFragment 를 들고 있는 매장 상세 응답
+ *  JSON 은 ShopDetailJsonHttpMessageConverter 가 조각 뒤에 혼잡도 / 인원 / 즐겨찾기만 붙여 쓰고, 다른 형식은 일반 DTO 처럼 직렬화
+ */
+@Getter
+public class EncodedShopDetailResponseDto extends ShopDetailResponseDto {
+
+    @JsonIgnore
+    private final ShopDetailFragment fragment;
+
+    public EncodedShopDetailResponseDto(ShopDetailFragment fragment, OccupancySnapshot occupancySnapshot, boolean bookMark) {
+        super(fragment.getStaticPart(), occupancySnapshot, bookMark);
+        this.fragment = fragment;
+    }
+}
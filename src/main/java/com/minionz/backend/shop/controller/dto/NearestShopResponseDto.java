@@ -0,0 +1,31 @@
+package com.minionz.backend.shop.controller.dto;
+
+import com.minionz.backend.common.dto.AddressDto;
+import com.minionz.backend.shop.domain.CongestionStatus;
+import com.minionz.backend.shop.domain.OccupancySnapshot;
+import com.minionz.backend.shop.domain.ShopSearchEntry;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class NearestShopResponseDto {
+
+    private Long id;
+    private String name;
+    private AddressDto address;
+    private CongestionStatus congestionStatus;
+    private int numberOfTables;
+    private int useTables;
+    private double distance;
+
+    public NearestShopResponseDto(ShopSearchEntry shopSearchEntry, OccupancySnapshot occupancySnapshot, double distance) {
+        this.id = shopSearchEntry.getShopId();
+        this.name = shopSearchEntry.getName();
+        this.address = new AddressDto(shopSearchEntry.getStreet(), shopSearchEntry.getCity());
+        this.congestionStatus = occupancySnapshot.getCongestionStatus();
+        this.numberOfTables = occupancySnapshot.getNumberOfTables();
+        this.useTables = occupancySnapshot.getNumberOfUsingTables();
+        this.distance = distance;
+    }
+}
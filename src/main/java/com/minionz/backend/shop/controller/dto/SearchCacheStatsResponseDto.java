@@ -0,0 +1,23 @@
+package com.minionz.backend.shop.controller.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class SearchCacheStatsResponseDto {
+
+    private long hitCount;
+    private long missCount;
+    private double hitRate;
+    private long evictionCount;
+    private long size;
+
+    public SearchCacheStatsResponseDto(long hitCount, long missCount, double hitRate, long evictionCount, long size) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.hitRate = hitRate;
+        this.evictionCount = evictionCount;
+        this.size = size;
+    }
+}
@@ -0,0 +1,17 @@
+package com.minionz.backend.shop.controller.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class ShopCardsRequestDto {
+
+    private List<Long> shopIds;
+
+    public ShopCardsRequestDto(List<Long> shopIds) {
+        this.shopIds = shopIds;
+    }
+}
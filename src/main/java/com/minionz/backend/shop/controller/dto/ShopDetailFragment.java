@@ -0,0 +1,19 @@
+package com.minionz.backend.shop.controller.dto;
+
+import lombok.Getter;
+
+/**
+ *  매장 상세 중 매장이 수정될 때만 바뀌는 부분(이름, 주소, 전화번호, 테이블 구성)과 그 JSON
+ *  jsonPrefix 는 닫는 중괄호를 뺀 {"name":...,"tableInfoList":[...] 이고, 주소가 항상 있어 필드가 하나 이상 들어 있음
+ */
+@Getter
+public class ShopDetailFragment {
+
+    private final ShopDetailResponseDto staticPart;
+    private final byte[] jsonPrefix;
+
+    public ShopDetailFragment(ShopDetailResponseDto staticPart, byte[] jsonPrefix) {
+        this.staticPart = staticPart;
+        this.jsonPrefix = jsonPrefix;
+    }
+}
@@ -1,26 +1,37 @@
 package com.minionz.backend.shop.controller.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.minionz.backend.common.dto.AddressDto;
 import com.minionz.backend.shop.domain.CongestionStatus;
+import com.minionz.backend.shop.domain.OccupancySnapshot;
 import com.minionz.backend.shop.domain.Shop;
+import com.minionz.backend.shop.domain.ShopFields;
 import com.minionz.backend.user.domain.User;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.Arrays;
 import java.util.List;
 
+@JsonInclude(JsonInclude.Include.NON_NULL)
 @NoArgsConstructor
 @Getter
 public class ShopDetailResponseDto {
 
+    public static final List<String> FIELDS = Arrays.asList("name", "address", "telNumber", "tableInfoList",
+            "congestionStatus", "useUser", "maxUser", "bookMark");
+    public static final String TABLE_INFO_FIELD = "tableInfoList";
+    public static final String BOOKMARK_FIELD = "bookMark";
+    public static final String[] OCCUPANCY_FIELDS = {"congestionStatus", "useUser", "maxUser"};
+
     private String name;
     private AddressDto address;
     private String telNumber;
     private List<ShopTableCountResponseDto> tableInfoList;
     private CongestionStatus congestionStatus;
-    private int useUser;
-    private int maxUser;
-    private boolean bookMark;
+    private Integer useUser;
+    private Integer maxUser;
+    private Boolean bookMark;
 
     public ShopDetailResponseDto(Shop shop, List<ShopTableCountResponseDto> tableInfoList, User user) {
         this.name = shop.getName();
@@ -32,4 +43,32 @@ public class ShopDetailResponseDto {
         this.congestionStatus = shop.getCongestionStatus();
         this.bookMark = user.checkBookmark(shop.getId());
     }
+
+    protected ShopDetailResponseDto(ShopDetailResponseDto staticPart, OccupancySnapshot occupancySnapshot, boolean bookMark) {
+        this.name = staticPart.name;
+        this.address = staticPart.address;
+        this.telNumber = staticPart.telNumber;
+        this.tableInfoList = staticPart.tableInfoList;
+        this.congestionStatus = occupancySnapshot.getCongestionStatus();
+        this.useUser = occupancySnapshot.getUseUser();
+        this.maxUser = occupancySnapshot.getMaxUser();
+        this.bookMark = bookMark;
+    }
+
+    /**
+     *  tableInfoList, bookMark, occupancySnapshot 은 요청한 필드에 필요할 때만 만들어 넘기고 나머지는 null
+     */
+    public ShopDetailResponseDto(Shop shop, List<ShopTableCountResponseDto> tableInfoList, Boolean bookMark,
+                                 OccupancySnapshot occupancySnapshot, ShopFields fields) {
+        this.name = fields.includes("name") ? shop.getName() : null;
+        this.address = fields.includes("address") ? new AddressDto(shop.getAddress()) : null;
+        this.telNumber = fields.includes("telNumber") ? shop.getTelNumber() : null;
+        this.tableInfoList = tableInfoList;
+        if (occupancySnapshot != null) {
+            this.useUser = fields.includes("useUser") ? occupancySnapshot.getUseUser() : null;
+            this.maxUser = fields.includes("maxUser") ? occupancySnapshot.getMaxUser() : null;
+            this.congestionStatus = fields.includes("congestionStatus") ? occupancySnapshot.getCongestionStatus() : null;
+        }
+        this.bookMark = bookMark;
+    }
 }
@@ -0,0 +1,38 @@
+package com.minionz.backend.shop.controller.dto;
+
+import com.minionz.backend.shop.domain.CongestionStatus;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class ShopExportResponseDto {
+
+    private Long id;
+    private String name;
+    private String telNumber;
+    private String zipcode;
+    private String street;
+    private String city;
+    private double latitude;
+    private double longitude;
+    private int numberOfTables;
+    private int maxUser;
+    private CongestionStatus congestionStatus;
+
+    public ShopExportResponseDto(Long id, String name, String telNumber, String zipcode, String street, String city,
+                                 double latitude, double longitude, int numberOfTables, int maxUser,
+                                 CongestionStatus congestionStatus) {
+        this.id = id;
+        this.name = name;
+        this.telNumber = telNumber;
+        this.zipcode = zipcode;
+        this.street = street;
+        this.city = city;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.numberOfTables = numberOfTables;
+        this.maxUser = maxUser;
+        this.congestionStatus = congestionStatus;
+    }
+}
@@ -0,0 +1,19 @@
+package com.minionz.backend.shop.controller.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class ShopPageResponseDto {
+
+    private List<ShopResponseDto> shops;
+    private String nextCursor;
+
+    public ShopPageResponseDto(List<ShopResponseDto> shops, String nextCursor) {
+        this.shops = shops;
+        this.nextCursor = nextCursor;
+    }
+}
@@ -1,11 +1,18 @@
 package com.minionz.backend.shop.controller.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.minionz.backend.shop.domain.CongestionStatus;
 import lombok.Getter;
 
+import java.util.Arrays;
+import java.util.List;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
 @Getter
 public class ShopResponseDto {
 
+    public static final List<String> FIELDS = Arrays.asList("name", "congestionStatus");
+
     private String name;
     private CongestionStatus congestionStatus;
 
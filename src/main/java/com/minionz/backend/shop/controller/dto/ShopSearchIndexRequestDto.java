@@ -0,0 +1,17 @@
+package com.minionz.backend.shop.controller.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class ShopSearchIndexRequestDto {
+
+    private List<String> cities;
+
+    public ShopSearchIndexRequestDto(List<String> cities) {
+        this.cities = cities;
+    }
+}
@@ -0,0 +1,19 @@
+package com.minionz.backend.shop.controller.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class ShopTableChangesResponseDto {
+
+    private long version;
+    private boolean fullResync;
+    private List<ShopTableResponseDto> tables;
+
+    public ShopTableChangesResponseDto(long version, boolean fullResync, List<ShopTableResponseDto> tables) {
+        this.version = version;
+        this.fullResync = fullResync;
+        this.tables = tables;
+    }
+}
@@ -0,0 +1,47 @@
+package com.minionz.backend.shop.domain;
+
+import com.minionz.backend.common.domain.BaseEntity;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ *  매장 혼잡도의 시간 단위 집계
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AttributeOverride(name = "id", column = @Column(name = "congestion_rollup_id"))
+@Table(indexes = @Index(name = "idx_congestion_rollup_shop_started_at", columnList = "shop_id, started_at"))
+@Entity
+public class CongestionRollup extends BaseEntity {
+
+    @Column(name = "shop_id", nullable = false)
+    private Long shopId;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    private int maxUseTables;
+
+    private double averageUseTables;
+
+    private int maxUseUser;
+
+    @Enumerated(EnumType.STRING)
+    private CongestionStatus peakCongestionStatus;
+
+    @Builder
+    public CongestionRollup(Long id, LocalDateTime createdDate, LocalDateTime modifiedDate, Long shopId, LocalDateTime startedAt, int maxUseTables, double averageUseTables, int maxUseUser, CongestionStatus peakCongestionStatus) {
+        super(id, createdDate, modifiedDate);
+        this.shopId = shopId;
+        this.startedAt = startedAt;
+        this.maxUseTables = maxUseTables;
+        this.averageUseTables = averageUseTables;
+        this.maxUseUser = maxUseUser;
+        this.peakCongestionStatus = peakCongestionStatus;
+    }
+}
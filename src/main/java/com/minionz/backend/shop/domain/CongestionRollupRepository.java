@@ -0,0 +1,11 @@
+package com.minionz.backend.shop.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface CongestionRollupRepository extends JpaRepository<CongestionRollup, Long> {
+
+    List<CongestionRollup> findByShopIdAndStartedAtGreaterThanEqualOrderByStartedAt(Long shopId, LocalDateTime startedAt);
+}
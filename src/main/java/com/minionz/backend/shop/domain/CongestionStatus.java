@@ -13,4 +13,21 @@ public enum CongestionStatus {
 
     private final String status;
     private final String message;
+
+    /**
+     *  테이블이 없는 매장은 비율을 구할 수 없으므로 원활로 봄
+     */
+    public static CongestionStatus of(int numberOfUsingTables, int numberOfTables) {
+        if (numberOfTables == 0) {
+            return SMOOTH;
+        }
+        double ratioOfCongestion = numberOfUsingTables / (double) numberOfTables;
+        if (ratioOfCongestion < 0.3) {
+            return SMOOTH;
+        }
+        if (ratioOfCongestion < 0.7) {
+            return NORMAL;
+        }
+        return CONGESTED;
+    }
 }
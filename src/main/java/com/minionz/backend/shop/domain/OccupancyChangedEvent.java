@@ -0,0 +1,23 @@
+package com.minionz.backend.shop.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class OccupancyChangedEvent {
+
+    private final Long shopId;
+    private final Long tableId;
+    private final int previousCountUser;
+    private final int countUser;
+    private final OccupancySnapshot snapshot;
+
+    public boolean isChanged() {
+        return previousCountUser != countUser;
+    }
+
+    public boolean isUsingTablesChanged() {
+        return (previousCountUser > 0) != (countUser > 0);
+    }
+}
@@ -0,0 +1,23 @@
+package com.minionz.backend.shop.domain;
+
+import lombok.Getter;
+
+@Getter
+public class OccupancySnapshot {
+
+    private final Long shopId;
+    private final int numberOfTables;
+    private final int numberOfUsingTables;
+    private final int useUser;
+    private final int maxUser;
+    private final CongestionStatus congestionStatus;
+
+    public OccupancySnapshot(Long shopId, int numberOfTables, int numberOfUsingTables, int useUser, int maxUser) {
+        this.shopId = shopId;
+        this.numberOfTables = numberOfTables;
+        this.numberOfUsingTables = numberOfUsingTables;
+        this.useUser = useUser;
+        this.maxUser = maxUser;
+        this.congestionStatus = CongestionStatus.of(numberOfUsingTables, numberOfTables);
+    }
+}
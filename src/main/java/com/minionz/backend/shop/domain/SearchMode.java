@@ -0,0 +1,39 @@
+package com.minionz.backend.shop.domain;
+
+import com.minionz.backend.common.exception.BadRequestException;
+
+import java.util.Locale;
+
+public enum SearchMode {
+
+    NAME,
+    CHOSUNG,
+    FUZZY;
+
+    private static final String INVALID_SEARCH_MODE_MESSAGE = "지원하지 않는 검색 방식입니다.";
+
+    public static SearchMode of(String mode) {
+        if (mode == null || mode.isEmpty()) {
+            return NAME;
+        }
+        try {
+            return valueOf(mode.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(INVALID_SEARCH_MODE_MESSAGE);
+        }
+    }
+
+    /**
+     *  fuzzy 는 이름 검색에만 적용 (초성 검색과 함께 쓸 수 없음)
+     */
+    public static SearchMode of(String mode, boolean fuzzy) {
+        SearchMode searchMode = of(mode);
+        if (!fuzzy) {
+            return searchMode;
+        }
+        if (searchMode == CHOSUNG) {
+            throw new BadRequestException(INVALID_SEARCH_MODE_MESSAGE);
+        }
+        return FUZZY;
+    }
+}
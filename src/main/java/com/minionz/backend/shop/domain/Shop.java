@@ -5,7 +5,6 @@ import com.minionz.backend.common.domain.BaseEntity;
 import com.minionz.backend.shop.controller.dto.ShopRequestDto;
 import com.minionz.backend.shop.controller.dto.ShopTableRequestDto;
 import com.minionz.backend.user.domain.Owner;
-import com.minionz.backend.visit.domain.Visit;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -21,6 +20,7 @@ import java.util.stream.Collectors;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AttributeOverride(name = "id", column = @Column(name = "shop_id"))
+@Table(indexes = @Index(name = "idx_shop_geohash", columnList = "geohash"))
 @Entity
 public class Shop extends BaseEntity {
 
@@ -37,10 +37,7 @@ public class Shop extends BaseEntity {
     @JoinColumn(name = "owner_id")
     private Owner owner;
 
-    @OneToMany(mappedBy = "shop", cascade = CascadeType.ALL)
-    private List<Visit> visitList = new ArrayList<>();
-
-    @OneToMany(mappedBy = "shop", cascade = CascadeType.ALL, fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "shop", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<ShopTable> tableList = new ArrayList<>();
 
     @Enumerated(EnumType.STRING)
@@ -50,6 +47,15 @@ public class Shop extends BaseEntity {
     @Column(nullable = false)
     private int numberOfTables;
 
+    @Column(nullable = false)
+    private int numberOfUsingTables;
+
+    @Column(nullable = false)
+    private int useUser;
+
+    @Column(nullable = false)
+    private int maxUser;
+
     @Builder
     public Shop(Long id, LocalDateTime createDate, LocalDateTime lastModifiedDate, String name, Owner owner, Address address, String telNumber, List<ShopTable> tableList) {
         super(id, createDate, lastModifiedDate);
@@ -57,18 +63,32 @@ public class Shop extends BaseEntity {
         this.address = address;
         this.telNumber = telNumber;
         this.tableList = tableList;
+        assignGeohash();
         setOwner(owner);
+        if (tableList != null) {
+            initializeCounters();
+        }
     }
 
     public void update(ShopRequestDto shopRequestDto) {
         this.name = shopRequestDto.getName();
         this.address = shopRequestDto.getAddress();
         this.telNumber = shopRequestDto.getTelNumber();
-        this.tableList = shopRequestDto.getTableList()
+        assignGeohash();
+        this.tableList.clear();
+        this.tableList.addAll(shopRequestDto.getTableList()
                 .stream()
                 .map(ShopTableRequestDto::toEntity)
-                .collect(Collectors.toList());
-        this.numberOfTables = tableList.size();
+                .collect(Collectors.toList()));
+        mapShopWithTable();
+        setTableNumber();
+        initializeCounters();
+    }
+
+    public void assignGeohash() {
+        if (address != null) {
+            address.updateGeohash();
+        }
     }
 
     public void mapShopWithTable() {
@@ -86,30 +106,19 @@ public class Shop extends BaseEntity {
         tableList = shopTableRequestDtos.stream()
                 .map(ShopTableRequestDto::toEntity)
                 .collect(Collectors.toList());
-        numberOfTables = tableList.size();
+        initializeCounters();
     }
 
     public void updateDegreeOfCongestion() {
-        double ratioOfCongestion = getNumberOfUsingTables() / (double) numberOfTables;
-        if (ratioOfCongestion < 0.3) {
-            congestionStatus = CongestionStatus.SMOOTH;
-        } else if (ratioOfCongestion >= 0.3 && ratioOfCongestion < 0.7) {
-            congestionStatus = CongestionStatus.NORMAL;
-        } else {
-            congestionStatus = CongestionStatus.CONGESTED;
-        }
+        congestionStatus = CongestionStatus.of(numberOfUsingTables, numberOfTables);
     }
 
     public int calculateMaxUser() {
-        return tableList.stream()
-                .mapToInt(ShopTable::getMaxUser)
-                .sum();
+        return maxUser;
     }
 
     public int calculateUseUser() {
-        return tableList.stream()
-                .mapToInt(ShopTable::getCountUser)
-                .sum();
+        return useUser;
     }
 
     public List<Integer> makeUniqueMaxUserList() {
@@ -126,10 +135,17 @@ public class Shop extends BaseEntity {
                 .count();
     }
 
-    public int getNumberOfUsingTables() {
-        return (int) tableList.stream()
-                .filter(status -> status.getUseStatus().equals(UseStatus.USING))
+    private void initializeCounters() {
+        numberOfTables = tableList.size();
+        numberOfUsingTables = (int) tableList.stream()
+                .filter(table -> table.getUseStatus() == UseStatus.USING)
                 .count();
+        useUser = tableList.stream()
+                .mapToInt(ShopTable::getCountUser)
+                .sum();
+        maxUser = tableList.stream()
+                .mapToInt(ShopTable::getMaxUser)
+                .sum();
     }
 
     private void setOwner(Owner owner) {
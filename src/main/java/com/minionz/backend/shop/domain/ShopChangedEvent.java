@@ -0,0 +1,34 @@
+package com.minionz.backend.shop.domain;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ShopChangedEvent {
+
+    private final Long shopId;
+    private final Shop shop;
+    private final ChangeType changeType;
+
+    public static ShopChangedEvent saved(Shop shop) {
+        return new ShopChangedEvent(shop.getId(), shop, ChangeType.SAVED);
+    }
+
+    public static ShopChangedEvent updated(Shop shop) {
+        return new ShopChangedEvent(shop.getId(), shop, ChangeType.UPDATED);
+    }
+
+    public static ShopChangedEvent deleted(Shop shop) {
+        return new ShopChangedEvent(shop.getId(), shop, ChangeType.DELETED);
+    }
+
+    public boolean isDeleted() {
+        return changeType == ChangeType.DELETED;
+    }
+
+    public enum ChangeType {
+        SAVED, UPDATED, DELETED
+    }
+}
@@ -0,0 +1,15 @@
+package com.minionz.backend.shop.domain;
+
+import lombok.Getter;
+
+@Getter
+public class ShopDistance {
+
+    private final Long shopId;
+    private final double distanceKm;
+
+    public ShopDistance(Long shopId, double distanceKm) {
+        this.shopId = shopId;
+        this.distanceKm = distanceKm;
+    }
+}
@@ -0,0 +1,57 @@
+package com.minionz.backend.shop.domain;
+
+import com.minionz.backend.common.exception.BadRequestException;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ *  응답에 담을 필드 (fields=name,congestionStatus), 비어 있으면 전체
+ *  요청하지 않은 필드는 계산 / 조회 없이 null 로 두고 응답에서 빠짐
+ */
+public class ShopFields {
+
+    public static final ShopFields ALL = new ShopFields(null);
+
+    private static final String INVALID_FIELD_MESSAGE = "지원하지 않는 필드입니다.";
+    private static final String FIELD_DELIMITER = ",";
+
+    private final Set<String> fields;
+
+    private ShopFields(Set<String> fields) {
+        this.fields = fields;
+    }
+
+    public static ShopFields of(String fields, Collection<String> supportedFields) {
+        if (fields == null || fields.trim().isEmpty()) {
+            return ALL;
+        }
+        Set<String> requestedFields = new LinkedHashSet<>();
+        for (String field : fields.split(FIELD_DELIMITER)) {
+            String trimmedField = field.trim();
+            if (trimmedField.isEmpty()) {
+                continue;
+            }
+            if (!supportedFields.contains(trimmedField)) {
+                throw new BadRequestException(INVALID_FIELD_MESSAGE);
+            }
+            requestedFields.add(trimmedField);
+        }
+        return requestedFields.isEmpty() ? ALL : new ShopFields(Collections.unmodifiableSet(requestedFields));
+    }
+
+    public boolean includes(String field) {
+        return fields == null || fields.contains(field);
+    }
+
+    public boolean includesAny(String... candidates) {
+        for (String candidate : candidates) {
+            if (includes(candidate)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
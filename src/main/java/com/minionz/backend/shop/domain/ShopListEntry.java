@@ -0,0 +1,15 @@
+package com.minionz.backend.shop.domain;
+
+import lombok.Getter;
+
+@Getter
+public class ShopListEntry {
+
+    private final Long shopId;
+    private final String name;
+
+    public ShopListEntry(Long shopId, String name) {
+        this.shopId = shopId;
+        this.name = name;
+    }
+}
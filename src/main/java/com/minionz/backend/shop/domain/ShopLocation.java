@@ -0,0 +1,21 @@
+package com.minionz.backend.shop.domain;
+
+import lombok.Getter;
+
+@Getter
+public class ShopLocation {
+
+    private final Long shopId;
+    private final Double latitude;
+    private final Double longitude;
+
+    public ShopLocation(Long shopId, Double latitude, Double longitude) {
+        this.shopId = shopId;
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+
+    public boolean hasCoordinates() {
+        return latitude != null && longitude != null;
+    }
+}
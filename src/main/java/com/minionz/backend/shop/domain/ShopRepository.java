@@ -1,24 +1,65 @@
 package com.minionz.backend.shop.domain;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.repository.query.Param;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ShopRepository extends JpaRepository<Shop, Long> {
 
+    @EntityGraph(attributePaths = "tableList")
+    @Override
+    Optional<Shop> findById(Long id);
+
+    @EntityGraph(attributePaths = "tableList")
     Optional<Shop> findByTelNumber(String telNumber);
 
-    @Query(value = "select * from Shop where (6371*acos(cos(radians(latitude))*cos(radians(:latitude))*cos(radians(:longitude)-radians(longitude))+sin(radians(latitude))*sin(radians(:latitude)))) < 0.5"
+    @Query("select s from Shop s where s.id = :id")
+    Optional<Shop> findWithoutTablesById(@Param("id") Long id);
+
+    @Query(value = "select * from Shop where (6371*acos(cos(radians(latitude))*cos(radians(:latitude))*cos(radians(:longitude)-radians(longitude))+sin(radians(latitude))*sin(radians(:latitude)))) < :radiusKm"
     , nativeQuery = true)
-    List<Shop> findByNearShop(@Param("latitude") double latitude, @Param("longitude") double longitude);
+    List<Shop> findByNearShop(@Param("latitude") double latitude, @Param("longitude") double longitude,
+                              @Param("radiusKm") double radiusKm);
+
+    @Query(value = "select * from Shop where geohash in (:geohashes)"
+            + " and latitude between :minLatitude and :maxLatitude and longitude between :minLongitude and :maxLongitude"
+            + " and (6371*acos(cos(radians(latitude))*cos(radians(:latitude))*cos(radians(:longitude)-radians(longitude))+sin(radians(latitude))*sin(radians(:latitude)))) < :radiusKm"
+    , nativeQuery = true)
+    List<Shop> findByNearShopInArea(@Param("latitude") double latitude, @Param("longitude") double longitude,
+                                    @Param("geohashes") List<String> geohashes,
+                                    @Param("minLatitude") double minLatitude, @Param("maxLatitude") double maxLatitude,
+                                    @Param("minLongitude") double minLongitude, @Param("maxLongitude") double maxLongitude,
+                                    @Param("radiusKm") double radiusKm);
+
+    @Query("select new com.minionz.backend.shop.domain.ShopLocation(s.id, s.address.latitude, s.address.longitude) from Shop s where s.address.geohash is null and s.id > :afterId order by s.id")
+    List<ShopLocation> findLocationsWithoutGeohashAfter(@Param("afterId") long afterId, Pageable pageable);
+
+    @Query("select new com.minionz.backend.shop.domain.ShopListEntry(s.id, s.name) from Shop s where s.id > :afterId order by s.id")
+    List<ShopListEntry> findListEntriesAfter(@Param("afterId") long afterId, Pageable pageable);
+
+    @Query("select new com.minionz.backend.shop.domain.ShopLocation(s.id, s.address.latitude, s.address.longitude) from Shop s")
+    List<ShopLocation> findAllLocations();
+
+    @Query("select new com.minionz.backend.shop.domain.ShopSearchEntry(s.id, s.name, s.address.street, s.address.city) from Shop s order by s.id")
+    List<ShopSearchEntry> findAllSearchEntries();
+
+    @Query("select new com.minionz.backend.shop.domain.ShopSearchEntry(s.id, s.name, s.address.street, s.address.city) from Shop s where s.id in :ids")
+    List<ShopSearchEntry> findSearchEntriesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select new com.minionz.backend.shop.domain.ShopSearchEntry(s.id, s.name, s.address.street, s.address.city) from Shop s where s.address.city in :cities order by s.id")
+    List<ShopSearchEntry> findSearchEntriesByCityIn(@Param("cities") Collection<String> cities);
 
-    List<Shop> findByNameContains(String name);
+    @Query("select new com.minionz.backend.shop.domain.ShopSearchDocument(s.id, s.name, s.address.street, s.address.city, s.address.zipcode) from Shop s order by s.id")
+    List<ShopSearchDocument> findAllSearchDocuments();
 
-    List<Shop> findByAddressCityEqualsAndNameContains(String city, String name);
+    @Query("select new com.minionz.backend.shop.domain.ShopSearchDocument(s.id, s.name, s.address.street, s.address.city, s.address.zipcode) from Shop s where s.address.city in :cities order by s.id")
+    List<ShopSearchDocument> findSearchDocumentsByCityIn(@Param("cities") Collection<String> cities);
 }
@@ -0,0 +1,30 @@
+package com.minionz.backend.shop.domain;
+
+import com.minionz.backend.common.domain.Address;
+import lombok.Getter;
+
+@Getter
+public class ShopSearchDocument {
+
+    private final Long shopId;
+    private final String name;
+    private final String street;
+    private final String city;
+    private final String zipcode;
+
+    public ShopSearchDocument(Long shopId, String name, String street, String city, String zipcode) {
+        this.shopId = shopId;
+        this.name = name;
+        this.street = street;
+        this.city = city;
+        this.zipcode = zipcode;
+    }
+
+    public static ShopSearchDocument of(Shop shop) {
+        Address address = shop.getAddress();
+        if (address == null) {
+            return new ShopSearchDocument(shop.getId(), shop.getName(), null, null, null);
+        }
+        return new ShopSearchDocument(shop.getId(), shop.getName(), address.getStreet(), address.getCity(), address.getZipcode());
+    }
+}
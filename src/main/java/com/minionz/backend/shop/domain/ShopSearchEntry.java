@@ -0,0 +1,26 @@
+package com.minionz.backend.shop.domain;
+
+import lombok.Getter;
+
+@Getter
+public class ShopSearchEntry {
+
+    private final Long shopId;
+    private final String name;
+    private final String street;
+    private final String city;
+
+    public ShopSearchEntry(Long shopId, String name, String street, String city) {
+        this.shopId = shopId;
+        this.name = name;
+        this.street = street;
+        this.city = city;
+    }
+
+    public static ShopSearchEntry of(Shop shop) {
+        if (shop.getAddress() == null) {
+            return new ShopSearchEntry(shop.getId(), shop.getName(), null, null);
+        }
+        return new ShopSearchEntry(shop.getId(), shop.getName(), shop.getAddress().getStreet(), shop.getAddress().getCity());
+    }
+}
@@ -8,7 +8,6 @@ import lombok.NoArgsConstructor;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
-import java.util.Optional;
 
 @Entity
 @Getter
@@ -16,8 +15,6 @@ import java.util.Optional;
 @AttributeOverride(name = "id", column = @Column(name = "table_id"))
 public class ShopTable extends BaseEntity {
 
-    private static final int NO_USER = 0;
-
     private int tableNumber;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -48,20 +45,4 @@ public class ShopTable extends BaseEntity {
     public void setTableNumber(int tableNumber) {
         this.tableNumber = tableNumber;
     }
-
-    public Optional<Shop> getOptionalShop() {
-        return Optional.ofNullable(this.shop);
-    }
-
-    public void use() {
-        countUser++;
-        useStatus = UseStatus.USING;
-        shop.updateDegreeOfCongestion();
-    }
-
-    public void exit() {
-        countUser = NO_USER;
-        useStatus = UseStatus.EMPTY;
-        shop.updateDegreeOfCongestion();
-    }
 }
@@ -1,8 +1,24 @@
 package com.minionz.backend.shop.domain;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface ShopTableRepository extends JpaRepository<ShopTable, Long> {
+
+    @Query("select new com.minionz.backend.shop.domain.ShopTableState(t.shop.id, t.id, t.tableNumber, t.maxUser, t.countUser) " +
+            "from ShopTable t where t.shop is not null order by t.shop.id, t.tableNumber")
+    List<ShopTableState> findAllStates();
+
+    @Query("select new com.minionz.backend.shop.domain.ShopTableState(t.shop.id, t.id, t.tableNumber, t.maxUser, t.countUser) " +
+            "from ShopTable t where t.shop.id = :shopId order by t.tableNumber")
+    List<ShopTableState> findStatesByShopId(@Param("shopId") Long shopId);
+
+    @Query("select t.shop.id from ShopTable t where t.id = :tableId")
+    Optional<Long> findShopIdById(@Param("tableId") Long tableId);
 }
@@ -0,0 +1,25 @@
+package com.minionz.backend.shop.domain;
+
+import lombok.Getter;
+
+@Getter
+public class ShopTableState {
+
+    private final Long shopId;
+    private final Long tableId;
+    private final int tableNumber;
+    private final int maxUser;
+    private final int countUser;
+
+    public ShopTableState(Long shopId, Long tableId, int tableNumber, int maxUser, int countUser) {
+        this.shopId = shopId;
+        this.tableId = tableId;
+        this.tableNumber = tableNumber;
+        this.maxUser = maxUser;
+        this.countUser = countUser;
+    }
+
+    public static ShopTableState of(Long shopId, ShopTable shopTable) {
+        return new ShopTableState(shopId, shopTable.getId(), shopTable.getTableNumber(), shopTable.getMaxUser(), shopTable.getCountUser());
+    }
+}
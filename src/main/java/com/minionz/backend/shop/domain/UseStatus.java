@@ -12,4 +12,11 @@ public enum UseStatus {
 
     private final String status;
     private final String message;
+
+    public static UseStatus of(int countUser) {
+        if (countUser > 0) {
+            return USING;
+        }
+        return EMPTY;
+    }
 }
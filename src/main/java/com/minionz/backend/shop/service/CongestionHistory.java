@@ -0,0 +1,145 @@
+package com.minionz.backend.shop.service;
+
+import com.minionz.backend.shop.domain.CongestionStatus;
+import com.minionz.backend.shop.domain.OccupancySnapshot;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ *  매장 하나의 분 단위 혼잡도 링 버퍼
+ *  분 하나를 int 하나(인원 16bit, 사용 테이블 12bit, 혼잡도 2bit, 기록 여부 1bit)로 저장해 매장당 메모리는 4 * capacity byte 로 고정
+ *  이벤트가 없던 분은 직전 상태를 이어서 채움
+ */
+class CongestionHistory {
+
+    private static final int NO_MINUTE = -1;
+    private static final int USE_USER_MASK = 0xFFFF;
+    private static final int USE_TABLES_SHIFT = 16;
+    private static final int USE_TABLES_MASK = 0xFFF;
+    private static final int STATUS_SHIFT = 28;
+    private static final int STATUS_MASK = 0x3;
+    private static final int PRESENT = 1 << 30;
+    private static final CongestionStatus[] STATUSES = CongestionStatus.values();
+
+    private final int[] buckets;
+    private int latestMinute = NO_MINUTE;
+    private int latestState;
+    private int lastRolledHour = NO_MINUTE;
+
+    CongestionHistory(int capacity) {
+        this.buckets = new int[capacity];
+    }
+
+    synchronized void record(int minute, OccupancySnapshot snapshot) {
+        advanceTo(minute);
+        int state = pack(snapshot.getNumberOfUsingTables(), snapshot.getUseUser(), snapshot.getCongestionStatus());
+        if (minute == latestMinute) {
+            int slot = slot(minute);
+            buckets[slot] = peak(buckets[slot], state);
+        }
+        latestState = state;
+    }
+
+    synchronized List<Bucket> read(int fromMinute, int toMinute) {
+        advanceTo(toMinute);
+        List<Bucket> result = new ArrayList<>();
+        if (latestMinute == NO_MINUTE) {
+            return result;
+        }
+        int oldestMinute = Math.max(fromMinute, latestMinute - buckets.length + 1);
+        for (int minute = oldestMinute; minute <= Math.min(toMinute, latestMinute); minute++) {
+            int state = buckets[slot(minute)];
+            if (state != 0) {
+                result.add(new Bucket(minute, state));
+            }
+        }
+        return result;
+    }
+
+    /**
+     *  아직 집계하지 않은 완료된 시간대의 분 단위 버킷 목록
+     */
+    synchronized List<List<Bucket>> drainCompletedHours(int nowMinute) {
+        advanceTo(nowMinute);
+        List<List<Bucket>> hours = new ArrayList<>();
+        if (latestMinute == NO_MINUTE) {
+            return hours;
+        }
+        int oldestHour = Math.floorDiv(latestMinute - buckets.length + 1, 60);
+        int firstHour = Math.max(lastRolledHour + 1, oldestHour);
+        int lastCompletedHour = Math.floorDiv(nowMinute, 60) - 1;
+        for (int hour = firstHour; hour <= lastCompletedHour; hour++) {
+            List<Bucket> minutes = read(hour * 60, hour * 60 + 59);
+            if (!minutes.isEmpty()) {
+                hours.add(minutes);
+            }
+        }
+        lastRolledHour = Math.max(lastRolledHour, lastCompletedHour);
+        return hours;
+    }
+
+    private void advanceTo(int minute) {
+        if (latestMinute == NO_MINUTE) {
+            latestMinute = minute;
+            lastRolledHour = Math.floorDiv(minute, 60) - 1;
+            return;
+        }
+        if (minute <= latestMinute) {
+            return;
+        }
+        int gap = Math.min(minute - latestMinute, buckets.length);
+        for (int filledMinute = minute - gap + 1; filledMinute <= minute; filledMinute++) {
+            buckets[slot(filledMinute)] = latestState;
+        }
+        latestMinute = minute;
+    }
+
+    private int slot(int minute) {
+        return Math.floorMod(minute, buckets.length);
+    }
+
+    private static int pack(int useTables, int useUser, CongestionStatus congestionStatus) {
+        return PRESENT
+                | (congestionStatus.ordinal() & STATUS_MASK) << STATUS_SHIFT
+                | Math.min(useTables, USE_TABLES_MASK) << USE_TABLES_SHIFT
+                | Math.min(useUser, USE_USER_MASK);
+    }
+
+    private static int peak(int current, int state) {
+        if (current == 0) {
+            return state;
+        }
+        Bucket currentBucket = new Bucket(0, current);
+        Bucket bucket = new Bucket(0, state);
+        CongestionStatus congestionStatus = STATUSES[Math.max(currentBucket.getCongestionStatus().ordinal(), bucket.getCongestionStatus().ordinal())];
+        return pack(Math.max(currentBucket.getUseTables(), bucket.getUseTables()), Math.max(currentBucket.getUseUser(), bucket.getUseUser()), congestionStatus);
+    }
+
+    static class Bucket {
+
+        private final int minute;
+        private final int state;
+
+        private Bucket(int minute, int state) {
+            this.minute = minute;
+            this.state = state;
+        }
+
+        int getMinute() {
+            return minute;
+        }
+
+        int getUseTables() {
+            return state >>> USE_TABLES_SHIFT & USE_TABLES_MASK;
+        }
+
+        int getUseUser() {
+            return state & USE_USER_MASK;
+        }
+
+        CongestionStatus getCongestionStatus() {
+            return STATUSES[state >>> STATUS_SHIFT & STATUS_MASK];
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.minionz.backend.shop.service;
+
+import com.minionz.backend.common.exception.BadRequestException;
+import com.minionz.backend.common.exception.NotFoundException;
+import com.minionz.backend.shop.controller.dto.CongestionHistoryResponseDto;
+import com.minionz.backend.shop.domain.*;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ *  매장 혼잡도 이력
+ *  최근 이력은 매장별 분 단위 링 버퍼에서, 버퍼보다 긴 범위는 시간 단위 집계 테이블에서 조회
+ */
+@Slf4j
+@Service
+public class CongestionHistoryService {
+
+    private static final String NOT_FOUND_SHOP_MESSAGE = "존재 하지 않는 Shop 입니다.";
+    private static final String INVALID_RANGE_MESSAGE = "잘못된 조회 범위입니다.";
+    private static final Pattern RANGE_PATTERN = Pattern.compile("(\\d{1,4})([mhd])");
+    private static final int MAX_RANGE_MINUTES = 30 * 24 * 60;
+    private static final int BATCH_SIZE = 500;
+    private static final String INSERT_ROLLUP_SQL = "insert into congestion_rollup (created_date, modified_date, shop_id, started_at, max_use_tables, average_use_tables, max_use_user, peak_congestion_status) values (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final ShopRepository shopRepository;
+    private final CongestionRollupRepository congestionRollupRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final int capacityMinutes;
+    private final Clock clock = Clock.systemDefaultZone();
+    private final ConcurrentMap<Long, CongestionHistory> histories = new ConcurrentHashMap<>();
+
+    public CongestionHistoryService(ShopRepository shopRepository,
+                                    CongestionRollupRepository congestionRollupRepository,
+                                    JdbcTemplate jdbcTemplate,
+                                    @Value("${qrna.congestion.history.minutes:1440}") int capacityMinutes) {
+        this.shopRepository = shopRepository;
+        this.congestionRollupRepository = congestionRollupRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.capacityMinutes = capacityMinutes;
+    }
+
+    @EventListener
+    public void onOccupancyChanged(OccupancyChangedEvent event) {
+        histories.computeIfAbsent(event.getShopId(), shopId -> new CongestionHistory(capacityMinutes))
+                .record(currentMinute(), event.getSnapshot());
+    }
+
+    @TransactionalEventListener
+    public void onShopChanged(ShopChangedEvent event) {
+        if (event.isDeleted()) {
+            histories.remove(event.getShopId());
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<CongestionHistoryResponseDto> viewHistory(Long shopId, String range) {
+        int rangeMinutes = parseRangeMinutes(range);
+        if (!shopRepository.existsById(shopId)) {
+            throw new NotFoundException(NOT_FOUND_SHOP_MESSAGE);
+        }
+        int nowMinute = currentMinute();
+        if (rangeMinutes > capacityMinutes) {
+            return congestionRollupRepository.findByShopIdAndStartedAtGreaterThanEqualOrderByStartedAt(shopId, toLocalDateTime(nowMinute - rangeMinutes + 1))
+                    .stream()
+                    .map(CongestionHistoryResponseDto::new)
+                    .collect(Collectors.toList());
+        }
+        CongestionHistory history = histories.get(shopId);
+        if (history == null) {
+            return new ArrayList<>();
+        }
+        return history.read(nowMinute - rangeMinutes + 1, nowMinute)
+                .stream()
+                .map(bucket -> new CongestionHistoryResponseDto(toLocalDateTime(bucket.getMinute()), bucket.getCongestionStatus(), bucket.getUseTables(), bucket.getUseUser()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     *  완료된 시간대를 시간 단위로 집계해 저장
+     *  IDENTITY 키라 JPA 로는 한 건씩 insert 되므로 JdbcTemplate 배치로 씀
+     */
+    @Scheduled(fixedDelayString = "${qrna.congestion.history.compact-delay-ms:300000}")
+    @Transactional
+    public int compact() {
+        int nowMinute = currentMinute();
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<Object[]> rows = new ArrayList<>();
+        for (Map.Entry<Long, CongestionHistory> entry : histories.entrySet()) {
+            for (List<CongestionHistory.Bucket> hour : entry.getValue().drainCompletedHours(nowMinute)) {
+                rows.add(toRow(toRollup(entry.getKey(), hour), now));
+            }
+        }
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(INSERT_ROLLUP_SQL, rows.subList(from, Math.min(from + BATCH_SIZE, rows.size())));
+        }
+        if (!rows.isEmpty()) {
+            log.info("혼잡도 시간 집계 저장 : {}건", rows.size());
+        }
+        return rows.size();
+    }
+
+    private Object[] toRow(CongestionRollup rollup, LocalDateTime now) {
+        return new Object[]{now, now, rollup.getShopId(), rollup.getStartedAt(), rollup.getMaxUseTables(),
+                rollup.getAverageUseTables(), rollup.getMaxUseUser(), rollup.getPeakCongestionStatus().name()};
+    }
+
+    private CongestionRollup toRollup(Long shopId, List<CongestionHistory.Bucket> hour) {
+        int maxUseTables = 0;
+        int maxUseUser = 0;
+        long sumUseTables = 0;
+        CongestionStatus peakCongestionStatus = CongestionStatus.SMOOTH;
+        for (CongestionHistory.Bucket bucket : hour) {
+            maxUseTables = Math.max(maxUseTables, bucket.getUseTables());
+            maxUseUser = Math.max(maxUseUser, bucket.getUseUser());
+            sumUseTables += bucket.getUseTables();
+            if (bucket.getCongestionStatus().compareTo(peakCongestionStatus) > 0) {
+                peakCongestionStatus = bucket.getCongestionStatus();
+            }
+        }
+        int firstMinute = hour.get(0).getMinute();
+        return CongestionRollup.builder()
+                .shopId(shopId)
+                .startedAt(toLocalDateTime(Math.floorDiv(firstMinute, 60) * 60))
+                .maxUseTables(maxUseTables)
+                .averageUseTables(sumUseTables / (double) hour.size())
+                .maxUseUser(maxUseUser)
+                .peakCongestionStatus(peakCongestionStatus)
+                .build();
+    }
+
+    private int parseRangeMinutes(String range) {
+        Matcher matcher = RANGE_PATTERN.matcher(range);
+        if (!matcher.matches()) {
+            throw new BadRequestException(INVALID_RANGE_MESSAGE);
+        }
+        int amount = Integer.parseInt(matcher.group(1));
+        int minutes;
+        switch (matcher.group(2)) {
+            case "d":
+                minutes = amount * 24 * 60;
+                break;
+            case "h":
+                minutes = amount * 60;
+                break;
+            default:
+                minutes = amount;
+        }
+        if (minutes <= 0 || minutes > MAX_RANGE_MINUTES) {
+            throw new BadRequestException(INVALID_RANGE_MESSAGE);
+        }
+        return minutes;
+    }
+
+    private int currentMinute() {
+        return (int) TimeUnit.MILLISECONDS.toMinutes(clock.millis());
+    }
+
+    private LocalDateTime toLocalDateTime(int minute) {
+        return LocalDateTime.ofInstant(Instant.ofEpochSecond(TimeUnit.MINUTES.toSeconds(minute)), clock.getZone());
+    }
+}
@@ -0,0 +1,137 @@
+package com.minionz.backend.shop.service;
+
+import com.minionz.backend.common.exception.BadRequestException;
+import com.minionz.backend.common.exception.NotFoundException;
+import com.minionz.backend.shop.controller.dto.CongestionResponseDto;
+import com.minionz.backend.shop.domain.OccupancyChangedEvent;
+import com.minionz.backend.shop.domain.ShopRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ *  매장 혼잡도 변경을 SSE 구독자에게 전달
+ *  체크인 스레드는 변경된 매장 id 만 기록하고, 짧은 주기로 모아 상태나 사용 테이블 수가 실제로 바뀐 매장만 전송
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class CongestionStreamService {
+
+    private static final String EVENT_NAME = "congestion";
+    private static final String NOT_FOUND_SHOP_MESSAGE = "존재 하지 않는 Shop 입니다.";
+    private static final String EMPTY_SHOP_IDS_MESSAGE = "구독할 매장을 입력해 주세요.";
+    private static final String TOO_MANY_SHOP_IDS_MESSAGE = "한 번에 구독할 수 있는 매장 수를 초과했습니다.";
+    private static final int MAX_SHOP_IDS = 100;
+    private static final int FAN_OUT_THREADS = 4;
+    private static final long EMITTER_TIMEOUT_MILLIS = 30 * 60 * 1000L;
+
+    private final ShopRepository shopRepository;
+    private final ShopOccupancyRegistry shopOccupancyRegistry;
+    private final ConcurrentMap<Long, Set<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, CongestionResponseDto> lastSentCongestions = new ConcurrentHashMap<>();
+    private final Set<Long> pendingShopIds = ConcurrentHashMap.newKeySet();
+    private final ExecutorService fanOutExecutor = Executors.newFixedThreadPool(FAN_OUT_THREADS);
+
+    public SseEmitter subscribe(Iterable<Long> ids) {
+        Set<Long> shopIds = validateShopIds(ids);
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MILLIS);
+        Runnable unsubscribe = () -> shopIds.forEach(shopId -> unsubscribe(shopId, emitter));
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(throwable -> unsubscribe.run());
+        for (Long shopId : shopIds) {
+            subscribers.computeIfAbsent(shopId, id -> ConcurrentHashMap.newKeySet()).add(emitter);
+            send(emitter, new CongestionResponseDto(shopOccupancyRegistry.snapshot(shopId)));
+        }
+        return emitter;
+    }
+
+    @EventListener
+    public void onOccupancyChanged(OccupancyChangedEvent event) {
+        if (event.isUsingTablesChanged() && subscribers.containsKey(event.getShopId())) {
+            pendingShopIds.add(event.getShopId());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${qrna.congestion.stream.coalesce-delay-ms:500}")
+    public void dispatch() {
+        Iterator<Long> iterator = pendingShopIds.iterator();
+        while (iterator.hasNext()) {
+            Long shopId = iterator.next();
+            iterator.remove();
+            Set<SseEmitter> emitters = subscribers.get(shopId);
+            if (emitters == null || emitters.isEmpty()) {
+                continue;
+            }
+            CongestionResponseDto congestion = new CongestionResponseDto(shopOccupancyRegistry.snapshot(shopId));
+            if (congestion.isSameCongestion(lastSentCongestions.put(shopId, congestion))) {
+                continue;
+            }
+            fanOutExecutor.execute(() -> emitters.forEach(emitter -> send(emitter, congestion)));
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        fanOutExecutor.shutdownNow();
+        subscribers.values().forEach(emitters -> emitters.forEach(SseEmitter::complete));
+        subscribers.clear();
+    }
+
+    int subscriberCount(Long shopId) {
+        Set<SseEmitter> emitters = subscribers.get(shopId);
+        return emitters == null ? 0 : emitters.size();
+    }
+
+    private Set<Long> validateShopIds(Iterable<Long> ids) {
+        Set<Long> shopIds = new LinkedHashSet<>();
+        ids.forEach(shopIds::add);
+        if (shopIds.isEmpty()) {
+            throw new BadRequestException(EMPTY_SHOP_IDS_MESSAGE);
+        }
+        if (shopIds.size() > MAX_SHOP_IDS) {
+            throw new BadRequestException(TOO_MANY_SHOP_IDS_MESSAGE);
+        }
+        for (Long shopId : shopIds) {
+            if (!shopRepository.existsById(shopId)) {
+                throw new NotFoundException(NOT_FOUND_SHOP_MESSAGE);
+            }
+        }
+        return shopIds;
+    }
+
+    private void unsubscribe(Long shopId, SseEmitter emitter) {
+        subscribers.computeIfPresent(shopId, (id, emitters) -> {
+            emitters.remove(emitter);
+            if (emitters.isEmpty()) {
+                lastSentCongestions.remove(id);
+                return null;
+            }
+            return emitters;
+        });
+    }
+
+    private void send(SseEmitter emitter, CongestionResponseDto congestion) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .name(EVENT_NAME)
+                    .data(congestion));
+        } catch (IOException | IllegalStateException exception) {
+            emitter.complete();
+        }
+    }
+}
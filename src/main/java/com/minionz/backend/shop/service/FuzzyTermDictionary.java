@@ -0,0 +1,199 @@
+package com.minionz.backend.shop.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ *  편집 거리(Levenshtein) 검색용 단어 사전
+ *  정렬한 단어로 배열 트라이(전위 순서, 첫 자식/다음 형제)를 만들고, 깊이 우선으로 내려가며 접두어별 DP 행을 한 줄씩 계산
+ *  행의 최솟값이 허용 거리를 넘으면 그 아래는 방문하지 않으므로 Levenshtein 오토마톤과 트라이의 교집합만 훑음
+ *  새로 추가된 단어는 트라이 밖에 모아 두고 직접 비교하다가 일정 개수가 넘으면 트라이를 다시 만듦
+ */
+final class FuzzyTermDictionary {
+
+    private static final int MIN_UNINDEXED_THRESHOLD = 1024;
+    private static final int UNINDEXED_RATIO = 16;
+    private static final int NO_NODE = -1;
+
+    private final Map<String, Integer> termIds = new HashMap<>();
+    private final List<String> terms = new ArrayList<>();
+    private int indexedCount;
+    private char[] labels = new char[]{0};
+    private int[] firstChild = new int[]{NO_NODE};
+    private int[] nextSibling = new int[]{NO_NODE};
+    private int[] nodeTermIds = new int[]{NO_NODE};
+
+    /**
+     *  단어 번호는 추가 순서이며, 같은 단어를 다시 추가하면 기존 번호를 돌려줌
+     */
+    int add(String term) {
+        Integer termId = termIds.get(term);
+        if (termId != null) {
+            return termId;
+        }
+        termId = terms.size();
+        termIds.put(term, termId);
+        terms.add(term);
+        return termId;
+    }
+
+    /**
+     *  트라이 밖 단어가 많이 쌓였으면 다시 만듦
+     */
+    void buildIfNeeded() {
+        if (terms.size() - indexedCount > Math.max(MIN_UNINDEXED_THRESHOLD, indexedCount / UNINDEXED_RATIO)) {
+            build();
+        }
+    }
+
+    void build() {
+        Integer[] order = new Integer[terms.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparing(terms::get));
+        TrieBuilder builder = new TrieBuilder(order);
+        builder.buildNode(0, order.length, 0);
+        labels = Arrays.copyOf(builder.labels, builder.nodeCount);
+        firstChild = Arrays.copyOf(builder.firstChild, builder.nodeCount);
+        nextSibling = Arrays.copyOf(builder.nextSibling, builder.nodeCount);
+        nodeTermIds = Arrays.copyOf(builder.nodeTermIds, builder.nodeCount);
+        indexedCount = order.length;
+    }
+
+    /**
+     *  query 와의 편집 거리가 maxDistance 이하인 단어를 모두 방문
+     */
+    void search(String query, int maxDistance, MatchConsumer consumer) {
+        // 깊이가 query.length() + maxDistance 를 넘으면 행의 최솟값이 항상 허용 거리를 넘으므로 그 전에 멈춤
+        int[][] rows = new int[query.length() + maxDistance + 2][query.length() + 1];
+        for (int i = 0; i <= query.length(); i++) {
+            rows[0][i] = i;
+        }
+        visit(0, 0, query, maxDistance, rows, consumer);
+        for (int termId = indexedCount; termId < terms.size(); termId++) {
+            int distance = distance(query, terms.get(termId));
+            if (distance <= maxDistance) {
+                consumer.accept(termId, distance);
+            }
+        }
+    }
+
+    String term(int termId) {
+        return terms.get(termId);
+    }
+
+    private void visit(int node, int depth, String query, int maxDistance, int[][] rows, MatchConsumer consumer) {
+        for (int child = firstChild[node]; child != NO_NODE; child = nextSibling[child]) {
+            int minimum = nextRow(query, labels[child], rows[depth], rows[depth + 1], depth + 1);
+            int distance = rows[depth + 1][query.length()];
+            if (nodeTermIds[child] != NO_NODE && distance <= maxDistance) {
+                consumer.accept(nodeTermIds[child], distance);
+            }
+            if (minimum <= maxDistance) {
+                visit(child, depth + 1, query, maxDistance, rows, consumer);
+            }
+        }
+    }
+
+    /**
+     *  접두어 행 previousRow 에 문자 하나를 더한 행을 row 에 계산하고 행의 최솟값을 돌려줌
+     */
+    private static int nextRow(String query, char character, int[] previousRow, int[] row, int prefixLength) {
+        row[0] = prefixLength;
+        int minimum = prefixLength;
+        for (int i = 1; i <= query.length(); i++) {
+            int substitution = previousRow[i - 1] + (query.charAt(i - 1) == character ? 0 : 1);
+            row[i] = Math.min(substitution, Math.min(previousRow[i], row[i - 1]) + 1);
+            minimum = Math.min(minimum, row[i]);
+        }
+        return minimum;
+    }
+
+    static int distance(String source, String target) {
+        int[] previousRow = new int[source.length() + 1];
+        int[] currentRow = new int[source.length() + 1];
+        for (int i = 0; i <= source.length(); i++) {
+            previousRow[i] = i;
+        }
+        for (int j = 1; j <= target.length(); j++) {
+            currentRow[0] = j;
+            for (int i = 1; i <= source.length(); i++) {
+                int substitution = previousRow[i - 1] + (source.charAt(i - 1) == target.charAt(j - 1) ? 0 : 1);
+                currentRow[i] = Math.min(substitution, Math.min(previousRow[i], currentRow[i - 1]) + 1);
+            }
+            int[] row = previousRow;
+            previousRow = currentRow;
+            currentRow = row;
+        }
+        return previousRow[source.length()];
+    }
+
+    /**
+     *  정렬된 단어 구간을 깊이 우선으로 내려가며 전위 순서로 노드 번호를 매김
+     */
+    private final class TrieBuilder {
+
+        private final Integer[] order;
+        private char[] labels = new char[16];
+        private int[] firstChild = new int[16];
+        private int[] nextSibling = new int[16];
+        private int[] nodeTermIds = new int[16];
+        private int nodeCount;
+
+        private TrieBuilder(Integer[] order) {
+            this.order = order;
+        }
+
+        private int buildNode(int low, int high, int depth) {
+            int node = newNode(depth == 0 ? 0 : terms.get(order[low]).charAt(depth - 1));
+            int i = low;
+            if (i < high && terms.get(order[i]).length() == depth) {
+                nodeTermIds[node] = order[i];
+                i++;
+            }
+            int previousChild = NO_NODE;
+            while (i < high) {
+                char label = terms.get(order[i]).charAt(depth);
+                int groupEnd = i + 1;
+                while (groupEnd < high && terms.get(order[groupEnd]).charAt(depth) == label) {
+                    groupEnd++;
+                }
+                int child = buildNode(i, groupEnd, depth + 1);
+                if (previousChild == NO_NODE) {
+                    firstChild[node] = child;
+                } else {
+                    nextSibling[previousChild] = child;
+                }
+                previousChild = child;
+                i = groupEnd;
+            }
+            return node;
+        }
+
+        private int newNode(char label) {
+            if (nodeCount == labels.length) {
+                int capacity = nodeCount * 2;
+                labels = Arrays.copyOf(labels, capacity);
+                firstChild = Arrays.copyOf(firstChild, capacity);
+                nextSibling = Arrays.copyOf(nextSibling, capacity);
+                nodeTermIds = Arrays.copyOf(nodeTermIds, capacity);
+            }
+            labels[nodeCount] = label;
+            firstChild[nodeCount] = NO_NODE;
+            nextSibling[nodeCount] = NO_NODE;
+            nodeTermIds[nodeCount] = NO_NODE;
+            return nodeCount++;
+        }
+    }
+
+    @FunctionalInterface
+    interface MatchConsumer {
+
+        void accept(int termId, int distance);
+    }
+}
@@ -0,0 +1,87 @@
+package com.minionz.backend.shop.service;
+
+/**
+ *  한글 음절을 초성 / 자모로 분해
+ *  겹모음, 겹받침은 기본 자모로 풀어서 입력 중인 글자("스타ㅂ", "갑" → "값")도 부분 일치하도록 함
+ */
+final class Hangul {
+
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+    private static final int JUNGSUNG_COUNT = 21;
+    private static final int JONGSUNG_COUNT = 28;
+    private static final String CHOSUNG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String[] JUNGSUNG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ",
+            "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+    private static final String[] JONGSUNG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ",
+            "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+    private static final String COMPOUND_JAMO = "ㄳㄵㄶㄺㄻㄼㄽㄾㄿㅀㅄㅘㅙㅚㅝㅞㅟㅢ";
+    private static final String[] COMPOUND_JAMO_PARTS = {
+            "ㄱㅅ", "ㄴㅈ", "ㄴㅎ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅂㅅ",
+            "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅡㅣ"
+    };
+
+    private Hangul() {
+    }
+
+    /**
+     *  음절은 초성으로 바꾸고 나머지 문자는 그대로 둠 ("스타벅스 1호점" → "ㅅㅌㅂㅅ 1ㅎㅈ")
+     */
+    static String toChosung(String text) {
+        StringBuilder chosung = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char character = text.charAt(i);
+            if (isSyllable(character)) {
+                chosung.append(CHOSUNG.charAt((character - SYLLABLE_BEGIN) / (JUNGSUNG_COUNT * JONGSUNG_COUNT)));
+            } else {
+                chosung.append(character);
+            }
+        }
+        return chosung.toString();
+    }
+
+    static String toJamo(String text) {
+        StringBuilder jamo = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char character = text.charAt(i);
+            if (isSyllable(character)) {
+                int offset = character - SYLLABLE_BEGIN;
+                jamo.append(CHOSUNG.charAt(offset / (JUNGSUNG_COUNT * JONGSUNG_COUNT)))
+                        .append(JUNGSUNG[offset % (JUNGSUNG_COUNT * JONGSUNG_COUNT) / JONGSUNG_COUNT])
+                        .append(JONGSUNG[offset % JONGSUNG_COUNT]);
+                continue;
+            }
+            int compound = COMPOUND_JAMO.indexOf(character);
+            if (compound >= 0) {
+                jamo.append(COMPOUND_JAMO_PARTS[compound]);
+            } else {
+                jamo.append(character);
+            }
+        }
+        return jamo.toString();
+    }
+
+    /**
+     *  공백을 제외한 모든 문자가 초성 자음인지 여부
+     */
+    static boolean isChosungOnly(String text) {
+        boolean hasChosung = false;
+        for (int i = 0; i < text.length(); i++) {
+            char character = text.charAt(i);
+            if (CHOSUNG.indexOf(character) >= 0) {
+                hasChosung = true;
+            } else if (!Character.isWhitespace(character)) {
+                return false;
+            }
+        }
+        return hasChosung;
+    }
+
+    private static boolean isSyllable(char character) {
+        return SYLLABLE_BEGIN <= character && character <= SYLLABLE_END;
+    }
+}
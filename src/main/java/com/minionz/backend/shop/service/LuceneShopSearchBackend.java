@@ -0,0 +1,475 @@
+package com.minionz.backend.shop.service;
+
+import com.minionz.backend.shop.domain.SearchMode;
+import com.minionz.backend.shop.domain.ShopChangedEvent;
+import com.minionz.backend.shop.domain.ShopRepository;
+import com.minionz.backend.shop.domain.ShopSearchDocument;
+import com.minionz.backend.shop.domain.ShopSearchEntry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.core.KeywordAnalyzer;
+import org.apache.lucene.analysis.core.WhitespaceTokenizer;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.analysis.ko.KoreanPartOfSpeechStopFilter;
+import org.apache.lucene.analysis.ko.KoreanTokenizer;
+import org.apache.lucene.analysis.miscellaneous.PerFieldAnalyzerWrapper;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.CodecReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SlowCodecReaderWrapper;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.DisjunctionMaxQuery;
+import org.apache.lucene.search.FuzzyQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.AlreadyClosedException;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.IOUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PreDestroy;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ *  로컬 디스크 Lucene 인덱스 매장 검색 (qrna.search.backend=lucene 일 때만 사용)
+ *  이름 / 도로명 / 도시는 nori 형태소 분석, 우편번호는 그대로 색인하고, 매장 변경은 커밋 전 NRT(near-real-time) 갱신으로 바로 보이게 함
+ *  디스크 커밋은 주기적으로만 하고, 시작 시에는 DB 와 어긋나지 않도록 다시 만듦
+ *  다시 적재할 때는 새 디렉터리에 인덱스를 만들어 바꿔 끼우므로, 적재 중에도 검색과 매장 변경 반영은 기존 인덱스로 계속됨
+ *  적재 중 들어온 매장 변경은 모아 두었다가 바꿔 끼우기 직전에 새 인덱스에 다시 반영함
+ *  초성 검색과 인덱스 오류 시에는 메모리 이름 인덱스(ShopNameIndex)로 검색하고, 오류가 나면 주기적으로 다시 적재해 복구
+ */
+@Slf4j
+@Primary
+@ConditionalOnProperty(prefix = "qrna.search", name = "backend", havingValue = "lucene")
+@Component
+public class LuceneShopSearchBackend implements ShopSearchBackend {
+
+    private static final String ID = "id";
+    private static final String NAME = "name";
+    private static final String NAME_TOKENS = "nameTokens";
+    private static final String STREET = "street";
+    private static final String CITY = "city";
+    private static final String CITY_KEY = "cityKey";
+    private static final String ZIPCODE = "zipcode";
+    private static final String GENERATION_PREFIX = "shop-index-";
+    private static final float NAME_BOOST = 3f;
+    private static final float TIE_BREAKER = 0.1f;
+
+    private final ShopRepository shopRepository;
+    private final ShopNameIndex shopNameIndex;
+    private final int maxHits;
+    private final Analyzer analyzer;
+    private final Path indexPath;
+    private final Object rebuildLock = new Object();
+    private volatile IndexGeneration index;
+    private final List<ShopChangedEvent> changesDuringRebuild = new ArrayList<>();
+    private boolean rebuilding;
+    private volatile boolean available;
+
+    public LuceneShopSearchBackend(ShopRepository shopRepository,
+                                   ShopNameIndex shopNameIndex,
+                                   @Value("${qrna.search.lucene.path:./data/shop-index}") String path,
+                                   @Value("${qrna.search.lucene.max-hits:1000}") int maxHits) throws IOException {
+        this.shopRepository = shopRepository;
+        this.shopNameIndex = shopNameIndex;
+        this.maxHits = maxHits;
+        this.analyzer = createAnalyzer();
+        this.indexPath = Files.createDirectories(Paths.get(path));
+        deleteGenerations();
+        this.index = createGeneration();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            beginRebuild();
+            IndexGeneration next = null;
+            try {
+                List<ShopSearchDocument> documents = shopRepository.findAllSearchDocuments();
+                next = createGeneration();
+                for (ShopSearchDocument document : documents) {
+                    next.writer.addDocument(toDocument(document));
+                }
+                swap(next);
+                available = true;
+                log.info("매장 Lucene 인덱스 적재 : {}건", documents.size());
+            } catch (IOException | AlreadyClosedException e) {
+                discard(next);
+                available = false;
+                log.error("매장 Lucene 인덱스 적재 실패, 메모리 인덱스로 검색", e);
+            } finally {
+                endRebuild();
+            }
+        }
+    }
+
+    /**
+     *  지금 인덱스를 새 디렉터리에 복사한 뒤 대상 지역 문서만 DB 에서 다시 읽어 바꿈
+     *  메모리 이름 인덱스도 함께 다시 만듦 (초성 검색과 오류 시 검색에 사용)
+     */
+    @Override
+    public void rebuildCities(Collection<String> cities) {
+        shopNameIndex.rebuildCities(cities);
+        List<String> targetCities = new ArrayList<>(new LinkedHashSet<>(cities));
+        synchronized (rebuildLock) {
+            beginRebuild();
+            IndexGeneration next = null;
+            try {
+                List<ShopSearchDocument> documents = shopRepository.findSearchDocumentsByCityIn(targetCities);
+                next = createGeneration();
+                copy(index, next);
+                for (String city : targetCities) {
+                    next.writer.deleteDocuments(new Term(CITY_KEY, city));
+                }
+                for (ShopSearchDocument document : documents) {
+                    next.writer.updateDocument(new Term(ID, String.valueOf(document.getShopId())), toDocument(document));
+                }
+                swap(next);
+                log.info("매장 Lucene 인덱스 지역 적재 : {}", targetCities);
+            } catch (IOException | AlreadyClosedException e) {
+                discard(next);
+                available = false;
+                log.error("매장 Lucene 인덱스 지역 적재 실패, 메모리 인덱스로 검색", e);
+            } finally {
+                endRebuild();
+            }
+        }
+    }
+
+    /**
+     *  NRT 갱신까지 잠금 안에서 해야 적재가 복사해 가는 인덱스에 반영 전 변경이 빠지지 않음
+     */
+    @TransactionalEventListener
+    public void onShopChanged(ShopChangedEvent event) {
+        try {
+            synchronized (changesDuringRebuild) {
+                if (rebuilding) {
+                    changesDuringRebuild.add(event);
+                }
+                IndexGeneration current = index;
+                apply(current, event);
+                current.searcherManager.maybeRefreshBlocking();
+            }
+        } catch (IOException | AlreadyClosedException e) {
+            available = false;
+            log.error("매장 Lucene 인덱스 갱신 실패, 메모리 인덱스로 검색", e);
+        }
+    }
+
+    /**
+     *  적재 / 갱신에 실패한 뒤로는 DB 에서 새 인덱스를 만들어 복구
+     */
+    @Scheduled(fixedDelayString = "${qrna.search.lucene.recover-delay-ms:30000}",
+            initialDelayString = "${qrna.search.lucene.recover-delay-ms:30000}")
+    public void recover() {
+        if (!available) {
+            rebuild();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${qrna.search.lucene.commit-delay-ms:60000}")
+    public void commit() throws IOException {
+        IndexWriter writer = index.writer;
+        try {
+            if (writer.isOpen() && writer.hasUncommittedChanges()) {
+                writer.commit();
+            }
+        } catch (AlreadyClosedException e) {
+            log.debug("교체된 Lucene 인덱스 커밋 생략", e);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        index.close();
+    }
+
+    private void apply(IndexGeneration generation, ShopChangedEvent event) throws IOException {
+        Term id = new Term(ID, String.valueOf(event.getShopId()));
+        if (event.isDeleted()) {
+            generation.writer.deleteDocuments(id);
+        } else {
+            generation.writer.updateDocument(id, toDocument(ShopSearchDocument.of(event.getShop())));
+        }
+    }
+
+    private void beginRebuild() {
+        synchronized (changesDuringRebuild) {
+            rebuilding = true;
+        }
+    }
+
+    private void endRebuild() {
+        synchronized (changesDuringRebuild) {
+            rebuilding = false;
+            changesDuringRebuild.clear();
+        }
+    }
+
+    /**
+     *  DB 를 읽기 시작한 뒤 들어온 변경은 읽은 결과에 있는지 알 수 없으므로 새 인덱스에 다시 반영하고 바꿔 끼움
+     *  적재한 문서는 잠금 밖에서 먼저 커밋하고, 잠금 안에서는 다시 반영한 변경만 NRT 로 보이게 함
+     */
+    private void swap(IndexGeneration next) throws IOException {
+        next.writer.commit();
+        IndexGeneration previous;
+        synchronized (changesDuringRebuild) {
+            for (ShopChangedEvent event : changesDuringRebuild) {
+                apply(next, event);
+            }
+            changesDuringRebuild.clear();
+            next.searcherManager.maybeRefreshBlocking();
+            previous = index;
+            index = next;
+        }
+        discard(previous);
+    }
+
+    /**
+     *  지운 문서는 빼고 NRT 로 보이는 문서까지 복사
+     */
+    private void copy(IndexGeneration from, IndexGeneration to) throws IOException {
+        SearcherManager searcherManager = from.searcherManager;
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            List<CodecReader> readers = new ArrayList<>();
+            for (LeafReaderContext leaf : searcher.getIndexReader().leaves()) {
+                readers.add(SlowCodecReaderWrapper.wrap(leaf.reader()));
+            }
+            to.writer.addIndexes(readers.toArray(new CodecReader[0]));
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    private IndexGeneration createGeneration() throws IOException {
+        return new IndexGeneration(Files.createTempDirectory(indexPath, GENERATION_PREFIX), analyzer);
+    }
+
+    private void discard(IndexGeneration generation) {
+        if (generation == null) {
+            return;
+        }
+        try {
+            generation.close();
+            IOUtils.rm(generation.path);
+        } catch (IOException e) {
+            log.warn("이전 매장 Lucene 인덱스 삭제 실패 : {}", generation.path, e);
+        }
+    }
+
+    /**
+     *  시작 시 인덱스는 DB 에서 다시 만드므로 지난 실행의 디렉터리는 지움
+     */
+    private void deleteGenerations() throws IOException {
+        try (DirectoryStream<Path> generations = Files.newDirectoryStream(indexPath, GENERATION_PREFIX + "*")) {
+            for (Path generation : generations) {
+                IOUtils.rm(generation);
+            }
+        }
+    }
+
+    @Override
+    public List<ShopSearchHit> findHits(String keyword, String city, SearchMode searchMode) {
+        Query query = available && searchMode != SearchMode.CHOSUNG ? buildQuery(keyword, city, searchMode) : null;
+        if (query == null) {
+            return shopNameIndex.findHits(keyword, city, searchMode);
+        }
+        try {
+            return search(query, keyword);
+        } catch (IOException | AlreadyClosedException e) {
+            log.error("매장 Lucene 검색 실패, 메모리 인덱스로 검색", e);
+            return shopNameIndex.findHits(keyword, city, searchMode);
+        }
+    }
+
+    /**
+     *  검색어 형태소가 모두 이름 / 도로명 / 도시 형태소에 있거나, 우편번호가 같거나, 오타 검색에서 이름 단어가 허용 거리 안이면 true
+     */
+    @Override
+    public boolean matches(ShopSearchDocument shop, String keyword, SearchMode searchMode) {
+        if (!available || searchMode == SearchMode.CHOSUNG) {
+            return shopNameIndex.matches(shop, keyword, searchMode);
+        }
+        if (keyword.trim().equals(shop.getZipcode())) {
+            return true;
+        }
+        if (searchMode == SearchMode.FUZZY && ShopNameIndex.matches(shop.getName(), keyword, searchMode)) {
+            return true;
+        }
+        List<String> terms = analyze(NAME, keyword);
+        Set<String> shopTerms = new HashSet<>(analyze(NAME, valueOf(shop.getName())));
+        shopTerms.addAll(analyze(STREET, valueOf(shop.getStreet())));
+        shopTerms.addAll(analyze(CITY, valueOf(shop.getCity())));
+        return !terms.isEmpty() && shopTerms.containsAll(terms);
+    }
+
+    private List<ShopSearchHit> search(Query query, String keyword) throws IOException {
+        String normalizedKeyword = ShopNamePartition.normalize(keyword);
+        SearcherManager searcherManager = index.searcherManager;
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            List<ShopSearchHit> hits = new ArrayList<>();
+            for (ScoreDoc scoreDoc : searcher.search(query, maxHits).scoreDocs) {
+                Document document = searcher.doc(scoreDoc.doc);
+                ShopSearchEntry entry = new ShopSearchEntry(Long.valueOf(document.get(ID)), document.get(NAME),
+                        document.get(STREET), document.get(CITY));
+                int rank = ShopNamePartition.normalize(entry.getName()).contains(normalizedKeyword) ? 0 : 1;
+                hits.add(new ShopSearchHit(entry, rank));
+            }
+            return hits;
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    /**
+     *  검색어 형태소가 모두 이름 / 도로명 / 도시 중 한 곳에 있거나 우편번호가 같은 매장, 오타 검색은 이름 단어별 편집 거리도 허용
+     *  분석 후 남는 단어가 없으면 null
+     */
+    private Query buildQuery(String keyword, String city, SearchMode searchMode) {
+        List<String> terms = analyze(NAME, keyword);
+        if (terms.isEmpty()) {
+            return null;
+        }
+        BooleanQuery.Builder textQuery = new BooleanQuery.Builder();
+        for (String term : terms) {
+            textQuery.add(new DisjunctionMaxQuery(Arrays.asList(
+                    new BoostQuery(new TermQuery(new Term(NAME, term)), NAME_BOOST),
+                    new TermQuery(new Term(STREET, term)),
+                    new TermQuery(new Term(CITY, term))), TIE_BREAKER), BooleanClause.Occur.MUST);
+        }
+        BooleanQuery.Builder query = new BooleanQuery.Builder()
+                .add(textQuery.build(), BooleanClause.Occur.SHOULD)
+                .add(new TermQuery(new Term(ZIPCODE, keyword.trim())), BooleanClause.Occur.SHOULD)
+                .setMinimumNumberShouldMatch(1);
+        if (searchMode == SearchMode.FUZZY) {
+            query.add(buildFuzzyQuery(keyword), BooleanClause.Occur.SHOULD);
+        }
+        if (city != null) {
+            query.add(new TermQuery(new Term(CITY_KEY, city)), BooleanClause.Occur.FILTER);
+        }
+        return query.build();
+    }
+
+    private Query buildFuzzyQuery(String keyword) {
+        BooleanQuery.Builder fuzzyQuery = new BooleanQuery.Builder();
+        for (String token : analyze(NAME_TOKENS, keyword)) {
+            fuzzyQuery.add(new FuzzyQuery(new Term(NAME_TOKENS, token), ShopNameIndex.maxEditDistance(token)), BooleanClause.Occur.MUST);
+        }
+        return fuzzyQuery.build();
+    }
+
+    private List<String> analyze(String field, String text) {
+        List<String> terms = new ArrayList<>();
+        try (TokenStream tokenStream = analyzer.tokenStream(field, text)) {
+            CharTermAttribute term = tokenStream.addAttribute(CharTermAttribute.class);
+            tokenStream.reset();
+            while (tokenStream.incrementToken()) {
+                terms.add(term.toString());
+            }
+            tokenStream.end();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return terms;
+    }
+
+    private static Document toDocument(ShopSearchDocument shop) {
+        Document document = new Document();
+        document.add(new StringField(ID, String.valueOf(shop.getShopId()), Field.Store.YES));
+        document.add(new TextField(NAME, valueOf(shop.getName()), Field.Store.YES));
+        document.add(new TextField(NAME_TOKENS, valueOf(shop.getName()), Field.Store.NO));
+        if (shop.getStreet() != null) {
+            document.add(new TextField(STREET, shop.getStreet(), Field.Store.YES));
+        }
+        if (shop.getCity() != null) {
+            document.add(new TextField(CITY, shop.getCity(), Field.Store.YES));
+            document.add(new StringField(CITY_KEY, shop.getCity(), Field.Store.NO));
+        }
+        if (shop.getZipcode() != null) {
+            document.add(new StringField(ZIPCODE, shop.getZipcode(), Field.Store.YES));
+        }
+        return document;
+    }
+
+    private static String valueOf(String text) {
+        return text == null ? "" : text;
+    }
+
+    /**
+     *  이름 / 도로명 / 도시 : nori (복합명사는 원형과 분해형 모두 색인), 오타 검색용 이름 단어 : 공백 분리 + 소문자
+     */
+    private static Analyzer createAnalyzer() {
+        Analyzer korean = new KoreanAnalyzer(null, KoreanTokenizer.DecompoundMode.MIXED,
+                KoreanPartOfSpeechStopFilter.DEFAULT_STOP_TAGS, false);
+        Analyzer whitespace = new Analyzer() {
+            @Override
+            protected TokenStreamComponents createComponents(String fieldName) {
+                Tokenizer tokenizer = new WhitespaceTokenizer();
+                return new TokenStreamComponents(tokenizer, new LowerCaseFilter(tokenizer));
+            }
+        };
+        Map<String, Analyzer> analyzers = new HashMap<>();
+        analyzers.put(NAME_TOKENS, whitespace);
+        analyzers.put(ZIPCODE, new KeywordAnalyzer());
+        return new PerFieldAnalyzerWrapper(korean, analyzers);
+    }
+
+    private static class IndexGeneration implements Closeable {
+
+        private final Path path;
+        private final Directory directory;
+        private final IndexWriter writer;
+        private final SearcherManager searcherManager;
+
+        private IndexGeneration(Path path, Analyzer analyzer) throws IOException {
+            this.path = path;
+            this.directory = FSDirectory.open(path);
+            this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer));
+            this.searcherManager = new SearcherManager(writer, null);
+        }
+
+        @Override
+        public void close() throws IOException {
+            IOUtils.close(searcherManager, writer, directory);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.minionz.backend.shop.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ *  문자 단위 unigram/bigram 역색인
+ *  한글 음절은 char 하나이므로 음절 단위로 gram 을 만듦
+ *  결과는 후보 문서 번호이므로 호출자가 원문 포함 여부를 다시 확인해야 함
+ */
+final class NgramIndex {
+
+    private static final int[] EMPTY = new int[0];
+
+    private final Map<Integer, PostingList> unigrams = new HashMap<>();
+    private final Map<Integer, PostingList> bigrams = new HashMap<>();
+
+    /**
+     *  문서 번호는 증가하는 순서로만 추가
+     */
+    void add(int document, String text) {
+        for (int i = 0; i < text.length(); i++) {
+            unigrams.computeIfAbsent((int) text.charAt(i), key -> new PostingList()).add(document);
+            if (i + 1 < text.length()) {
+                bigrams.computeIfAbsent(bigram(text, i), key -> new PostingList()).add(document);
+            }
+        }
+    }
+
+    /**
+     *  빈 검색어는 null (전체 후보)
+     */
+    int[] candidates(String query) {
+        if (query.isEmpty()) {
+            return null;
+        }
+        if (query.length() == 1) {
+            PostingList postingList = unigrams.get((int) query.charAt(0));
+            return postingList == null ? EMPTY : postingList.toArray();
+        }
+        List<PostingList> postingLists = new ArrayList<>();
+        for (int i = 0; i + 1 < query.length(); i++) {
+            PostingList postingList = bigrams.get(bigram(query, i));
+            if (postingList == null) {
+                return EMPTY;
+            }
+            if (!postingLists.contains(postingList)) {
+                postingLists.add(postingList);
+            }
+        }
+        return intersect(postingLists);
+    }
+
+    private static int[] intersect(List<PostingList> postingLists) {
+        if (postingLists.isEmpty()) {
+            return null;
+        }
+        postingLists.sort(Comparator.comparingInt(PostingList::count));
+        int[] candidates = postingLists.get(0).toArray();
+        for (int i = 1; i < postingLists.size() && candidates.length > 0; i++) {
+            candidates = postingLists.get(i).retainAll(candidates, candidates.length);
+        }
+        return candidates;
+    }
+
+    /**
+     *  공백을 제외한 query 의 모든 문자를 포함하는 문서 (순서 무관)
+     */
+    int[] candidatesContainingAll(String query) {
+        List<PostingList> postingLists = new ArrayList<>();
+        for (int i = 0; i < query.length(); i++) {
+            if (Character.isWhitespace(query.charAt(i))) {
+                continue;
+            }
+            PostingList postingList = unigrams.get((int) query.charAt(i));
+            if (postingList == null) {
+                return EMPTY;
+            }
+            if (!postingLists.contains(postingList)) {
+                postingLists.add(postingList);
+            }
+        }
+        return intersect(postingLists);
+    }
+
+    long sizeInBytes() {
+        long size = 0;
+        for (PostingList postingList : unigrams.values()) {
+            size += postingList.sizeInBytes();
+        }
+        for (PostingList postingList : bigrams.values()) {
+            size += postingList.sizeInBytes();
+        }
+        return size;
+    }
+
+    private static int bigram(String text, int index) {
+        return text.charAt(index) << 16 | text.charAt(index + 1);
+    }
+}
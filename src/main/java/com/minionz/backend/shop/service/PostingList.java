@@ -0,0 +1,99 @@
+package com.minionz.backend.shop.service;
+
+import java.util.Arrays;
+
+/**
+ *  오름차순 문서 번호 목록을 차이값 varint 로 압축해 저장
+ */
+final class PostingList {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private byte[] data = new byte[INITIAL_CAPACITY];
+    private int length;
+    private int count;
+    private int last = -1;
+
+    /**
+     *  문서 번호는 증가하는 순서로만 추가
+     */
+    void add(int document) {
+        if (document <= last) {
+            return;
+        }
+        int delta = last < 0 ? document : document - last;
+        ensureCapacity(length + 5);
+        while ((delta & ~0x7F) != 0) {
+            data[length++] = (byte) (delta & 0x7F | 0x80);
+            delta >>>= 7;
+        }
+        data[length++] = (byte) delta;
+        last = document;
+        count++;
+    }
+
+    int count() {
+        return count;
+    }
+
+    int[] toArray() {
+        int[] documents = new int[count];
+        int position = 0;
+        int document = 0;
+        for (int i = 0; i < count; i++) {
+            int delta = 0;
+            int shift = 0;
+            byte value;
+            do {
+                value = data[position++];
+                delta |= (value & 0x7F) << shift;
+                shift += 7;
+            } while (value < 0);
+            document = i == 0 ? delta : document + delta;
+            documents[i] = document;
+        }
+        return documents;
+    }
+
+    /**
+     *  정렬된 후보 목록 중 이 목록에도 있는 문서만 남김
+     */
+    int[] retainAll(int[] candidates, int candidateCount) {
+        int[] retained = new int[Math.min(candidateCount, count)];
+        int retainedCount = 0;
+        int position = 0;
+        int document = 0;
+        int decoded = 0;
+        int candidateIndex = 0;
+        while (candidateIndex < candidateCount && decoded < count) {
+            int delta = 0;
+            int shift = 0;
+            byte value;
+            do {
+                value = data[position++];
+                delta |= (value & 0x7F) << shift;
+                shift += 7;
+            } while (value < 0);
+            document = decoded == 0 ? delta : document + delta;
+            decoded++;
+            while (candidateIndex < candidateCount && candidates[candidateIndex] < document) {
+                candidateIndex++;
+            }
+            if (candidateIndex < candidateCount && candidates[candidateIndex] == document) {
+                retained[retainedCount++] = document;
+                candidateIndex++;
+            }
+        }
+        return Arrays.copyOf(retained, retainedCount);
+    }
+
+    int sizeInBytes() {
+        return length;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > data.length) {
+            data = Arrays.copyOf(data, Math.max(capacity, data.length * 2));
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.minionz.backend.shop.service;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ *  자동완성용 배열 트라이
+ *  노드마다 자식 문자/노드 번호와 점수 상위 k 개 문서를 배열 구간으로 저장하고, 정렬된 키에서 한 번에 만듦
+ *  조회는 접두어 길이만큼 자식을 이진 탐색한 뒤 미리 계산한 구간을 그대로 돌려줌
+ *
+ *  @param <T> 문서별 제안 값
+ */
+final class PrefixTrie<T> {
+
+    private final int[] childStart;
+    private final char[] childLabels;
+    private final int[] childNodes;
+    private final int[] topStart;
+    private final int[] topDocuments;
+    private final T[] suggestions;
+
+    private PrefixTrie(int[] childStart, char[] childLabels, int[] childNodes, int[] topStart, int[] topDocuments, T[] suggestions) {
+        this.childStart = childStart;
+        this.childLabels = childLabels;
+        this.childNodes = childNodes;
+        this.topStart = topStart;
+        this.topDocuments = topDocuments;
+        this.suggestions = suggestions;
+    }
+
+    /**
+     *  @param keys      문서별 색인 키 목록 (문서 하나에 여러 키 가능)
+     *  @param ranking   문서 우선순위 (앞설수록 먼저 제안)
+     */
+    static <T> PrefixTrie<T> build(List<List<String>> keys, T[] suggestions, Comparator<Integer> ranking, int maxSuggestions) {
+        int keyCount = keys.stream().mapToInt(List::size).sum();
+        String[] sortedKeys = new String[keyCount];
+        int[] keyDocuments = new int[keyCount];
+        Integer[] order = new Integer[keyCount];
+        int index = 0;
+        for (int document = 0; document < keys.size(); document++) {
+            for (String key : keys.get(document)) {
+                sortedKeys[index] = key;
+                keyDocuments[index] = document;
+                order[index] = index;
+                index++;
+            }
+        }
+        Arrays.sort(order, Comparator.comparing((Integer i) -> sortedKeys[i]));
+        String[] orderedKeys = new String[keyCount];
+        int[] orderedDocuments = new int[keyCount];
+        for (int i = 0; i < keyCount; i++) {
+            orderedKeys[i] = sortedKeys[order[i]];
+            orderedDocuments[i] = keyDocuments[order[i]];
+        }
+        Builder builder = new Builder(orderedKeys, orderedDocuments, ranking, maxSuggestions);
+        builder.build();
+        return new PrefixTrie<>(builder.childStart.toArray(), builder.childLabels(), builder.childNodes.toArray(),
+                builder.topStart.toArray(), builder.topDocuments.toArray(), suggestions);
+    }
+
+    /**
+     *  prefix 로 시작하는 키를 가진 문서의 제안 값을 우선순위 순으로 최대 limit 개
+     */
+    List<T> suggest(String prefix, int limit) {
+        int node = 0;
+        for (int i = 0; i < prefix.length() && node >= 0; i++) {
+            node = child(node, prefix.charAt(i));
+        }
+        if (node < 0) {
+            return Collections.emptyList();
+        }
+        int start = topStart[node];
+        int count = Math.min(limit, topStart[node + 1] - start);
+        return new SuggestionList<>(topDocuments, start, count, suggestions);
+    }
+
+    private int child(int node, char label) {
+        int found = Arrays.binarySearch(childLabels, childStart[node], childStart[node + 1], label);
+        return found < 0 ? -1 : childNodes[found];
+    }
+
+    private static final class SuggestionList<T> extends AbstractList<T> {
+
+        private final int[] documents;
+        private final int start;
+        private final int size;
+        private final T[] suggestions;
+
+        private SuggestionList(int[] documents, int start, int size, T[] suggestions) {
+            this.documents = documents;
+            this.start = start;
+            this.size = size;
+            this.suggestions = suggestions;
+        }
+
+        @Override
+        public T get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException(String.valueOf(index));
+            }
+            return suggestions[documents[start + index]];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    /**
+     *  정렬된 키 구간을 깊이 우선으로 내려가며 노드 번호를 매기고, 자식 구간과 상위 k 문서를 노드 번호 순으로 기록
+     */
+    private static final class Builder {
+
+        private final String[] keys;
+        private final int[] documents;
+        private final Comparator<Integer> ranking;
+        private final int maxSuggestions;
+        private final IntArray childStart = new IntArray();
+        private final IntArray childLabelCodes = new IntArray();
+        private final IntArray childNodes = new IntArray();
+        private final IntArray topStart = new IntArray();
+        private final IntArray topDocuments = new IntArray();
+        private int[][] nodeChildren = new int[16][];
+        private char[][] nodeLabels = new char[16][];
+        private int[][] nodeTops = new int[16][];
+        private int nodeCount;
+
+        private Builder(String[] keys, int[] documents, Comparator<Integer> ranking, int maxSuggestions) {
+            this.keys = keys;
+            this.documents = documents;
+            this.ranking = ranking;
+            this.maxSuggestions = maxSuggestions;
+        }
+
+        private void build() {
+            buildNode(0, keys.length, 0);
+            for (int node = 0; node < nodeCount; node++) {
+                childStart.add(childNodes.size());
+                for (int i = 0; i < nodeChildren[node].length; i++) {
+                    childLabelCodes.add(nodeLabels[node][i]);
+                    childNodes.add(nodeChildren[node][i]);
+                }
+                topStart.add(topDocuments.size());
+                for (int document : nodeTops[node]) {
+                    topDocuments.add(document);
+                }
+            }
+            childStart.add(childNodes.size());
+            topStart.add(topDocuments.size());
+            nodeChildren = null;
+            nodeLabels = null;
+            nodeTops = null;
+        }
+
+        private int buildNode(int low, int high, int depth) {
+            int node = nodeCount++;
+            ensureNodeCapacity(nodeCount);
+            IntArray candidates = new IntArray();
+            IntArray children = new IntArray();
+            IntArray labels = new IntArray();
+            int i = low;
+            while (i < high && keys[i].length() == depth) {
+                candidates.add(documents[i]);
+                i++;
+            }
+            while (i < high) {
+                char label = keys[i].charAt(depth);
+                int groupEnd = i + 1;
+                while (groupEnd < high && keys[groupEnd].charAt(depth) == label) {
+                    groupEnd++;
+                }
+                int child = buildNode(i, groupEnd, depth + 1);
+                children.add(child);
+                labels.add(label);
+                for (int document : nodeTops[child]) {
+                    candidates.add(document);
+                }
+                i = groupEnd;
+            }
+            nodeChildren[node] = children.toArray();
+            char[] nodeLabel = new char[labels.size()];
+            for (int j = 0; j < nodeLabel.length; j++) {
+                nodeLabel[j] = (char) labels.get(j);
+            }
+            nodeLabels[node] = nodeLabel;
+            nodeTops[node] = top(candidates.toArray());
+            return node;
+        }
+
+        private int[] top(int[] candidates) {
+            return Arrays.stream(candidates)
+                    .distinct()
+                    .boxed()
+                    .sorted(ranking)
+                    .limit(maxSuggestions)
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+        }
+
+        private void ensureNodeCapacity(int capacity) {
+            if (capacity > nodeChildren.length) {
+                int newCapacity = Math.max(capacity, nodeChildren.length * 2);
+                nodeChildren = Arrays.copyOf(nodeChildren, newCapacity);
+                nodeLabels = Arrays.copyOf(nodeLabels, newCapacity);
+                nodeTops = Arrays.copyOf(nodeTops, newCapacity);
+            }
+        }
+
+        private char[] childLabels() {
+            char[] labels = new char[childLabelCodes.size()];
+            for (int i = 0; i < labels.length; i++) {
+                labels[i] = (char) childLabelCodes.get(i);
+            }
+            return labels;
+        }
+    }
+
+    private static final class IntArray {
+
+        private int[] values = new int[4];
+        private int size;
+
+        private void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        private int get(int index) {
+            return values[index];
+        }
+
+        private int size() {
+            return size;
+        }
+
+        private int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.minionz.backend.shop.service;
+
+import com.minionz.backend.shop.controller.dto.AutocompleteResponseDto;
+import com.minionz.backend.shop.domain.Shop;
+import com.minionz.backend.shop.domain.ShopChangedEvent;
+import com.minionz.backend.shop.domain.ShopRepository;
+import com.minionz.backend.shop.domain.ShopSearchEntry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ *  매장 이름 자동완성 인덱스
+ *  이름 전체와 띄어쓰기 뒤 단어 시작 위치를 키로 쓰고, 노드마다 최근 방문 수 상위 매장을 미리 계산
+ *  매장 변경은 트라이를 다시 만들지 않고 변경분으로 모아 조회 시 합치며, 변경분이 쌓이거나 순위 반영 주기가 지나면 백그라운드에서 다시 만듦
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ShopAutocompleteIndex {
+
+    public static final int MAX_SUGGESTIONS = 10;
+    private static final long RANKING_REFRESH_MILLIS = TimeUnit.MINUTES.toMillis(10);
+    private static final Comparator<Suggestion> RANKING = Comparator.comparingLong((Suggestion suggestion) -> suggestion.visitCount)
+            .reversed()
+            .thenComparing(suggestion -> suggestion.response.getId());
+
+    private final ShopRepository shopRepository;
+    private final ShopPopularity shopPopularity;
+    private final ConcurrentMap<Long, Change> changes = new ConcurrentHashMap<>();
+    private final AtomicLong changeSequence = new AtomicLong();
+    private volatile PrefixTrie<Suggestion> trie = build(Collections.emptyList());
+    private volatile long builtAt;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        long sequence = changeSequence.get();
+        List<ShopSearchEntry> entries = shopRepository.findAllSearchEntries();
+        trie = build(entries.stream()
+                .map(entry -> suggestionOf(entry.getShopId(), entry.getName()))
+                .collect(Collectors.toList()));
+        changes.values().removeIf(change -> change.sequence <= sequence);
+        builtAt = System.currentTimeMillis();
+        log.info("매장 자동완성 인덱스 적재 : {}건", entries.size());
+    }
+
+    @TransactionalEventListener
+    public void onShopChanged(ShopChangedEvent event) {
+        Shop shop = event.getShop();
+        Suggestion suggestion = event.isDeleted() ? null : suggestionOf(event.getShopId(), shop.getName());
+        changes.put(event.getShopId(), new Change(changeSequence.incrementAndGet(), suggestion));
+    }
+
+    @Scheduled(fixedDelayString = "${qrna.autocomplete.refresh-delay-ms:30000}")
+    public void refresh() {
+        if (changes.size() >= MAX_SUGGESTIONS || System.currentTimeMillis() - builtAt >= RANKING_REFRESH_MILLIS) {
+            rebuild();
+        }
+    }
+
+    /**
+     *  트라이는 노드마다 MAX_SUGGESTIONS 의 두 배를 들고 있어 변경분이 MAX_SUGGESTIONS 개 미만이면 빠진 매장을 채울 수 있음
+     */
+    public List<AutocompleteResponseDto> suggest(String prefix, int limit) {
+        String normalizedPrefix = normalize(prefix);
+        List<Suggestion> suggestions = trie.suggest(normalizedPrefix, changes.isEmpty() ? limit : MAX_SUGGESTIONS * 2);
+        if (!changes.isEmpty()) {
+            suggestions = merge(suggestions, normalizedPrefix);
+        }
+        return suggestions.stream()
+                .limit(limit)
+                .map(suggestion -> suggestion.response)
+                .collect(Collectors.toList());
+    }
+
+    private List<Suggestion> merge(List<Suggestion> indexed, String normalizedPrefix) {
+        List<Suggestion> merged = new ArrayList<>();
+        for (Suggestion suggestion : indexed) {
+            if (!changes.containsKey(suggestion.response.getId())) {
+                merged.add(suggestion);
+            }
+        }
+        for (Change change : changes.values()) {
+            if (change.suggestion != null && change.suggestion.matches(normalizedPrefix)) {
+                merged.add(change.suggestion);
+            }
+        }
+        merged.sort(RANKING);
+        return merged;
+    }
+
+    private PrefixTrie<Suggestion> build(List<Suggestion> suggestions) {
+        List<List<String>> keys = suggestions.stream()
+                .map(suggestion -> keysOf(suggestion.response.getName()))
+                .collect(Collectors.toList());
+        Suggestion[] documents = suggestions.toArray(new Suggestion[0]);
+        return PrefixTrie.build(keys, documents, (first, second) -> RANKING.compare(documents[first], documents[second]), MAX_SUGGESTIONS * 2);
+    }
+
+    private Suggestion suggestionOf(Long shopId, String name) {
+        return new Suggestion(new AutocompleteResponseDto(shopId, name), shopPopularity.visitCountOf(shopId));
+    }
+
+    private static List<String> keysOf(String name) {
+        String normalizedName = normalize(name);
+        List<String> keys = new ArrayList<>();
+        keys.add(normalizedName);
+        for (int i = 1; i < normalizedName.length(); i++) {
+            if (normalizedName.charAt(i - 1) == ' ' && normalizedName.charAt(i) != ' ') {
+                keys.add(normalizedName.substring(i));
+            }
+        }
+        return keys;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Suggestion {
+
+        private final AutocompleteResponseDto response;
+        private final long visitCount;
+
+        private Suggestion(AutocompleteResponseDto response, long visitCount) {
+            this.response = response;
+            this.visitCount = visitCount;
+        }
+
+        private boolean matches(String normalizedPrefix) {
+            return keysOf(response.getName()).stream().anyMatch(key -> key.startsWith(normalizedPrefix));
+        }
+    }
+
+    /**
+     *  마지막으로 트라이를 만든 뒤의 매장 변경, suggestion 이 null 이면 삭제
+     */
+    private static final class Change {
+
+        private final long sequence;
+        private final Suggestion suggestion;
+
+        private Change(long sequence, Suggestion suggestion) {
+            this.sequence = sequence;
+            this.suggestion = suggestion;
+        }
+    }
+}
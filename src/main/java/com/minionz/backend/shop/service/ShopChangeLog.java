@@ -0,0 +1,85 @@
+package com.minionz.backend.shop.service;
+
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ *  매장 하나의 버전과 최근 테이블 변경 기록 (크기가 capacity 인 원형 버퍼)
+ *  floor 이후의 변경은 모두 남아 있으므로 since >= floor 이면 바뀐 테이블만, 아니면 전체 재동기화
+ *  매장 정보가 바뀌면 테이블 구성이 달라졌을 수 있으므로 기록을 비우고 floor 를 현재 버전으로 올림
+ */
+class ShopChangeLog {
+
+    private final long[] versions;
+    private final long[] tableIds;
+    private int head;
+    private int size;
+    private long version;
+    private long floor;
+
+    ShopChangeLog(int capacity, long initialVersion) {
+        this.versions = new long[capacity];
+        this.tableIds = new long[capacity];
+        this.version = initialVersion;
+        this.floor = initialVersion;
+    }
+
+    synchronized void recordTable(long tableId) {
+        version++;
+        if (size == versions.length) {
+            floor = versions[head];
+            head = (head + 1) % versions.length;
+            size--;
+        }
+        int tail = (head + size) % versions.length;
+        versions[tail] = version;
+        tableIds[tail] = tableId;
+        size++;
+    }
+
+    synchronized void recordShop() {
+        version++;
+        floor = version;
+        head = 0;
+        size = 0;
+    }
+
+    synchronized ShopVersion version(String epoch) {
+        return new ShopVersion(epoch, version);
+    }
+
+    synchronized Changes changesSince(long since) {
+        if (since < floor || since > version) {
+            return Changes.fullResync(version);
+        }
+        Set<Long> changedTableIds = new LinkedHashSet<>();
+        for (int i = 0; i < size; i++) {
+            int index = (head + i) % versions.length;
+            if (versions[index] > since) {
+                changedTableIds.add(tableIds[index]);
+            }
+        }
+        return new Changes(version, false, changedTableIds);
+    }
+
+    @Getter
+    static class Changes {
+
+        private final long version;
+        private final boolean fullResync;
+        private final Set<Long> tableIds;
+
+        Changes(long version, boolean fullResync, Set<Long> tableIds) {
+            this.version = version;
+            this.fullResync = fullResync;
+            this.tableIds = tableIds;
+        }
+
+        static Changes fullResync(long version) {
+            return new Changes(version, true, Collections.emptySet());
+        }
+    }
+}
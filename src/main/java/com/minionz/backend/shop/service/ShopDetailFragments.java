@@ -0,0 +1,76 @@
+package com.minionz.backend.shop.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.minionz.backend.shop.controller.dto.ShopDetailFragment;
+import com.minionz.backend.shop.controller.dto.ShopDetailResponseDto;
+import com.minionz.backend.shop.domain.ShopChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ *  매장 상세의 정적인 부분과 그 JSON 을 매장별로 한 번만 만들어 두는 캐시
+ *  매장이 저장 / 수정 / 삭제되면 버리고 다음 조회에서 다시 만듦
+ */
+@Component
+public class ShopDetailFragments {
+
+    private final ObjectMapper objectMapper;
+    private final Cache<Long, ShopDetailFragment> cache;
+    private final AtomicLong generation = new AtomicLong();
+
+    public ShopDetailFragments(ObjectMapper objectMapper,
+                               @Value("${qrna.shop-detail-cache.maximum-size:10000}") long maximumSize) {
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .executor(Runnable::run)
+                .build();
+    }
+
+    /**
+     *  loader 는 정적인 필드만 채운 상세 DTO 를 돌려줌, 만드는 동안 매장이 바뀌었으면 결과만 돌려주고 넣지 않음
+     */
+    public ShopDetailFragment get(Long shopId, Supplier<ShopDetailResponseDto> loader) {
+        ShopDetailFragment cached = cache.getIfPresent(shopId);
+        if (cached != null) {
+            return cached;
+        }
+        long loadGeneration = generation.get();
+        ShopDetailFragment fragment = encode(loader.get());
+        synchronized (this) {
+            if (generation.get() == loadGeneration) {
+                cache.put(shopId, fragment);
+            }
+        }
+        return fragment;
+    }
+
+    @TransactionalEventListener
+    public void onShopChanged(ShopChangedEvent event) {
+        synchronized (this) {
+            generation.incrementAndGet();
+            cache.invalidate(event.getShopId());
+        }
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    private ShopDetailFragment encode(ShopDetailResponseDto staticPart) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(staticPart);
+            return new ShopDetailFragment(staticPart, Arrays.copyOf(json, json.length - 1));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("매장 상세 직렬화 오류", e);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.minionz.backend.shop.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.minionz.backend.shop.controller.dto.ShopExportResponseDto;
+import com.minionz.backend.shop.domain.CongestionStatus;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ *  전체 매장 NDJSON 내보내기
+ *  한 방향 JDBC 커서로 읽은 행을 바로 한 줄씩 쓰고 flushRows 행마다 내보내므로 엔티티, 영속성 컨텍스트, 전체 목록이 생기지 않음
+ *  MariaDB 드라이버(mariadb-java-client)는 fetch size 가 0 보다 크면 결과를 그 행 수만큼씩 나눠 받아오므로 기본값 1000 으로 스트리밍
+ *  (MySQL 드라이버용 Integer.MIN_VALUE 도 받지만 한 행씩 받아와 왕복만 늘어남)
+ *  전체를 쓰는 데 기본 비동기 제한 시간(30초)보다 오래 걸릴 수 있으므로 내보내기 요청만 timeoutMillis 로 따로 제한
+ *  커서가 열려 있는 동안 같은 커넥션을 쓰면 안 되므로 트랜잭션 없이 돌고, 혼잡도도 레지스트리가 아닌 shop 컬럼 값을 씀
+ */
+@Slf4j
+@Service
+public class ShopExportService {
+
+    private static final String EXPORT_SQL = "select shop_id, shop_name, tel_number, zipcode, street, city, latitude, longitude,"
+            + " number_of_tables, max_user, congestion_status from shop order by shop_id";
+    private static final String EXPORT_MESSAGE = "매장 목록 내보내기";
+    private static final byte LINE_SEPARATOR = '\n';
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectWriter objectWriter;
+    private final int flushRows;
+    @Getter
+    private final long timeoutMillis;
+
+    public ShopExportService(DataSource dataSource,
+                             ObjectMapper objectMapper,
+                             @Value("${qrna.export.fetch-size:1000}") int fetchSize,
+                             @Value("${qrna.export.flush-rows:1000}") int flushRows,
+                             @Value("${qrna.export.timeout-ms:1800000}") long timeoutMillis) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.objectWriter = objectMapper.writerFor(ShopExportResponseDto.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+        this.flushRows = flushRows;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    public long export(OutputStream outputStream) throws IOException {
+        long[] count = new long[1];
+        try {
+            jdbcTemplate.query(EXPORT_SQL, resultSet -> {
+                write(outputStream, toShopExportResponseDto(resultSet));
+                if (++count[0] % flushRows == 0) {
+                    flush(outputStream);
+                }
+            });
+        } catch (UncheckedIOException exception) {
+            throw exception.getCause();
+        }
+        outputStream.flush();
+        log.info("{} : {}", EXPORT_MESSAGE, count[0]);
+        return count[0];
+    }
+
+    private void write(OutputStream outputStream, ShopExportResponseDto shopExportResponseDto) {
+        try {
+            objectWriter.writeValue(outputStream, shopExportResponseDto);
+            outputStream.write(LINE_SEPARATOR);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private void flush(OutputStream outputStream) {
+        try {
+            outputStream.flush();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private ShopExportResponseDto toShopExportResponseDto(ResultSet resultSet) throws SQLException {
+        String congestionStatus = resultSet.getString("congestion_status");
+        return new ShopExportResponseDto(
+                resultSet.getLong("shop_id"),
+                resultSet.getString("shop_name"),
+                resultSet.getString("tel_number"),
+                resultSet.getString("zipcode"),
+                resultSet.getString("street"),
+                resultSet.getString("city"),
+                resultSet.getDouble("latitude"),
+                resultSet.getDouble("longitude"),
+                resultSet.getInt("number_of_tables"),
+                resultSet.getInt("max_user"),
+                congestionStatus == null ? null : CongestionStatus.valueOf(congestionStatus));
+    }
+}
@@ -0,0 +1,62 @@
+package com.minionz.backend.shop.service;
+
+import com.minionz.backend.common.domain.Geohash;
+import com.minionz.backend.shop.domain.ShopLocation;
+import com.minionz.backend.shop.domain.ShopRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ *  geohash 컬럼 추가 전에 저장된 매장의 geohash 채우기
+ *  엔티티를 한 트랜잭션에 모두 올리지 않도록 id 순으로 좌표만 읽어 배치 단위로 갱신
+ */
+@Slf4j
+@Component
+public class ShopGeohashInitializer {
+
+    private static final String UPDATE_GEOHASH_SQL = "update shop set geohash = ? where shop_id = ?";
+
+    private final ShopRepository shopRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    public ShopGeohashInitializer(ShopRepository shopRepository, JdbcTemplate jdbcTemplate,
+                                  @Value("${qrna.geohash.backfill-batch-size:500}") int batchSize) {
+        this.shopRepository = shopRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public int initialize() {
+        int count = 0;
+        long afterId = 0;
+        List<ShopLocation> locations;
+        do {
+            locations = shopRepository.findLocationsWithoutGeohashAfter(afterId, PageRequest.of(0, batchSize));
+            List<Object[]> rows = new ArrayList<>();
+            for (ShopLocation location : locations) {
+                if (location.hasCoordinates()) {
+                    rows.add(new Object[]{Geohash.encode(location.getLatitude(), location.getLongitude()), location.getShopId()});
+                }
+                afterId = location.getShopId();
+            }
+            if (!rows.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPDATE_GEOHASH_SQL, rows);
+            }
+            count += rows.size();
+        } while (locations.size() == batchSize);
+        if (count > 0) {
+            log.info("매장 geohash 초기화 : {}건", count);
+        }
+        return count;
+    }
+}
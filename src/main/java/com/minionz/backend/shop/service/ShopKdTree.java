@@ -0,0 +1,251 @@
+package com.minionz.backend.shop.service;
+
+import com.minionz.backend.common.domain.GeoArea;
+
+import java.util.PriorityQueue;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ *  매장 좌표 KD 트리
+ *  노드 객체 없이 좌표 배열 자체를 구간 중앙값 순서로 재배치해 트리로 사용 (짝수 깊이는 위도, 홀수 깊이는 경도 기준)
+ */
+final class ShopKdTree {
+
+    private final long[] ids;
+    private final double[] latitudes;
+    private final double[] longitudes;
+
+    private ShopKdTree(long[] ids, double[] latitudes, double[] longitudes) {
+        this.ids = ids;
+        this.latitudes = latitudes;
+        this.longitudes = longitudes;
+    }
+
+    /**
+     *  전달한 배열을 그대로 재배치해 사용하므로 호출자는 이후 배열을 수정하지 않아야 함
+     */
+    static ShopKdTree build(long[] ids, double[] latitudes, double[] longitudes) {
+        ShopKdTree tree = new ShopKdTree(ids, latitudes, longitudes);
+        tree.arrange(0, ids.length, 0);
+        return tree;
+    }
+
+    int size() {
+        return ids.length;
+    }
+
+    long id(int index) {
+        return ids[index];
+    }
+
+    double latitude(int index) {
+        return latitudes[index];
+    }
+
+    double longitude(int index) {
+        return longitudes[index];
+    }
+
+    /**
+     *  위도/경도 사각 영역 안의 좌표 인덱스를 전달 (경도 범위는 -180 ~ 180 안이어야 함)
+     */
+    void search(double minLatitude, double maxLatitude, double minLongitude, double maxLongitude, IndexConsumer consumer) {
+        search(0, ids.length, 0, minLatitude, maxLatitude, minLongitude, maxLongitude, consumer);
+    }
+
+    private void search(int low, int high, int depth, double minLatitude, double maxLatitude, double minLongitude, double maxLongitude, IndexConsumer consumer) {
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            double latitude = latitudes[middle];
+            double longitude = longitudes[middle];
+            if (minLatitude <= latitude && latitude <= maxLatitude && minLongitude <= longitude && longitude <= maxLongitude) {
+                consumer.accept(middle);
+            }
+            double value = depth % 2 == 0 ? latitude : longitude;
+            double min = depth % 2 == 0 ? minLatitude : minLongitude;
+            double max = depth % 2 == 0 ? maxLatitude : maxLongitude;
+            boolean searchLeft = min <= value;
+            boolean searchRight = value <= max;
+            if (searchLeft && searchRight) {
+                search(low, middle, depth + 1, minLatitude, maxLatitude, minLongitude, maxLongitude, consumer);
+                low = middle + 1;
+            } else if (searchLeft) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+            depth++;
+        }
+    }
+
+    /**
+     *  가까운 순서로 좌표 인덱스와 거리를 전달하는 best-first 탐색, visitor 가 false 를 반환하면 중단
+     *  하위 트리는 영역까지의 최소 거리 순으로 펼치므로 방문 노드 수는 전체 매장 수가 아니라 찾는 개수에 비례
+     */
+    void nearest(double latitude, double longitude, double maxRadiusKm, NearestVisitor visitor) {
+        PriorityQueue<Candidate> candidates = new PriorityQueue<>();
+        candidates.add(Candidate.range(0, 0, ids.length, 0, -90, 90, -180, 180));
+        while (!candidates.isEmpty()) {
+            Candidate candidate = candidates.poll();
+            if (candidate.isPoint()) {
+                if (!visitor.visit(candidate.index, candidate.distanceKm)) {
+                    return;
+                }
+                continue;
+            }
+            if (candidate.low >= candidate.high) {
+                continue;
+            }
+            int middle = (candidate.low + candidate.high) >>> 1;
+            double distanceKm = GeoArea.distanceKm(latitude, longitude, latitudes[middle], longitudes[middle]);
+            if (distanceKm <= maxRadiusKm) {
+                candidates.add(Candidate.point(distanceKm, middle));
+            }
+            Candidate left;
+            Candidate right;
+            if (candidate.depth % 2 == 0) {
+                left = Candidate.range(0, candidate.low, middle, candidate.depth + 1, candidate.minLatitude, latitudes[middle], candidate.minLongitude, candidate.maxLongitude);
+                right = Candidate.range(0, middle + 1, candidate.high, candidate.depth + 1, latitudes[middle], candidate.maxLatitude, candidate.minLongitude, candidate.maxLongitude);
+            } else {
+                left = Candidate.range(0, candidate.low, middle, candidate.depth + 1, candidate.minLatitude, candidate.maxLatitude, candidate.minLongitude, longitudes[middle]);
+                right = Candidate.range(0, middle + 1, candidate.high, candidate.depth + 1, candidate.minLatitude, candidate.maxLatitude, longitudes[middle], candidate.maxLongitude);
+            }
+            addRange(candidates, left, latitude, longitude, maxRadiusKm);
+            addRange(candidates, right, latitude, longitude, maxRadiusKm);
+        }
+    }
+
+    private void addRange(PriorityQueue<Candidate> candidates, Candidate range, double latitude, double longitude, double maxRadiusKm) {
+        if (range.low >= range.high) {
+            return;
+        }
+        range.distanceKm = lowerBoundKm(latitude, longitude, range);
+        if (range.distanceKm <= maxRadiusKm) {
+            candidates.add(range);
+        }
+    }
+
+    /**
+     *  영역 안 어떤 좌표보다도 가깝거나 같은 거리 (haversine 식의 각 항을 영역 안 최소값으로 대체)
+     */
+    private static double lowerBoundKm(double latitude, double longitude, Candidate range) {
+        double nearestLatitude = Math.max(range.minLatitude, Math.min(range.maxLatitude, latitude));
+        double latitudeDelta = Math.toRadians(latitude - nearestLatitude);
+        double longitudeDelta = 0;
+        if (longitude < range.minLongitude || longitude > range.maxLongitude) {
+            longitudeDelta = Math.toRadians(Math.min(longitudeGap(longitude, range.minLongitude), longitudeGap(longitude, range.maxLongitude)));
+        }
+        double minCosine = Math.max(0, Math.min(Math.cos(Math.toRadians(range.minLatitude)), Math.cos(Math.toRadians(range.maxLatitude))));
+        double latitudeTerm = Math.sin(latitudeDelta / 2);
+        double longitudeTerm = Math.sin(longitudeDelta / 2);
+        double haversine = latitudeTerm * latitudeTerm + Math.cos(Math.toRadians(latitude)) * minCosine * longitudeTerm * longitudeTerm;
+        return 2 * GeoArea.EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(haversine)));
+    }
+
+    private static double longitudeGap(double longitude1, double longitude2) {
+        double gap = Math.abs(longitude1 - longitude2) % 360;
+        return Math.min(gap, 360 - gap);
+    }
+
+    private void arrange(int low, int high, int depth) {
+        while (high - low > 1) {
+            int middle = (low + high) >>> 1;
+            select(low, high - 1, middle, depth % 2 == 0 ? latitudes : longitudes);
+            arrange(low, middle, depth + 1);
+            low = middle + 1;
+            depth++;
+        }
+    }
+
+    private void select(int left, int right, int target, double[] axis) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (left < right) {
+            double pivot = axis[left + random.nextInt(right - left + 1)];
+            int less = left;
+            int greater = right;
+            int i = left;
+            while (i <= greater) {
+                if (axis[i] < pivot) {
+                    swap(less++, i++);
+                } else if (axis[i] > pivot) {
+                    swap(i, greater--);
+                } else {
+                    i++;
+                }
+            }
+            if (target < less) {
+                right = less - 1;
+            } else if (target > greater) {
+                left = greater + 1;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private void swap(int i, int j) {
+        long id = ids[i];
+        ids[i] = ids[j];
+        ids[j] = id;
+        double latitude = latitudes[i];
+        latitudes[i] = latitudes[j];
+        latitudes[j] = latitude;
+        double longitude = longitudes[i];
+        longitudes[i] = longitudes[j];
+        longitudes[j] = longitude;
+    }
+
+    @FunctionalInterface
+    interface IndexConsumer {
+
+        void accept(int index);
+    }
+
+    @FunctionalInterface
+    interface NearestVisitor {
+
+        boolean visit(int index, double distanceKm);
+    }
+
+    private static final class Candidate implements Comparable<Candidate> {
+
+        private double distanceKm;
+        private int index = -1;
+        private int low;
+        private int high;
+        private int depth;
+        private double minLatitude;
+        private double maxLatitude;
+        private double minLongitude;
+        private double maxLongitude;
+
+        private static Candidate point(double distanceKm, int index) {
+            Candidate candidate = new Candidate();
+            candidate.distanceKm = distanceKm;
+            candidate.index = index;
+            return candidate;
+        }
+
+        private static Candidate range(double distanceKm, int low, int high, int depth, double minLatitude, double maxLatitude, double minLongitude, double maxLongitude) {
+            Candidate candidate = new Candidate();
+            candidate.distanceKm = distanceKm;
+            candidate.low = low;
+            candidate.high = high;
+            candidate.depth = depth;
+            candidate.minLatitude = minLatitude;
+            candidate.maxLatitude = maxLatitude;
+            candidate.minLongitude = minLongitude;
+            candidate.maxLongitude = maxLongitude;
+            return candidate;
+        }
+
+        private boolean isPoint() {
+            return index >= 0;
+        }
+
+        @Override
+        public int compareTo(Candidate other) {
+            return Double.compare(distanceKm, other.distanceKm);
+        }
+    }
+}
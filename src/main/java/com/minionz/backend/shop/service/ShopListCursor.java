@@ -0,0 +1,42 @@
+package com.minionz.backend.shop.service;
+
+import com.minionz.backend.common.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ *  매장 목록 다음 페이지 커서, 마지막으로 내려준 매장 id 를 감싼 불투명 문자열
+ */
+final class ShopListCursor {
+
+    private static final String PREFIX = "shop:";
+    private static final String INVALID_CURSOR_MESSAGE = "잘못된 커서입니다.";
+
+    private ShopListCursor() {
+    }
+
+    static String encode(Long lastShopId) {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString((PREFIX + lastShopId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     *  커서가 없으면 0 (첫 페이지)
+     */
+    static long decode(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return 0;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(PREFIX)) {
+                throw new BadRequestException(INVALID_CURSOR_MESSAGE);
+            }
+            return Long.parseLong(decoded.substring(PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(INVALID_CURSOR_MESSAGE);
+        }
+    }
+}
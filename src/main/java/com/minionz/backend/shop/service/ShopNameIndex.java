@@ -0,0 +1,349 @@
+package com.minionz.backend.shop.service;
+
+import com.minionz.backend.shop.domain.SearchMode;
+import com.minionz.backend.shop.domain.ShopChangedEvent;
+import com.minionz.backend.shop.domain.ShopRepository;
+import com.minionz.backend.shop.domain.ShopSearchDocument;
+import com.minionz.backend.shop.domain.ShopSearchEntry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ *  매장 이름 검색 인덱스
+ *  LIKE '%keyword%' 전체 스캔 대신 n-gram 후보를 구한 뒤 원문 포함 여부로 확인하므로 결과는 기존 조회와 같음
+ *  지역(city)을 번호로 바꿔 지역마다 ShopNamePartition 을 두므로, 지역 검색은 해당 지역 인덱스만 봄
+ *  전체 적재 시 지역 인덱스는 fork-join 풀에서 병렬로 만들고, 지역 단위로 따로 다시 만들 수 있음
+ *  DB 를 읽는 동안 들어온 매장 변경은 모아 두었다가 새 인덱스로 바꾼 뒤 다시 반영함
+ *  오타 검색용 이름 단어 사전은 전체 지역이 함께 씀
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ShopNameIndex implements ShopSearchBackend {
+
+    private static final int EXACT_TOKEN_MAX_LENGTH = 2;
+    private static final int ONE_TYPO_TOKEN_MAX_LENGTH = 5;
+
+    private final ShopRepository shopRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Map<String, Integer> cityIds = new HashMap<>();
+    private List<ShopNamePartition> partitions = new ArrayList<>();
+    private Map<Long, Integer> shopCityIds = new HashMap<>();
+    private FuzzyTermDictionary nameTokens = new FuzzyTermDictionary();
+    private boolean ready;
+    private final List<ShopChangedEvent> changesDuringRebuild = new ArrayList<>();
+    private int rebuildsInProgress;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        int replayFrom = beginRebuild();
+        try {
+            rebuild(replayFrom);
+        } finally {
+            endRebuild();
+        }
+    }
+
+    private void rebuild(int replayFrom) {
+        List<ShopSearchEntry> searchEntries = shopRepository.findAllSearchEntries();
+        Map<String, Integer> newCityIds = new HashMap<>();
+        List<List<ShopSearchEntry>> entriesByCity = new ArrayList<>();
+        for (ShopSearchEntry entry : searchEntries) {
+            int cityId = newCityIds.computeIfAbsent(entry.getCity(), city -> newCityIds.size());
+            if (cityId == entriesByCity.size()) {
+                entriesByCity.add(new ArrayList<>());
+            }
+            entriesByCity.get(cityId).add(entry);
+        }
+        List<ShopNamePartition> newPartitions = buildPartitions(entriesByCity);
+        FuzzyTermDictionary newNameTokens = new FuzzyTermDictionary();
+        newPartitions.forEach(partition -> partition.tokens().forEach(newNameTokens::add));
+        newNameTokens.build();
+        lock.writeLock().lock();
+        try {
+            cityIds = newCityIds;
+            partitions = new ArrayList<>(newPartitions);
+            shopCityIds = new HashMap<>();
+            for (ShopSearchEntry entry : searchEntries) {
+                shopCityIds.put(entry.getShopId(), cityIds.get(entry.getCity()));
+            }
+            nameTokens = newNameTokens;
+            ready = true;
+            replayChanges(replayFrom);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("매장 이름 인덱스 적재 : {}건, 지역 {}곳, {}byte", searchEntries.size(), newPartitions.size(),
+                newPartitions.stream().mapToLong(ShopNamePartition::sizeInBytes).sum());
+    }
+
+    /**
+     *  지정한 지역만 DB 에서 다시 읽어 병렬로 새로 만듦 (지역 단위 대량 적재 후 사용)
+     */
+    @Override
+    public void rebuildCities(Collection<String> cities) {
+        if (!isReady()) {
+            rebuild();
+            return;
+        }
+        int replayFrom = beginRebuild();
+        try {
+            rebuildCities(new ArrayList<>(new LinkedHashSet<>(cities)), replayFrom);
+        } finally {
+            endRebuild();
+        }
+    }
+
+    private void rebuildCities(List<String> targetCities, int replayFrom) {
+        Map<String, List<ShopSearchEntry>> entriesByCity = shopRepository.findSearchEntriesByCityIn(targetCities)
+                .stream()
+                .collect(Collectors.groupingBy(ShopSearchEntry::getCity));
+        List<ShopNamePartition> newPartitions = buildPartitions(targetCities.stream()
+                .map(city -> entriesByCity.getOrDefault(city, Collections.emptyList()))
+                .collect(Collectors.toList()));
+        lock.writeLock().lock();
+        try {
+            for (int i = 0; i < targetCities.size(); i++) {
+                replacePartition(cityIdOf(targetCities.get(i)), newPartitions.get(i));
+            }
+            nameTokens.buildIfNeeded();
+            replayChanges(replayFrom);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("매장 이름 인덱스 지역 적재 : {}", targetCities);
+    }
+
+    @TransactionalEventListener
+    public void onShopChanged(ShopChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (rebuildsInProgress > 0) {
+                changesDuringRebuild.add(event);
+            }
+            if (ready) {
+                apply(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     *  다시 반영해도 결과가 같도록 기존 항목을 지우고 새로 넣음, 쓰기 잠금 안에서만 호출
+     */
+    private void apply(ShopChangedEvent event) {
+        Integer previousCityId = shopCityIds.remove(event.getShopId());
+        if (previousCityId != null) {
+            partitions.get(previousCityId).remove(event.getShopId());
+            compactIfNeeded(previousCityId);
+        }
+        if (!event.isDeleted()) {
+            ShopSearchEntry entry = ShopSearchEntry.of(event.getShop());
+            int cityId = cityIdOf(entry.getCity());
+            partitions.get(cityId).add(entry);
+            shopCityIds.put(entry.getShopId(), cityId);
+            ShopNamePartition.tokenize(ShopNamePartition.normalize(entry.getName())).forEach(nameTokens::add);
+            nameTokens.buildIfNeeded();
+        }
+    }
+
+    /**
+     *  이후 들어오는 매장 변경을 모으기 시작하고, 이 적재가 다시 반영할 첫 위치를 돌려줌
+     */
+    private int beginRebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuildsInProgress++;
+            return changesDuringRebuild.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void endRebuild() {
+        lock.writeLock().lock();
+        try {
+            if (--rebuildsInProgress == 0) {
+                changesDuringRebuild.clear();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     *  DB 를 읽기 시작한 뒤 들어온 변경은 읽은 결과에 있는지 알 수 없으므로 새 인덱스 위에 다시 반영
+     */
+    private void replayChanges(int replayFrom) {
+        for (int i = replayFrom; i < changesDuringRebuild.size(); i++) {
+            apply(changesDuringRebuild.get(i));
+        }
+    }
+
+    /**
+     *  이름에 keyword 를 포함한 매장 (rank 오름차순, 같으면 id 오름차순)
+     */
+    public List<ShopSearchEntry> search(String keyword, SearchMode searchMode) {
+        return sortByRank(findHits(keyword, null, searchMode));
+    }
+
+    /**
+     *  city 가 같고 이름에 keyword 를 포함한 매장 (rank 오름차순, 같으면 id 오름차순)
+     */
+    public List<ShopSearchEntry> searchByRegion(String keyword, String city, SearchMode searchMode) {
+        return sortByRank(findHits(keyword, city, searchMode));
+    }
+
+    @Override
+    public List<ShopSearchHit> findHits(String keyword, String city, SearchMode searchMode) {
+        ensureReady();
+        lock.readLock().lock();
+        try {
+            if (city == null) {
+                return collectHits(keyword, partitions, searchMode);
+            }
+            Integer cityId = cityIds.get(city);
+            if (cityId == null) {
+                return new ArrayList<>();
+            }
+            return collectHits(keyword, Collections.singletonList(partitions.get(cityId)), searchMode);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<ShopSearchHit> collectHits(String keyword, List<ShopNamePartition> targetPartitions, SearchMode searchMode) {
+        String query = ShopNamePartition.normalize(keyword);
+        List<ShopSearchHit> hits = new ArrayList<>();
+        ShopNamePartition.HitConsumer consumer = (entry, rank) -> hits.add(new ShopSearchHit(entry, rank));
+        if (searchMode == SearchMode.FUZZY) {
+            List<Map<String, Integer>> tokenMatches = matchTokens(query);
+            targetPartitions.forEach(partition -> partition.searchFuzzy(query, tokenMatches, consumer));
+        } else {
+            targetPartitions.forEach(partition -> partition.search(query, searchMode, consumer));
+        }
+        return hits;
+    }
+
+    /**
+     *  rank(초성 검색 일치 방식, 오타 검색 편집 거리) 오름차순, 같으면 id 오름차순
+     */
+    private static List<ShopSearchEntry> sortByRank(List<ShopSearchHit> hits) {
+        return hits.stream()
+                .sorted(Comparator.comparingInt(ShopSearchHit::getRank)
+                        .thenComparing(hit -> hit.getEntry().getShopId()))
+                .map(ShopSearchHit::getEntry)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     *  검색어 단어마다 허용 거리 안의 이름 단어와 거리
+     */
+    private List<Map<String, Integer>> matchTokens(String query) {
+        List<Map<String, Integer>> tokenMatches = new ArrayList<>();
+        for (String token : ShopNamePartition.tokenize(query)) {
+            Map<String, Integer> matches = new HashMap<>();
+            nameTokens.search(token, maxEditDistance(token), (termId, distance) -> matches.put(nameTokens.term(termId), distance));
+            tokenMatches.add(matches);
+        }
+        return tokenMatches;
+    }
+
+    @Override
+    public boolean matches(ShopSearchDocument shop, String keyword, SearchMode searchMode) {
+        return matches(shop.getName(), keyword, searchMode);
+    }
+
+    /**
+     *  인덱스 없이 매장 이름 하나가 검색 조건에 걸리는지 확인
+     */
+    static boolean matches(String name, String keyword, SearchMode searchMode) {
+        String text = ShopNamePartition.normalize(name);
+        String query = ShopNamePartition.normalize(keyword);
+        if (searchMode != SearchMode.FUZZY) {
+            return ShopNamePartition.matches(text, query, searchMode);
+        }
+        if (text.contains(query)) {
+            return true;
+        }
+        List<String> queryTokens = ShopNamePartition.tokenize(query);
+        List<String> textTokens = ShopNamePartition.tokenize(text);
+        return !queryTokens.isEmpty() && queryTokens.stream()
+                .allMatch(token -> textTokens.stream()
+                        .anyMatch(textToken -> FuzzyTermDictionary.distance(token, textToken) <= maxEditDistance(token)));
+    }
+
+    /**
+     *  두 글자 이하는 오타를 허용하지 않고, 다섯 글자까지 1개, 그보다 길면 2개까지 허용
+     */
+    static int maxEditDistance(String token) {
+        if (token.length() <= EXACT_TOKEN_MAX_LENGTH) {
+            return 0;
+        }
+        return token.length() <= ONE_TYPO_TOKEN_MAX_LENGTH ? 1 : 2;
+    }
+
+    private static List<ShopNamePartition> buildPartitions(List<List<ShopSearchEntry>> entriesByCity) {
+        return ForkJoinPool.commonPool()
+                .submit(() -> entriesByCity.parallelStream()
+                        .map(ShopNamePartition::of)
+                        .collect(Collectors.toList()))
+                .join();
+    }
+
+    private int cityIdOf(String city) {
+        Integer cityId = cityIds.get(city);
+        if (cityId != null) {
+            return cityId;
+        }
+        cityIds.put(city, partitions.size());
+        partitions.add(new ShopNamePartition());
+        return partitions.size() - 1;
+    }
+
+    private void replacePartition(int cityId, ShopNamePartition partition) {
+        partitions.get(cityId).shopIds().forEach(shopCityIds::remove);
+        for (Long shopId : partition.shopIds()) {
+            Integer previousCityId = shopCityIds.put(shopId, cityId);
+            if (previousCityId != null) {
+                partitions.get(previousCityId).remove(shopId);
+            }
+        }
+        partition.tokens().forEach(nameTokens::add);
+        partitions.set(cityId, partition);
+    }
+
+    private void compactIfNeeded(int cityId) {
+        ShopNamePartition partition = partitions.get(cityId);
+        if (partition.needsCompaction()) {
+            partitions.set(cityId, partition.compact());
+        }
+    }
+
+    private boolean isReady() {
+        lock.readLock().lock();
+        try {
+            return ready;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void ensureReady() {
+        if (!isReady()) {
+            rebuild();
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.minionz.backend.shop.service;
+
+import com.minionz.backend.shop.domain.SearchMode;
+import com.minionz.backend.shop.domain.ShopSearchEntry;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntConsumer;
+
+/**
+ *  한 지역(city)의 매장 이름 인덱스
+ *  이름 / 초성 / 자모 n-gram 인덱스와 오타 검색용 단어별 문서 목록을 지역 안 문서 번호로 유지
+ *  수정/삭제된 문서는 삭제 표시만 하고, 삭제 표시가 쌓이면 이 지역만 새로 만듦
+ */
+final class ShopNamePartition {
+
+    private static final int MIN_COMPACTION_THRESHOLD = 1024;
+    private static final int COMPACTION_RATIO = 4;
+
+    private final TextIndex names = new TextIndex();
+    private final TextIndex chosungNames = new TextIndex();
+    private final TextIndex jamoNames = new TextIndex();
+    private final Map<String, PostingList> tokenPostings = new HashMap<>();
+    private final List<ShopSearchEntry> entries = new ArrayList<>();
+    private final BitSet deleted = new BitSet();
+    private final Map<Long, Integer> documents = new HashMap<>();
+    private int deletedCount;
+
+    static ShopNamePartition of(List<ShopSearchEntry> searchEntries) {
+        ShopNamePartition partition = new ShopNamePartition();
+        searchEntries.forEach(partition::add);
+        return partition;
+    }
+
+    void add(ShopSearchEntry entry) {
+        int document = entries.size();
+        String name = normalize(entry.getName());
+        entries.add(entry);
+        documents.put(entry.getShopId(), document);
+        names.add(document, name);
+        chosungNames.add(document, Hangul.toChosung(name));
+        jamoNames.add(document, Hangul.toJamo(name));
+        for (String token : tokenize(name)) {
+            tokenPostings.computeIfAbsent(token, key -> new PostingList()).add(document);
+        }
+    }
+
+    void remove(Long shopId) {
+        Integer document = documents.remove(shopId);
+        if (document != null) {
+            deleted.set(document);
+            deletedCount++;
+        }
+    }
+
+    boolean needsCompaction() {
+        return deletedCount > Math.max(MIN_COMPACTION_THRESHOLD, entries.size() / COMPACTION_RATIO);
+    }
+
+    ShopNamePartition compact() {
+        List<ShopSearchEntry> liveEntries = new ArrayList<>(documents.size());
+        for (int document = 0; document < entries.size(); document++) {
+            if (!deleted.get(document)) {
+                liveEntries.add(entries.get(document));
+            }
+        }
+        liveEntries.sort(Comparator.comparing(ShopSearchEntry::getShopId));
+        return of(liveEntries);
+    }
+
+    List<Long> shopIds() {
+        return new ArrayList<>(documents.keySet());
+    }
+
+    Set<String> tokens() {
+        return tokenPostings.keySet();
+    }
+
+    long sizeInBytes() {
+        return names.sizeInBytes() + chosungNames.sizeInBytes() + jamoNames.sizeInBytes();
+    }
+
+    /**
+     *  이름 / 초성 / 자모 검색, rank 는 초성 검색에서 연속 일치 0, 순서대로만 포함 1 이고 나머지는 0
+     */
+    void search(String query, SearchMode searchMode, HitConsumer consumer) {
+        if (searchMode == SearchMode.CHOSUNG && Hangul.isChosungOnly(query)) {
+            searchChosung(query, consumer);
+            return;
+        }
+        TextIndex textIndex = searchMode == SearchMode.CHOSUNG ? jamoNames : names;
+        String text = searchMode == SearchMode.CHOSUNG ? Hangul.toJamo(query) : query;
+        forEachCandidate(textIndex.index.candidates(text), document -> {
+            if (textIndex.texts.get(document).contains(text)) {
+                consumer.accept(entries.get(document), 0);
+            }
+        });
+    }
+
+    /**
+     *  초성이 연속으로 일치하는 매장을 먼저, 순서대로만 포함하는 매장("ㅅㅂ" → "스타벅스")을 뒤에 둠
+     */
+    private void searchChosung(String query, HitConsumer consumer) {
+        String chosung = query.replaceAll("\\s", "");
+        forEachCandidate(chosungNames.index.candidatesContainingAll(query), document -> {
+            String text = chosungNames.texts.get(document);
+            if (text.contains(query)) {
+                consumer.accept(entries.get(document), 0);
+            } else if (containsInOrder(text, chosung)) {
+                consumer.accept(entries.get(document), 1);
+            }
+        });
+    }
+
+    /**
+     *  이름에 query 를 그대로 포함하면 rank 0, 아니면 검색어 단어마다 가장 가까운 이름 단어와의 편집 거리 합
+     *
+     *  @param tokenMatches 검색어 단어별로 허용 거리 안에 있는 이름 단어와 거리 (모든 검색어 단어가 일치해야 함)
+     */
+    void searchFuzzy(String query, List<Map<String, Integer>> tokenMatches, HitConsumer consumer) {
+        Map<Integer, Integer> distances = new HashMap<>();
+        forEachCandidate(names.index.candidates(query), document -> {
+            if (names.texts.get(document).contains(query)) {
+                distances.put(document, 0);
+            }
+        });
+        Map<Integer, Integer> tokenDistances = null;
+        for (Map<String, Integer> matches : tokenMatches) {
+            Map<Integer, Integer> matched = new HashMap<>();
+            matches.forEach((term, distance) -> {
+                PostingList postingList = tokenPostings.get(term);
+                if (postingList == null) {
+                    return;
+                }
+                for (int document : postingList.toArray()) {
+                    matched.merge(document, distance, Math::min);
+                }
+            });
+            if (tokenDistances != null) {
+                Map<Integer, Integer> previous = tokenDistances;
+                matched.keySet().retainAll(previous.keySet());
+                matched.replaceAll((document, distance) -> distance + previous.get(document));
+            }
+            tokenDistances = matched;
+        }
+        if (tokenDistances != null) {
+            tokenDistances.forEach((document, distance) -> {
+                if (!deleted.get(document)) {
+                    distances.merge(document, distance, Math::min);
+                }
+            });
+        }
+        distances.forEach((document, distance) -> consumer.accept(entries.get(document), distance));
+    }
+
+    /**
+     *  candidates 가 null 이면 전체 문서
+     */
+    private void forEachCandidate(int[] candidates, IntConsumer consumer) {
+        int candidateCount = candidates == null ? entries.size() : candidates.length;
+        for (int i = 0; i < candidateCount; i++) {
+            int document = candidates == null ? i : candidates[i];
+            if (!deleted.get(document)) {
+                consumer.accept(document);
+            }
+        }
+    }
+
+    /**
+     *  인덱스 없이 이름 하나가 이름 / 초성 / 자모 검색에 걸리는지 확인 (name, query 는 normalize 된 값)
+     */
+    static boolean matches(String name, String query, SearchMode searchMode) {
+        if (searchMode == SearchMode.CHOSUNG && Hangul.isChosungOnly(query)) {
+            String chosung = Hangul.toChosung(name);
+            return chosung.contains(query) || containsInOrder(chosung, query.replaceAll("\\s", ""));
+        }
+        if (searchMode == SearchMode.CHOSUNG) {
+            return Hangul.toJamo(name).contains(Hangul.toJamo(query));
+        }
+        return name.contains(query);
+    }
+
+    private static boolean containsInOrder(String text, String characters) {
+        int position = 0;
+        for (int i = 0; i < characters.length(); i++) {
+            position = text.indexOf(characters.charAt(i), position);
+            if (position < 0) {
+                return false;
+            }
+            position++;
+        }
+        return true;
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String token : text.split("\\s+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    @FunctionalInterface
+    interface HitConsumer {
+
+        void accept(ShopSearchEntry entry, int rank);
+    }
+
+    private static class TextIndex {
+
+        private final NgramIndex index = new NgramIndex();
+        private final List<String> texts = new ArrayList<>();
+
+        private void add(int document, String text) {
+            texts.add(text);
+            index.add(document, text);
+        }
+
+        private long sizeInBytes() {
+            return index.sizeInBytes();
+        }
+    }
+}
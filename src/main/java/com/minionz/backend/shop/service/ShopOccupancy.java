@@ -0,0 +1,132 @@
+package com.minionz.backend.shop.service;
+
+import com.minionz.backend.shop.domain.CongestionStatus;
+import com.minionz.backend.shop.domain.OccupancyChangedEvent;
+import com.minionz.backend.shop.domain.OccupancySnapshot;
+import com.minionz.backend.shop.domain.ShopTableState;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ *  매장 하나의 테이블 점유 상태
+ *  테이블별 인원은 원자 배열의 슬롯 단위로 갱신하고, 매장 합계는 슬롯의 이전 값으로 증감하는 스트라이프 카운터로 유지
+ */
+public class ShopOccupancy {
+
+    private static final int CLEAN = 0;
+    private static final int DIRTY = 1;
+
+    private final Long shopId;
+    private final long[] tableIds;
+    private final int[] tableNumbers;
+    private final int[] maxUsers;
+    private final int maxUser;
+    private final AtomicIntegerArray countUsers;
+    private final AtomicIntegerArray dirtyTables;
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private final LongAdder numberOfUsingTables = new LongAdder();
+    private final LongAdder useUser = new LongAdder();
+
+    ShopOccupancy(Long shopId, List<ShopTableState> tableStates) {
+        int size = tableStates.size();
+        this.shopId = shopId;
+        this.tableIds = new long[size];
+        this.tableNumbers = new int[size];
+        this.maxUsers = new int[size];
+        this.countUsers = new AtomicIntegerArray(size);
+        this.dirtyTables = new AtomicIntegerArray(size);
+        int totalMaxUser = 0;
+        for (int index = 0; index < size; index++) {
+            ShopTableState tableState = tableStates.get(index);
+            tableIds[index] = tableState.getTableId();
+            tableNumbers[index] = tableState.getTableNumber();
+            maxUsers[index] = tableState.getMaxUser();
+            totalMaxUser += tableState.getMaxUser();
+            int countUser = tableState.getCountUser();
+            countUsers.set(index, countUser);
+            if (countUser > 0) {
+                numberOfUsingTables.increment();
+                useUser.add(countUser);
+            }
+        }
+        this.maxUser = totalMaxUser;
+    }
+
+    OccupancyChangedEvent use(int index) {
+        int previousCountUser = countUsers.getAndIncrement(index);
+        if (previousCountUser == 0) {
+            numberOfUsingTables.increment();
+        }
+        useUser.increment();
+        markDirty(index);
+        return new OccupancyChangedEvent(shopId, tableIds[index], previousCountUser, previousCountUser + 1, snapshot());
+    }
+
+    OccupancyChangedEvent exit(int index) {
+        int previousCountUser = countUsers.getAndSet(index, 0);
+        if (previousCountUser > 0) {
+            numberOfUsingTables.decrement();
+            useUser.add(-previousCountUser);
+            markDirty(index);
+        }
+        return new OccupancyChangedEvent(shopId, tableIds[index], previousCountUser, 0, snapshot());
+    }
+
+    public OccupancySnapshot snapshot() {
+        return new OccupancySnapshot(shopId, tableIds.length, (int) numberOfUsingTables.sum(), (int) useUser.sum(), maxUser);
+    }
+
+    /**
+     *  스냅샷을 만들지 않고 현재 혼잡도만 계산
+     */
+    public CongestionStatus congestionStatus() {
+        return CongestionStatus.of((int) numberOfUsingTables.sum(), tableIds.length);
+    }
+
+    public Long getShopId() {
+        return shopId;
+    }
+
+    public int size() {
+        return tableIds.length;
+    }
+
+    public long tableId(int index) {
+        return tableIds[index];
+    }
+
+    public int tableNumber(int index) {
+        return tableNumbers[index];
+    }
+
+    public int maxUser(int index) {
+        return maxUsers[index];
+    }
+
+    public int countUser(int index) {
+        return countUsers.get(index);
+    }
+
+    boolean clearDirty() {
+        return dirty.getAndSet(false);
+    }
+
+    boolean clearTableDirty(int index) {
+        return dirtyTables.getAndSet(index, CLEAN) == DIRTY;
+    }
+
+    void markAllDirty() {
+        for (int index = 0; index < tableIds.length; index++) {
+            dirtyTables.set(index, DIRTY);
+        }
+        dirty.set(true);
+    }
+
+    private void markDirty(int index) {
+        dirtyTables.set(index, DIRTY);
+        dirty.set(true);
+    }
+}
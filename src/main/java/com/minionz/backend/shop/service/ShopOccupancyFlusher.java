@@ -0,0 +1,79 @@
+package com.minionz.backend.shop.service;
+
+import com.minionz.backend.shop.domain.OccupancySnapshot;
+import com.minionz.backend.shop.domain.UseStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ *  ShopOccupancyRegistry 의 변경분을 shop_table, shop 에 배치로 반영
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ShopOccupancyFlusher {
+
+    private static final int BATCH_SIZE = 500;
+    private static final String UPDATE_TABLE_SQL = "update shop_table set count_user = ?, use_status = ? where table_id = ?";
+    private static final String UPDATE_SHOP_SQL = "update shop set number_of_using_tables = ?, use_user = ?, congestion_status = ? where shop_id = ?";
+    private static final String FLUSH_FAILURE_MESSAGE = "매장 점유 상태 반영 실패";
+
+    private final ShopOccupancyRegistry shopOccupancyRegistry;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(fixedDelayString = "${qrna.occupancy.flush-delay-ms:1000}")
+    @Transactional
+    public int flush() {
+        List<ShopOccupancy> flushedShops = new ArrayList<>();
+        List<Object[]> tableRows = new ArrayList<>();
+        List<Object[]> shopRows = new ArrayList<>();
+        for (ShopOccupancy occupancy : shopOccupancyRegistry.occupancies()) {
+            if (!occupancy.clearDirty()) {
+                continue;
+            }
+            flushedShops.add(occupancy);
+            for (int index = 0; index < occupancy.size(); index++) {
+                if (occupancy.clearTableDirty(index)) {
+                    int countUser = occupancy.countUser(index);
+                    tableRows.add(new Object[]{countUser, UseStatus.of(countUser).name(), occupancy.tableId(index)});
+                }
+            }
+            OccupancySnapshot snapshot = occupancy.snapshot();
+            shopRows.add(new Object[]{snapshot.getNumberOfUsingTables(), snapshot.getUseUser(), snapshot.getCongestionStatus().name(), snapshot.getShopId()});
+        }
+        try {
+            batchUpdate(UPDATE_TABLE_SQL, tableRows);
+            batchUpdate(UPDATE_SHOP_SQL, shopRows);
+        } catch (DataAccessException exception) {
+            log.warn(FLUSH_FAILURE_MESSAGE, exception);
+            flushedShops.forEach(ShopOccupancy::markAllDirty);
+            throw exception;
+        }
+        return shopRows.size();
+    }
+
+    /**
+     *  자기 호출은 프록시를 거치지 않으므로 트랜잭션을 직접 열어 테이블 / 매장 반영을 함께 커밋
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        transactionTemplate.execute(status -> flush());
+    }
+
+    private void batchUpdate(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(from + BATCH_SIZE, rows.size())));
+        }
+    }
+}
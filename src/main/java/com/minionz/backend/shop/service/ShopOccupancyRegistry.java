@@ -0,0 +1,176 @@
+package com.minionz.backend.shop.service;
+
+import com.minionz.backend.common.exception.NotFoundException;
+import com.minionz.backend.shop.domain.CongestionStatus;
+import com.minionz.backend.shop.domain.OccupancyChangedEvent;
+import com.minionz.backend.shop.domain.OccupancySnapshot;
+import com.minionz.backend.shop.domain.ShopChangedEvent;
+import com.minionz.backend.shop.domain.ShopTableRepository;
+import com.minionz.backend.shop.domain.ShopTableState;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+
+/**
+ *  테이블 점유 상태의 원본 저장소
+ *  체크인/퇴장은 매장 행 잠금 없이 메모리에서 처리하고, DB 반영은 ShopOccupancyFlusher 가 주기적으로 일괄 수행
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ShopOccupancyRegistry {
+
+    private static final String NO_TABLE_ERROR_MESSAGE = "해당 테이블이 존재하지 않습니다.";
+    private static final String REBUILD_MESSAGE = "매장 점유 상태 적재 완료";
+
+    private final ShopTableRepository shopTableRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final ConcurrentMap<Long, ShopOccupancy> shops = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, TableSlot> tables = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        Map<Long, List<ShopTableState>> tableStatesByShop = shopTableRepository.findAllStates()
+                .stream()
+                .collect(Collectors.groupingBy(ShopTableState::getShopId, LinkedHashMap::new, Collectors.toList()));
+        shops.clear();
+        tables.clear();
+        tableStatesByShop.forEach(this::register);
+        log.info("{} : {}", REBUILD_MESSAGE, shops.size());
+    }
+
+    @TransactionalEventListener
+    public void onShopChanged(ShopChangedEvent event) {
+        if (event.isDeleted()) {
+            unregister(event.getShopId());
+            return;
+        }
+        List<ShopTableState> tableStates = event.getShop()
+                .getTableList()
+                .stream()
+                .map(table -> ShopTableState.of(event.getShopId(), table))
+                .collect(Collectors.toList());
+        register(event.getShopId(), tableStates);
+    }
+
+    public OccupancySnapshot use(Long tableId) {
+        TableSlot slot = findSlot(tableId);
+        return publish(slot.occupancy.use(slot.index));
+    }
+
+    public OccupancySnapshot exit(Long tableId) {
+        TableSlot slot = findSlot(tableId);
+        return publish(slot.occupancy.exit(slot.index));
+    }
+
+    public Long findShopId(Long tableId) {
+        return findSlot(tableId).occupancy.getShopId();
+    }
+
+    public OccupancySnapshot snapshot(Long shopId) {
+        return occupancyOf(shopId).snapshot();
+    }
+
+    public CongestionStatus congestionStatusOf(Long shopId) {
+        return occupancyOf(shopId).congestionStatus();
+    }
+
+    public ShopOccupancy occupancyOf(Long shopId) {
+        ShopOccupancy occupancy = shops.get(shopId);
+        if (occupancy != null) {
+            return occupancy;
+        }
+        return load(shopId);
+    }
+
+    public int countUserOf(Long tableId, int defaultCountUser) {
+        TableSlot slot = tables.get(tableId);
+        if (slot == null) {
+            return defaultCountUser;
+        }
+        return slot.occupancy.countUser(slot.index);
+    }
+
+    Collection<ShopOccupancy> occupancies() {
+        return shops.values();
+    }
+
+    private OccupancySnapshot publish(OccupancyChangedEvent event) {
+        if (event.isChanged()) {
+            applicationEventPublisher.publishEvent(event);
+        }
+        return event.getSnapshot();
+    }
+
+    private TableSlot findSlot(Long tableId) {
+        TableSlot slot = tables.get(tableId);
+        if (slot != null) {
+            return slot;
+        }
+        Long shopId = shopTableRepository.findShopIdById(tableId)
+                .orElseThrow(() -> new NotFoundException(NO_TABLE_ERROR_MESSAGE));
+        occupancyOf(shopId);
+        slot = tables.get(tableId);
+        if (slot == null) {
+            throw new NotFoundException(NO_TABLE_ERROR_MESSAGE);
+        }
+        return slot;
+    }
+
+    private synchronized ShopOccupancy load(Long shopId) {
+        ShopOccupancy occupancy = shops.get(shopId);
+        if (occupancy != null) {
+            return occupancy;
+        }
+        return register(shopId, shopTableRepository.findStatesByShopId(shopId));
+    }
+
+    private synchronized ShopOccupancy register(Long shopId, List<ShopTableState> tableStates) {
+        ShopOccupancy occupancy = new ShopOccupancy(shopId, tableStates);
+        for (int index = 0; index < occupancy.size(); index++) {
+            tables.put(occupancy.tableId(index), new TableSlot(occupancy, index));
+        }
+        ShopOccupancy previous = shops.put(shopId, occupancy);
+        if (previous != null) {
+            removeTables(previous, occupancy);
+        }
+        return occupancy;
+    }
+
+    private synchronized void unregister(Long shopId) {
+        ShopOccupancy previous = shops.remove(shopId);
+        if (previous != null) {
+            removeTables(previous, null);
+        }
+    }
+
+    private void removeTables(ShopOccupancy previous, ShopOccupancy current) {
+        for (int index = 0; index < previous.size(); index++) {
+            long tableId = previous.tableId(index);
+            tables.computeIfPresent(tableId, (id, slot) -> slot.occupancy == current ? slot : null);
+        }
+    }
+
+    private static final class TableSlot {
+
+        private final ShopOccupancy occupancy;
+        private final int index;
+
+        private TableSlot(ShopOccupancy occupancy, int index) {
+            this.occupancy = occupancy;
+            this.index = index;
+        }
+    }
+}
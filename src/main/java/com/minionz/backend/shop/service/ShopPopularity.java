@@ -0,0 +1,63 @@
+package com.minionz.backend.shop.service;
+
+import com.minionz.backend.shop.domain.OccupancyChangedEvent;
+import com.minionz.backend.visit.domain.ShopVisitCount;
+import com.minionz.backend.visit.domain.VisitRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ *  최근 7일 매장별 방문 수
+ *  시작 시 자동완성 인덱스보다 먼저 집계하고 이후 주기적으로 다시 집계하며, 그 사이 체크인은 메모리에서 더함
+ *  조회는 DB 를 읽지 않으므로 첫 집계 전에는 메모리의 체크인 수만 돌려줌
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ShopPopularity {
+
+    private static final long WINDOW_DAYS = 7;
+
+    private final VisitRepository visitRepository;
+    private final ConcurrentMap<Long, LongAdder> recentCheckIns = new ConcurrentHashMap<>();
+    private volatile Map<Long, Long> visitCounts = Collections.emptyMap();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @Scheduled(fixedDelayString = "${qrna.popularity.refresh-delay-ms:3600000}", initialDelayString = "${qrna.popularity.refresh-delay-ms:3600000}")
+    public void refresh() {
+        Map<Long, Long> counts = visitRepository.countByShopSince(LocalDateTime.now().minusDays(WINDOW_DAYS))
+                .stream()
+                .collect(Collectors.toMap(ShopVisitCount::getShopId, ShopVisitCount::getVisitCount));
+        recentCheckIns.clear();
+        visitCounts = counts;
+        log.info("매장 방문 수 집계 : {}건", counts.size());
+    }
+
+    @EventListener
+    public void onOccupancyChanged(OccupancyChangedEvent event) {
+        if (event.getCountUser() > event.getPreviousCountUser()) {
+            recentCheckIns.computeIfAbsent(event.getShopId(), shopId -> new LongAdder()).increment();
+        }
+    }
+
+    public long visitCountOf(Long shopId) {
+        Map<Long, Long> counts = visitCounts;
+        LongAdder checkIns = recentCheckIns.get(shopId);
+        return counts.getOrDefault(shopId, 0L) + (checkIns == null ? 0 : checkIns.sum());
+    }
+}
@@ -0,0 +1,128 @@
+package com.minionz.backend.shop.service;
+
+import com.minionz.backend.shop.domain.CongestionStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+/**
+ *  검색 / 근처 매장 후보 정렬
+ *  이름 일치도, 거리, 현재 혼잡도, 최근 방문 수를 0~1 점수로 바꿔 가중합하고
+ *  크기가 limit 인 최소 힙으로 상위 후보만 남겨 응답 DTO 는 남은 후보만 만듦
+ */
+@RequiredArgsConstructor
+@Component
+public class ShopRanker {
+
+    private static final double POPULARITY_HALF_SCORE_VISITS = 20;
+
+    private final ShopOccupancyRegistry shopOccupancyRegistry;
+    private final ShopPopularity shopPopularity;
+
+    /**
+     *  점수 내림차순 상위 weights.limit 개 (같은 점수는 id 오름차순), 가중치가 0 인 신호는 계산하지 않음
+     */
+    public <T> List<T> top(Collection<T> candidates, Function<T, Long> shopIdOf, ToDoubleFunction<T> textScore,
+                           ToDoubleFunction<T> distanceScore, ShopRankingProperties.Weights weights) {
+        int limit = Math.max(weights.getLimit(), 1);
+        PriorityQueue<Ranked<T>> heap = new PriorityQueue<>(Math.min(limit, candidates.size()) + 1, Ranked.worstFirst());
+        for (T candidate : candidates) {
+            Long shopId = shopIdOf.apply(candidate);
+            double score = score(candidate, shopId, textScore, distanceScore, weights);
+            if (heap.size() < limit) {
+                heap.add(new Ranked<>(candidate, shopId, score));
+            } else if (Ranked.isBetter(score, shopId, heap.peek())) {
+                heap.poll();
+                heap.add(new Ranked<>(candidate, shopId, score));
+            }
+        }
+        List<Ranked<T>> ranked = new ArrayList<>(heap);
+        ranked.sort(Ranked.<T>worstFirst().reversed());
+        List<T> result = new ArrayList<>(ranked.size());
+        ranked.forEach(entry -> result.add(entry.candidate));
+        return result;
+    }
+
+    /**
+     *  이름이 query 와 같으면 1, query 로 시작하면 0.8, 단어가 query 로 시작하면 0.6, 그 밖의 포함은 0.4
+     *  rank(초성 검색 일치 방식, 오타 검색 편집 거리)가 클수록 낮춤
+     */
+    public static double textRelevance(String name, String query, int rank) {
+        String text = ShopNamePartition.normalize(name);
+        String keyword = ShopNamePartition.normalize(query).trim();
+        double relevance = 0.4;
+        if (text.equals(keyword)) {
+            relevance = 1.0;
+        } else if (text.startsWith(keyword)) {
+            relevance = 0.8;
+        } else if (!keyword.isEmpty() && text.contains(" " + keyword)) {
+            relevance = 0.6;
+        }
+        return relevance / (1 + rank);
+    }
+
+    private <T> double score(T candidate, Long shopId, ToDoubleFunction<T> textScore, ToDoubleFunction<T> distanceScore,
+                             ShopRankingProperties.Weights weights) {
+        double score = 0;
+        if (weights.getText() != 0) {
+            score += weights.getText() * textScore.applyAsDouble(candidate);
+        }
+        if (weights.getDistance() != 0) {
+            score += weights.getDistance() * distanceScore.applyAsDouble(candidate);
+        }
+        if (weights.getCongestion() != 0) {
+            score += weights.getCongestion() * congestionScore(shopOccupancyRegistry.congestionStatusOf(shopId));
+        }
+        if (weights.getPopularity() != 0) {
+            long visitCount = shopPopularity.visitCountOf(shopId);
+            score += weights.getPopularity() * visitCount / (visitCount + POPULARITY_HALF_SCORE_VISITS);
+        }
+        return score;
+    }
+
+    private static double congestionScore(CongestionStatus congestionStatus) {
+        switch (congestionStatus) {
+            case SMOOTH:
+                return 1;
+            case NORMAL:
+                return 0.5;
+            default:
+                return 0;
+        }
+    }
+
+    private static class Ranked<T> {
+
+        private final T candidate;
+        private final Long shopId;
+        private final double score;
+
+        private Ranked(T candidate, Long shopId, double score) {
+            this.candidate = candidate;
+            this.shopId = shopId;
+            this.score = score;
+        }
+
+        /**
+         *  점수가 낮을수록, 같으면 id 가 클수록 앞 (힙 맨 위가 가장 먼저 밀려날 후보)
+         */
+        private static <T> Comparator<Ranked<T>> worstFirst() {
+            return Comparator.<Ranked<T>>comparingDouble(ranked -> ranked.score)
+                    .thenComparing(ranked -> ranked.shopId, Comparator.reverseOrder());
+        }
+
+        private static boolean isBetter(double score, Long shopId, Ranked<?> worst) {
+            if (score != worst.score) {
+                return score > worst.score;
+            }
+            return shopId < worst.shopId;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.minionz.backend.shop.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ *  조회 API 별 정렬 가중치와 최대 결과 수 (qrna.ranking.search.text=1.0 형태로 변경)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "qrna.ranking")
+public class ShopRankingProperties {
+
+    private Weights search = new Weights(1.0, 0.0, 0.2, 0.3, 100);
+    private Weights region = new Weights(1.0, 0.0, 0.2, 0.3, 100);
+    private Weights near = new Weights(0.0, 1.0, 0.3, 0.3, 100);
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Weights {
+
+        private double text;
+        private double distance;
+        private double congestion;
+        private double popularity;
+        private int limit;
+    }
+}
@@ -0,0 +1,28 @@
+package com.minionz.backend.shop.service;
+
+import com.minionz.backend.shop.domain.SearchMode;
+import com.minionz.backend.shop.domain.ShopSearchDocument;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ *  매장 검색 저장소, qrna.search.backend 로 선택 (memory : ShopNameIndex, lucene : LuceneShopSearchBackend)
+ */
+public interface ShopSearchBackend {
+
+    /**
+     *  검색 결과를 정렬하지 않고 rank 와 함께 돌려줌, city 가 null 이면 전체 지역
+     */
+    List<ShopSearchHit> findHits(String keyword, String city, SearchMode searchMode);
+
+    /**
+     *  저장/수정된 매장 하나가 검색어에 걸리는지 (검색 결과 캐시 무효화에 사용)
+     */
+    boolean matches(ShopSearchDocument shop, String keyword, SearchMode searchMode);
+
+    /**
+     *  지정한 지역만 DB 에서 다시 읽어 새로 만듦 (매장 변경 이벤트 없이 DB 에 직접 대량 적재한 뒤 사용)
+     */
+    void rebuildCities(Collection<String> cities);
+}
@@ -0,0 +1,237 @@
+package com.minionz.backend.shop.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.minionz.backend.shop.domain.CongestionStatus;
+import com.minionz.backend.shop.domain.OccupancyChangedEvent;
+import com.minionz.backend.shop.domain.OccupancySnapshot;
+import com.minionz.backend.shop.domain.ShopChangedEvent;
+import com.minionz.backend.shop.domain.ShopSearchEntry;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ *  검색 / 지역 검색 / 근처 매장 정렬 결과 캐시
+ *  Caffeine(W-TinyLFU 진입 정책)으로 후보 수만큼의 무게 합을 제한하고, 혼잡도 숫자는 캐시하지 않고 응답 때마다 붙임
+ *  후보 매장 id → 키 역색인으로, 매장이 저장/수정/삭제되거나 혼잡도 단계가 바뀌면 그 매장이 들어 있던 결과만 지움
+ *  저장/수정된 매장이 새로 걸리는 조건(이름 일치, 같은 지역, 반경 안)의 결과도 함께 지움
+ *  최근 방문 수 변화는 정렬에만 조금 영향을 주므로 무효화하지 않음
+ *  계산 중인 결과는 매장별 변경 순번과 비교해, 결과에 든 매장이나 새로 걸리는 매장이 바뀐 경우에만 버림
+ */
+@Component
+public class ShopSearchCache {
+
+    private final ShopSearchBackend shopSearchBackend;
+    private final Cache<ShopSearchKey, Result> cache;
+    private final ConcurrentMap<Long, Set<ShopSearchKey>> keysByShop = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final ConcurrentMap<Long, Long> changedShops = new ConcurrentHashMap<>();
+    private final Set<Load> loads = ConcurrentHashMap.newKeySet();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public ShopSearchCache(ShopSearchBackend shopSearchBackend,
+                           @Value("${qrna.search-cache.maximum-weight:100000}") long maximumWeight) {
+        this.shopSearchBackend = shopSearchBackend;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight)
+                .weigher((ShopSearchKey key, Result result) -> result.weight())
+                .executor(Runnable::run)
+                .removalListener(this::onRemoval)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     *  캐시에 없으면 loader 로 계산해 넣음, 계산하는 동안 결과에 든 매장이 바뀌었거나 새로 걸리는 매장이 저장됐으면 결과만 돌려주고 넣지 않음
+     */
+    public List<ShopSearchEntry> get(ShopSearchKey key, Supplier<Result> loader) {
+        Result cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached.entries;
+        }
+        Load load = startLoad(key);
+        Result result;
+        try {
+            result = loader.get();
+        } catch (RuntimeException e) {
+            loads.remove(load);
+            throw e;
+        }
+        lock.readLock().lock();
+        try {
+            loads.remove(load);
+            if (!load.stale && result.candidateIds.stream().noneMatch(shopId -> isChangedAfter(shopId, load.sequence))) {
+                result.candidateIds.forEach(shopId -> keysByShop.computeIfAbsent(shopId, id -> ConcurrentHashMap.newKeySet()).add(key));
+                cache.put(key, result);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result.entries;
+    }
+
+    @TransactionalEventListener
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onShopChanged(ShopChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            markChanged(event.getShopId());
+            invalidateShop(event.getShopId());
+            if (!event.isDeleted()) {
+                List<ShopSearchKey> matchedKeys = new ArrayList<>();
+                cache.asMap().keySet().forEach(key -> {
+                    if (key.matches(event.getShop(), shopSearchBackend)) {
+                        matchedKeys.add(key);
+                    }
+                });
+                cache.invalidateAll(matchedKeys);
+                loads.forEach(load -> {
+                    if (load.key.matches(event.getShop(), shopSearchBackend)) {
+                        load.stale = true;
+                    }
+                });
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @EventListener
+    public void onOccupancyChanged(OccupancyChangedEvent event) {
+        if (!event.isUsingTablesChanged()) {
+            return;
+        }
+        OccupancySnapshot snapshot = event.getSnapshot();
+        int previousUsingTables = snapshot.getNumberOfUsingTables() + (event.getCountUser() > 0 ? -1 : 1);
+        if (CongestionStatus.of(previousUsingTables, snapshot.getNumberOfTables()) == snapshot.getCongestionStatus()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            markChanged(event.getShopId());
+            invalidateShop(event.getShopId());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    public void invalidateAll() {
+        lock.writeLock().lock();
+        try {
+            loads.forEach(load -> load.stale = true);
+            cache.invalidateAll();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Load startLoad(ShopSearchKey key) {
+        lock.readLock().lock();
+        try {
+            Load load = new Load(key, sequence.get());
+            loads.add(load);
+            return load;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     *  쓰기 잠금 안에서만 호출, 계산 중인 결과보다 오래된 변경 순번은 더 볼 일이 없으므로 지움
+     */
+    private void markChanged(Long shopId) {
+        long oldestLoad = loads.stream()
+                .mapToLong(load -> load.sequence)
+                .min()
+                .orElse(Long.MAX_VALUE);
+        changedShops.values().removeIf(changedSequence -> changedSequence <= oldestLoad);
+        if (!loads.isEmpty()) {
+            changedShops.put(shopId, sequence.incrementAndGet());
+        }
+    }
+
+    private boolean isChangedAfter(Long shopId, long loadSequence) {
+        Long changedSequence = changedShops.get(shopId);
+        return changedSequence != null && changedSequence > loadSequence;
+    }
+
+    private void invalidateShop(Long shopId) {
+        Set<ShopSearchKey> keys = keysByShop.remove(shopId);
+        if (keys != null) {
+            cache.invalidateAll(keys);
+        }
+    }
+
+    /**
+     *  같은 키로 새 결과가 이미 들어가 있으면(교체, 축출 직후 재적재) 새 결과의 역색인을 지우지 않도록 건너뜀
+     */
+    private void onRemoval(ShopSearchKey key, Result result, RemovalCause cause) {
+        if (key == null || result == null || cache.asMap().containsKey(key)) {
+            return;
+        }
+        result.candidateIds.forEach(shopId -> keysByShop.computeIfPresent(shopId, (id, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+        }));
+    }
+
+    /**
+     *  계산 중인 결과 하나, sequence 는 계산을 시작할 때의 변경 순번
+     */
+    private static class Load {
+
+        private final ShopSearchKey key;
+        private final long sequence;
+        private volatile boolean stale;
+
+        private Load(ShopSearchKey key, long sequence) {
+            this.key = key;
+            this.sequence = sequence;
+        }
+    }
+
+    /**
+     *  정렬 후 남은 매장과, 정렬 전 후보 매장 id (후보의 혼잡도가 바뀌면 순위가 바뀔 수 있으므로 모두 역색인에 올림)
+     */
+    @Getter
+    public static class Result {
+
+        private final List<ShopSearchEntry> entries;
+        private final Collection<Long> candidateIds;
+
+        public Result(List<ShopSearchEntry> entries, Collection<Long> candidateIds) {
+            this.entries = entries;
+            this.candidateIds = candidateIds;
+        }
+
+        private int weight() {
+            return Math.max(1, candidateIds.size());
+        }
+    }
+}
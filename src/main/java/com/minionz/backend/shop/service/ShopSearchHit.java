@@ -0,0 +1,19 @@
+package com.minionz.backend.shop.service;
+
+import com.minionz.backend.shop.domain.ShopSearchEntry;
+import lombok.Getter;
+
+/**
+ *  이름 검색 결과 한 건, rank 는 초성 검색 일치 방식 / 오타 검색 편집 거리 (작을수록 정확)
+ */
+@Getter
+public class ShopSearchHit {
+
+    private final ShopSearchEntry entry;
+    private final int rank;
+
+    public ShopSearchHit(ShopSearchEntry entry, int rank) {
+        this.entry = entry;
+        this.rank = rank;
+    }
+}
@@ -0,0 +1,79 @@
+package com.minionz.backend.shop.service;
+
+import com.minionz.backend.common.domain.Address;
+import com.minionz.backend.common.domain.GeoArea;
+import com.minionz.backend.common.domain.Geohash;
+import com.minionz.backend.shop.domain.SearchMode;
+import com.minionz.backend.shop.domain.Shop;
+import com.minionz.backend.shop.domain.ShopSearchDocument;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ *  검색 결과 캐시 키 (이름 검색 / 지역 + 이름 검색 / 근처 매장)
+ *  근처 매장은 요청 좌표가 든 geohash 셀 단위 키로, 셀 안 어느 좌표에서든 반경 안 매장을 모두 담도록
+ *  셀 중심에서 반경 + 셀 반대각선 거리까지를 후보로 함 (정확한 거리 조건은 캐시 뒤에서 다시 확인)
+ */
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ShopSearchKey {
+
+    private static final int NEAR_CELL_PRECISION = 7;
+
+    private final Type type;
+    private final String keyword;
+    private final String city;
+    private final SearchMode searchMode;
+    private final String cell;
+    @Getter(AccessLevel.PACKAGE)
+    private final double latitude;
+    @Getter(AccessLevel.PACKAGE)
+    private final double longitude;
+    @Getter(AccessLevel.PACKAGE)
+    private final double radiusKm;
+
+    public static ShopSearchKey search(String keyword, SearchMode searchMode) {
+        return new ShopSearchKey(Type.SEARCH, ShopNamePartition.normalize(keyword), null, searchMode, null, 0, 0, 0);
+    }
+
+    public static ShopSearchKey region(String keyword, String city, SearchMode searchMode) {
+        return new ShopSearchKey(Type.REGION, ShopNamePartition.normalize(keyword), city, searchMode, null, 0, 0, 0);
+    }
+
+    /**
+     *  정밀도 7 셀은 약 150m x 120m 이므로 반경은 0.1km 남짓 늘어남
+     */
+    public static ShopSearchKey near(double latitude, double longitude, double radiusKm) {
+        String cell = Geohash.encode(latitude, longitude, NEAR_CELL_PRECISION);
+        GeoArea bounds = Geohash.bounds(cell);
+        double centerLatitude = (bounds.getMinLatitude() + bounds.getMaxLatitude()) / 2;
+        double centerLongitude = (bounds.getMinLongitude() + bounds.getMaxLongitude()) / 2;
+        double halfDiagonalKm = Math.max(
+                GeoArea.distanceKm(centerLatitude, centerLongitude, bounds.getMinLatitude(), bounds.getMaxLongitude()),
+                GeoArea.distanceKm(centerLatitude, centerLongitude, bounds.getMaxLatitude(), bounds.getMaxLongitude()));
+        return new ShopSearchKey(Type.NEAR, null, null, null, cell, centerLatitude, centerLongitude, radiusKm + halfDiagonalKm);
+    }
+
+    /**
+     *  저장/수정된 매장이 이 조건의 결과에 새로 들어갈 수 있는지
+     */
+    boolean matches(Shop shop, ShopSearchBackend shopSearchBackend) {
+        Address address = shop.getAddress();
+        switch (type) {
+            case NEAR:
+                return address != null
+                        && GeoArea.distanceKm(latitude, longitude, address.getLatitude(), address.getLongitude()) < radiusKm;
+            case REGION:
+                return address != null && city.equals(address.getCity())
+                        && shopSearchBackend.matches(ShopSearchDocument.of(shop), keyword, searchMode);
+            default:
+                return shopSearchBackend.matches(ShopSearchDocument.of(shop), keyword, searchMode);
+        }
+    }
+
+    private enum Type {
+        SEARCH, REGION, NEAR
+    }
+}
@@ -1,17 +1,38 @@
 package com.minionz.backend.shop.service;
 
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.minionz.backend.common.domain.GeoArea;
 import com.minionz.backend.common.domain.Message;
 import com.minionz.backend.common.exception.BadRequestException;
 import com.minionz.backend.common.exception.NotFoundException;
 import com.minionz.backend.shop.controller.dto.*;
+import com.minionz.backend.shop.domain.OccupancySnapshot;
 import com.minionz.backend.shop.domain.Shop;
+import com.minionz.backend.shop.domain.ShopChangedEvent;
+import com.minionz.backend.shop.domain.SearchMode;
+import com.minionz.backend.shop.domain.ShopDistance;
+import com.minionz.backend.shop.domain.ShopFields;
+import com.minionz.backend.shop.domain.ShopListEntry;
 import com.minionz.backend.shop.domain.ShopRepository;
+import com.minionz.backend.shop.domain.ShopSearchEntry;
+import com.minionz.backend.shop.domain.ShopTable;
+import com.minionz.backend.shop.domain.UseStatus;
 import com.minionz.backend.user.domain.*;
+import com.minionz.backend.visit.domain.VisitRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
@@ -26,11 +47,33 @@ public class ShopService {
     private static final String SHOP_DELETE_SUCCESS = "DELETE 성공";
     private static final String SHOP_SAVE_FAILURE = "SHOP 등록 실패";
     private static final String SHOP_NOT_FOUND_MESSAGE = "해당 매장이 존재하지 않습니다.";
+    private static final String INVALID_NEAREST_SHOP_CONDITION_MESSAGE = "잘못된 근처 매장 조회 조건입니다.";
+    private static final String INVALID_AUTOCOMPLETE_LIMIT_MESSAGE = "자동완성 개수는 1개 이상 10개 이하입니다.";
+    private static final double NEAR_SHOP_RADIUS_KM = 0.5;
+    private static final String INVALID_SHOP_PAGE_LIMIT_MESSAGE = "매장 목록 개수는 1개 이상 100개 이하입니다.";
+    private static final int MAX_NEAREST_SHOP_LIMIT = 100;
+    private static final int MAX_SHOP_PAGE_LIMIT = 100;
+    private static final String INVALID_SHOP_CARDS_MESSAGE = "매장 카드는 1개 이상 100개 이하로 조회할 수 있습니다.";
+    private static final int MAX_SHOP_CARDS = 100;
+    private static final double MAX_NEAREST_SHOP_RADIUS_KM = 20;
+    private static final String INVALID_SEARCH_INDEX_CITIES_MESSAGE = "다시 적재할 지역을 1곳 이상 입력해 주세요.";
+    private static final String SEARCH_INDEX_REBUILD_SUCCESS = "검색 인덱스 지역 적재 성공";
 
     private final ShopRepository shopRepository;
     private final OwnerRepository ownerRepository;
     private final UserRepository userRepository;
     private final BookmarkRepository bookmarkRepository;
+    private final VisitRepository visitRepository;
+    private final ShopOccupancyRegistry shopOccupancyRegistry;
+    private final ShopSpatialIndex shopSpatialIndex;
+    private final ShopSearchBackend shopSearchBackend;
+    private final ShopAutocompleteIndex shopAutocompleteIndex;
+    private final ShopRanker shopRanker;
+    private final ShopRankingProperties shopRankingProperties;
+    private final ShopSearchCache shopSearchCache;
+    private final ShopVersions shopVersions;
+    private final ShopDetailFragments shopDetailFragments;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     @Transactional
     public ShopSaveResponseDto save(ShopRequestDto shopRequestDto) {
@@ -43,6 +86,7 @@ public class ShopService {
         shopRepository.save(shop);
         Shop savedShop = shopRepository.findByTelNumber(shopRequestDto.getTelNumber())
                 .orElseThrow(() -> new BadRequestException(SHOP_SAVE_FAILURE));
+        applicationEventPublisher.publishEvent(ShopChangedEvent.saved(savedShop));
         return new ShopSaveResponseDto(savedShop.getId(), new Message(SHOP_SAVE_SUCCESS));
     }
 
@@ -51,6 +95,7 @@ public class ShopService {
         Shop shop = shopRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException(NOT_FOUND_SHOP_MESSAGE));
         shop.update(shopRequestDto);
+        applicationEventPublisher.publishEvent(ShopChangedEvent.updated(shop));
         return new Message(SHOP_UPDATE_SUCCESS);
     }
 
@@ -58,29 +103,103 @@ public class ShopService {
     public Message delete(Long id) {
         Shop shop = shopRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException(NOT_FOUND_SHOP_MESSAGE));
+        visitRepository.deleteAllByShopId(shop.getId());
         shopRepository.delete(shop);
+        applicationEventPublisher.publishEvent(ShopChangedEvent.deleted(shop));
         return new Message(SHOP_DELETE_SUCCESS);
     }
 
+    /**
+     *  id 순 keyset 페이지, 필요한 컬럼만 읽고 limit + 1 건으로 다음 페이지 여부를 판단
+     */
     @Transactional(readOnly = true)
-    public List<ShopResponseDto> viewAll() {
-        List<ShopResponseDto> responseDtos = shopRepository.findAll()
-                .stream()
-                .map(s -> new ShopResponseDto(s.getName(), s.getCongestionStatus()))
-                .collect(Collectors.toList());
-        if (responseDtos == null) {
+    public ShopPageResponseDto viewAll(String cursor, int limit, ShopFields fields) {
+        if (limit < 1 || limit > MAX_SHOP_PAGE_LIMIT) {
+            throw new BadRequestException(INVALID_SHOP_PAGE_LIMIT_MESSAGE);
+        }
+        List<ShopListEntry> shopListEntries = shopRepository.findListEntriesAfter(ShopListCursor.decode(cursor), PageRequest.of(0, limit + 1));
+        if (shopListEntries.isEmpty() && (cursor == null || cursor.isEmpty())) {
             throw new NotFoundException(NOT_FOUND_SHOP_LIST_MESSAGE);
         }
-        return responseDtos;
+        boolean hasNext = shopListEntries.size() > limit;
+        List<ShopListEntry> page = hasNext ? shopListEntries.subList(0, limit) : shopListEntries;
+        List<ShopResponseDto> shops = page.stream()
+                .map(entry -> new ShopResponseDto(fields.includes("name") ? entry.getName() : null,
+                        fields.includes("congestionStatus") ? shopOccupancyRegistry.congestionStatusOf(entry.getShopId()) : null))
+                .collect(Collectors.toList());
+        String nextCursor = hasNext ? ShopListCursor.encode(page.get(page.size() - 1).getShopId()) : null;
+        return new ShopPageResponseDto(shops, nextCursor);
     }
 
+    /**
+     *  중복 id 는 처음 나온 자리만 남기고 요청 순서대로, 없는 매장은 빼고 돌려줌 (IN 조회 한 번)
+     */
     @Transactional(readOnly = true)
+    public List<CommonShopResponseDto> viewCards(List<Long> shopIds) {
+        if (shopIds == null || shopIds.isEmpty()) {
+            throw new BadRequestException(INVALID_SHOP_CARDS_MESSAGE);
+        }
+        Set<Long> uniqueShopIds = new LinkedHashSet<>(shopIds);
+        uniqueShopIds.remove(null);
+        if (uniqueShopIds.isEmpty() || uniqueShopIds.size() > MAX_SHOP_CARDS) {
+            throw new BadRequestException(INVALID_SHOP_CARDS_MESSAGE);
+        }
+        Map<Long, ShopSearchEntry> shops = shopRepository.findSearchEntriesByIdIn(uniqueShopIds)
+                .stream()
+                .collect(Collectors.toMap(ShopSearchEntry::getShopId, Function.identity()));
+        return uniqueShopIds.stream()
+                .filter(shops::containsKey)
+                .map(shopId -> toCommonShopResponseDto(shops.get(shopId)))
+                .collect(Collectors.toList());
+    }
+
     public ShopDetailResponseDto viewDetail(Long userId, Long shopId) {
-        Shop shop = shopRepository.findById(shopId)
+        return viewDetail(userId, shopId, ShopFields.ALL);
+    }
+
+    /**
+     *  전체 필드는 미리 만든 정적인 부분(ShopDetailFragments)에 혼잡도 / 인원 / 즐겨찾기만 붙임
+     *  일부 필드만 요청하면 테이블은 tableInfoList, 유저와 즐겨찾기는 bookMark 를 요청했을 때만 읽음
+     */
+    @Transactional(readOnly = true)
+    public ShopDetailResponseDto viewDetail(Long userId, Long shopId, ShopFields fields) {
+        if (fields == ShopFields.ALL) {
+            return viewEncodedDetail(userId, shopId);
+        }
+        boolean includesTableInfo = fields.includes(ShopDetailResponseDto.TABLE_INFO_FIELD);
+        Shop shop = (includesTableInfo ? shopRepository.findById(shopId) : shopRepository.findWithoutTablesById(shopId))
                 .orElseThrow(() -> new NotFoundException(NOT_FOUND_SHOP_MESSAGE));
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException(NOT_FOUND_USER_MESSAGE));
-        return new ShopDetailResponseDto(shop, createShopTableCountList(shop), user);
+        Boolean bookMark = null;
+        if (fields.includes(ShopDetailResponseDto.BOOKMARK_FIELD)) {
+            User user = userRepository.findById(userId)
+                    .orElseThrow(() -> new NotFoundException(NOT_FOUND_USER_MESSAGE));
+            bookMark = user.checkBookmark(shopId);
+        }
+        List<ShopTableCountResponseDto> tableInfoList = includesTableInfo ? createShopTableCountList(shop) : null;
+        OccupancySnapshot occupancySnapshot = fields.includesAny(ShopDetailResponseDto.OCCUPANCY_FIELDS)
+                ? shopOccupancyRegistry.snapshot(shopId)
+                : null;
+        return new ShopDetailResponseDto(shop, tableInfoList, bookMark, occupancySnapshot, fields);
+    }
+
+    private ShopDetailResponseDto viewEncodedDetail(Long userId, Long shopId) {
+        ShopDetailFragment fragment = shopDetailFragments.get(shopId, () -> {
+            Shop shop = shopRepository.findById(shopId)
+                    .orElseThrow(() -> new NotFoundException(NOT_FOUND_SHOP_MESSAGE));
+            return new ShopDetailResponseDto(shop, createShopTableCountList(shop), null, null, ShopFields.ALL);
+        });
+        if (!userRepository.existsById(userId)) {
+            throw new NotFoundException(NOT_FOUND_USER_MESSAGE);
+        }
+        boolean bookMark = bookmarkRepository.existsByUserIdAndShopId(userId, shopId);
+        return new EncodedShopDetailResponseDto(fragment, shopOccupancyRegistry.snapshot(shopId), bookMark);
+    }
+
+    /**
+     *  메모리에 있는 버전만 읽으므로 매장이 없어도 예외 없이 기본 버전을 돌려줌
+     */
+    public ShopVersion versionOf(Long id) {
+        return shopVersions.versionOf(id);
     }
 
     @Transactional(readOnly = true)
@@ -89,35 +208,210 @@ public class ShopService {
                 .orElseThrow(() -> new NotFoundException(NOT_FOUND_SHOP_MESSAGE));
         return shop.getTableList()
                 .stream()
-                .map(table -> new ShopTableResponseDto(table.getId(), table.getTableNumber(), table.getMaxUser(), table.getCountUser(), table.getUseStatus()))
+                .map(this::toShopTableResponseDto)
                 .collect(Collectors.toList());
     }
 
-    @Transactional(readOnly = true)
+    /**
+     *  since 이후 바뀐 테이블만 메모리(점유 레지스트리)에서 돌려주고, 기록 밖이면 전체 목록과 fullResync 를 돌려줌
+     *  버전을 먼저 읽으므로 겹친 변경은 다음 요청에서 한 번 더 내려갈 뿐 빠지지 않음
+     *  기동 후 바뀐 적 없는 매장은 기동 시각 버전으로 보므로, 없는 매장인지는 DB 로 확인
+     */
+    public ShopTableChangesResponseDto viewTableChanges(Long id, long since) {
+        ShopChangeLog.Changes changes = shopVersions.changesSince(id, since);
+        if (changes.isFullResync()) {
+            return new ShopTableChangesResponseDto(changes.getVersion(), true, viewTables(id));
+        }
+        if (!shopVersions.isTracked(id) && !shopRepository.existsById(id)) {
+            throw new NotFoundException(NOT_FOUND_SHOP_MESSAGE);
+        }
+        List<ShopTableResponseDto> tables = new ArrayList<>();
+        if (!changes.getTableIds().isEmpty()) {
+            ShopOccupancy occupancy = shopOccupancyRegistry.occupancyOf(id);
+            for (int index = 0; index < occupancy.size(); index++) {
+                if (changes.getTableIds().contains(occupancy.tableId(index))) {
+                    int countUser = occupancy.countUser(index);
+                    tables.add(new ShopTableResponseDto(occupancy.tableId(index), occupancy.tableNumber(index),
+                            occupancy.maxUser(index), countUser, UseStatus.of(countUser)));
+                }
+            }
+        }
+        return new ShopTableChangesResponseDto(changes.getVersion(), false, tables);
+    }
+
     public List<CommonShopResponseDto> searchShop(String keyword) {
-        List<Shop> findShopList = shopRepository.findByNameContains(keyword);
-        findValidate(findShopList);
-        return findShopList.stream()
-                .map(shop -> new CommonShopResponseDto(shop))
-                .collect(Collectors.toList());
+        return searchShop(keyword, SearchMode.NAME, ShopFields.ALL);
+    }
+
+    public List<CommonShopResponseDto> searchShop(String keyword, SearchMode searchMode, ShopFields fields) {
+        List<ShopSearchEntry> findShopList = shopSearchCache.get(ShopSearchKey.search(keyword, searchMode),
+                () -> rankSearchHits(shopSearchBackend.findHits(keyword, null, searchMode), keyword, shopRankingProperties.getSearch()));
+        return toCommonShopResponseDtos(findShopList, fields);
     }
 
-    @Transactional(readOnly = true)
     public List<CommonShopResponseDto> searchShopByRegion(String query, String region) {
-        List<Shop> findShopList = shopRepository.findByAddressCityEqualsAndNameContains(region, query);
-        findValidate(findShopList);
-        return findShopList.stream()
-                .map(shop -> new CommonShopResponseDto(shop))
+        return searchShopByRegion(query, region, SearchMode.NAME, ShopFields.ALL);
+    }
+
+    public List<CommonShopResponseDto> searchShopByRegion(String query, String region, SearchMode searchMode, ShopFields fields) {
+        List<ShopSearchEntry> findShopList = shopSearchCache.get(ShopSearchKey.region(query, region, searchMode),
+                () -> rankSearchHits(shopSearchBackend.findHits(query, region, searchMode), query, shopRankingProperties.getRegion()));
+        return toCommonShopResponseDtos(findShopList, fields);
+    }
+
+    public SearchCacheStatsResponseDto searchCacheStats() {
+        CacheStats stats = shopSearchCache.stats();
+        return new SearchCacheStatsResponseDto(stats.hitCount(), stats.missCount(), stats.hitRate(),
+                stats.evictionCount(), shopSearchCache.size());
+    }
+
+    /**
+     *  대량 적재한 지역의 검색 인덱스를 다시 만들고, 이전 인덱스로 만든 검색 결과 캐시를 비움
+     */
+    public Message rebuildSearchIndex(List<String> cities) {
+        if (cities == null) {
+            throw new BadRequestException(INVALID_SEARCH_INDEX_CITIES_MESSAGE);
+        }
+        Set<String> uniqueCities = new LinkedHashSet<>(cities);
+        uniqueCities.remove(null);
+        if (uniqueCities.isEmpty()) {
+            throw new BadRequestException(INVALID_SEARCH_INDEX_CITIES_MESSAGE);
+        }
+        shopSearchBackend.rebuildCities(uniqueCities);
+        shopSearchCache.invalidateAll();
+        return new Message(SEARCH_INDEX_REBUILD_SUCCESS);
+    }
+
+    public List<AutocompleteResponseDto> autocomplete(String prefix, int limit) {
+        if (limit < 1 || limit > ShopAutocompleteIndex.MAX_SUGGESTIONS) {
+            throw new BadRequestException(INVALID_AUTOCOMPLETE_LIMIT_MESSAGE);
+        }
+        if (prefix == null || prefix.trim().isEmpty()) {
+            return Collections.emptyList();
+        }
+        return shopAutocompleteIndex.suggest(prefix, limit);
+    }
+
+    public List<CommonShopResponseDto> nearShop(double latitude, double longitude) {
+        return nearShop(latitude, longitude, ShopFields.ALL);
+    }
+
+    /**
+     *  거리와 정렬은 요청 좌표로 매번 계산하고, 매장 정보는 요청 좌표가 든 셀 단위로 캐시한 후보에서 꺼냄
+     */
+    @Transactional(readOnly = true)
+    public List<CommonShopResponseDto> nearShop(double latitude, double longitude, ShopFields fields) {
+        List<ShopDistance> shopDistances = findNearShops(latitude, longitude, NEAR_SHOP_RADIUS_KM);
+        findValidate(shopDistances);
+        ShopSearchKey key = ShopSearchKey.near(latitude, longitude, NEAR_SHOP_RADIUS_KM);
+        Map<Long, ShopSearchEntry> cellShops = shopSearchCache.get(key, () -> loadNearCell(key))
+                .stream()
+                .collect(Collectors.toMap(ShopSearchEntry::getShopId, Function.identity()));
+        List<ShopSearchEntry> findShopList = rankNearShops(shopDistances)
+                .stream()
+                .filter(shopDistance -> cellShops.containsKey(shopDistance.getShopId()))
+                .map(shopDistance -> cellShops.get(shopDistance.getShopId()))
                 .collect(Collectors.toList());
+        return toCommonShopResponseDtos(findShopList, fields);
     }
 
     @Transactional(readOnly = true)
-    public List<CommonShopResponseDto> nearShop(double latitude, double longitude) {
-        List<Shop> shopList = shopRepository.findByNearShop(latitude, longitude);
-        findValidate(shopList);
+    public List<NearestShopResponseDto> nearestShops(double latitude, double longitude, int limit, double maxRadiusKm) {
+        if (limit < 1 || limit > MAX_NEAREST_SHOP_LIMIT || maxRadiusKm <= 0 || maxRadiusKm > MAX_NEAREST_SHOP_RADIUS_KM) {
+            throw new BadRequestException(INVALID_NEAREST_SHOP_CONDITION_MESSAGE);
+        }
+        List<ShopDistance> shopDistances = findNearestShops(latitude, longitude, limit, maxRadiusKm);
+        Map<Long, ShopSearchEntry> shops = shopRepository.findSearchEntriesByIdIn(shopDistances.stream()
+                .map(ShopDistance::getShopId)
+                .collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(ShopSearchEntry::getShopId, Function.identity()));
+        return shopDistances.stream()
+                .filter(shopDistance -> shops.containsKey(shopDistance.getShopId()))
+                .map(shopDistance -> new NearestShopResponseDto(shops.get(shopDistance.getShopId()),
+                        shopOccupancyRegistry.snapshot(shopDistance.getShopId()),
+                        shopDistance.getDistanceKm()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     *  가까운 순서로 최대 limit 개, 공간 인덱스가 준비되지 않았으면 DB 에서 반경 안 매장을 찾아 정렬
+     */
+    private List<ShopDistance> findNearestShops(double latitude, double longitude, int limit, double maxRadiusKm) {
+        if (shopSpatialIndex.isReady()) {
+            return shopSpatialIndex.findNearest(latitude, longitude, limit, maxRadiusKm);
+        }
+        return findNearShops(latitude, longitude, maxRadiusKm)
+                .stream()
+                .sorted(Comparator.comparingDouble(ShopDistance::getDistanceKm))
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     *  반경 안 매장과 거리, 공간 인덱스가 준비되지 않았으면 DB 에서 찾아 거리를 계산
+     */
+    private List<ShopDistance> findNearShops(double latitude, double longitude, double radiusKm) {
+        if (shopSpatialIndex.isReady()) {
+            return shopSpatialIndex.findDistancesWithin(latitude, longitude, radiusKm);
+        }
+        GeoArea area = GeoArea.around(latitude, longitude, radiusKm);
+        List<Shop> shopList = area.isCoverable()
+                ? shopRepository.findByNearShopInArea(latitude, longitude, area.coveringGeohashes(),
+                area.getMinLatitude(), area.getMaxLatitude(), area.getMinLongitude(), area.getMaxLongitude(), radiusKm)
+                : shopRepository.findByNearShop(latitude, longitude, radiusKm);
         return shopList.stream()
-                .map(CommonShopResponseDto::new)
+                .map(shop -> new ShopDistance(shop.getId(), GeoArea.distanceKm(latitude, longitude,
+                        shop.getAddress().getLatitude(), shop.getAddress().getLongitude())))
+                .collect(Collectors.toList());
+    }
+
+    private ShopSearchCache.Result rankSearchHits(List<ShopSearchHit> hits, String query, ShopRankingProperties.Weights weights) {
+        findValidate(hits);
+        List<ShopSearchEntry> rankedShops = shopRanker.top(hits, hit -> hit.getEntry().getShopId(),
+                hit -> ShopRanker.textRelevance(hit.getEntry().getName(), query, hit.getRank()), hit -> 0, weights)
+                .stream()
+                .map(ShopSearchHit::getEntry)
                 .collect(Collectors.toList());
+        return new ShopSearchCache.Result(rankedShops, hits.stream()
+                .map(hit -> hit.getEntry().getShopId())
+                .collect(Collectors.toList()));
+    }
+
+    private List<ShopDistance> rankNearShops(List<ShopDistance> shopDistances) {
+        return shopRanker.top(shopDistances, ShopDistance::getShopId, shopDistance -> 0,
+                shopDistance -> 1 - shopDistance.getDistanceKm() / NEAR_SHOP_RADIUS_KM, shopRankingProperties.getNear());
+    }
+
+    /**
+     *  셀 안 어느 좌표에서 요청해도 반경 안에 들 수 있는 매장 (셀 중심에서 늘린 반경 안)
+     */
+    private ShopSearchCache.Result loadNearCell(ShopSearchKey key) {
+        List<Long> shopIds = findNearShops(key.getLatitude(), key.getLongitude(), key.getRadiusKm())
+                .stream()
+                .map(ShopDistance::getShopId)
+                .collect(Collectors.toList());
+        return new ShopSearchCache.Result(shopRepository.findSearchEntriesByIdIn(shopIds), shopIds);
+    }
+
+    /**
+     *  캐시한 결과에는 혼잡도 숫자가 없으므로 응답마다 현재 값을 붙임
+     */
+    private List<CommonShopResponseDto> toCommonShopResponseDtos(List<ShopSearchEntry> shopSearchEntries, ShopFields fields) {
+        boolean includesOccupancy = fields.includesAny(CommonShopResponseDto.OCCUPANCY_FIELDS);
+        return shopSearchEntries.stream()
+                .map(entry -> new CommonShopResponseDto(entry,
+                        includesOccupancy ? shopOccupancyRegistry.snapshot(entry.getShopId()) : null, fields))
+                .collect(Collectors.toList());
+    }
+
+    private CommonShopResponseDto toCommonShopResponseDto(ShopSearchEntry shopSearchEntry) {
+        return new CommonShopResponseDto(shopSearchEntry, shopOccupancyRegistry.snapshot(shopSearchEntry.getShopId()));
+    }
+
+    private ShopTableResponseDto toShopTableResponseDto(ShopTable table) {
+        int countUser = shopOccupancyRegistry.countUserOf(table.getId(), table.getCountUser());
+        return new ShopTableResponseDto(table.getId(), table.getTableNumber(), table.getMaxUser(), countUser, UseStatus.of(countUser));
     }
 
     private List<ShopTableCountResponseDto> createShopTableCountList(Shop shop) {
@@ -127,7 +421,7 @@ public class ShopService {
                 .collect(Collectors.toList());
     }
 
-    private void findValidate(List<Shop> shopList) {
+    private void findValidate(List<?> shopList) {
         if (shopList.size() == 0) {
             throw new NotFoundException(NOT_FOUND_SHOP_LIST_MESSAGE);
         }
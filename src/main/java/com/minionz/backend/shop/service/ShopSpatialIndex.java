@@ -0,0 +1,215 @@
+package com.minionz.backend.shop.service;
+
+import com.minionz.backend.common.domain.Address;
+import com.minionz.backend.common.domain.GeoArea;
+import com.minionz.backend.shop.domain.ShopChangedEvent;
+import com.minionz.backend.shop.domain.ShopDistance;
+import com.minionz.backend.shop.domain.ShopLocation;
+import com.minionz.backend.shop.domain.ShopRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ *  매장 좌표 메모리 공간 인덱스
+ *  시작 시 KD 트리로 적재하고, 이후 등록/수정/삭제는 트리를 다시 만들지 않고 overlay 와 tombstone 에 기록
+ *  변경분이 쌓이면 메모리 안에서만 트리를 다시 만들어 교체
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ShopSpatialIndex {
+
+    private static final int MIN_COMPACTION_THRESHOLD = 1024;
+    private static final int COMPACTION_RATIO = 16;
+
+    private final ShopRepository shopRepository;
+    private volatile Snapshot snapshot;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        List<ShopLocation> locations = shopRepository.findAllLocations()
+                .stream()
+                .filter(ShopLocation::hasCoordinates)
+                .collect(Collectors.toList());
+        snapshot = new Snapshot(buildTree(locations), Collections.emptyMap(), Collections.emptySet());
+        log.info("매장 공간 인덱스 적재 : {}건", locations.size());
+    }
+
+    @TransactionalEventListener
+    public synchronized void onShopChanged(ShopChangedEvent event) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return;
+        }
+        Map<Long, ShopLocation> overlay = new HashMap<>(current.overlay);
+        Set<Long> tombstones = new HashSet<>(current.tombstones);
+        overlay.remove(event.getShopId());
+        tombstones.add(event.getShopId());
+        Address address = event.getShop().getAddress();
+        if (!event.isDeleted() && address != null) {
+            overlay.put(event.getShopId(), new ShopLocation(event.getShopId(), address.getLatitude(), address.getLongitude()));
+        }
+        Snapshot next = new Snapshot(current.tree, overlay, tombstones);
+        snapshot = next.needsCompaction() ? next.compact() : next;
+    }
+
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    /**
+     *  반경 안 매장 id (순서 없음)
+     */
+    public List<Long> findWithin(double latitude, double longitude, double radiusKm) {
+        return findDistancesWithin(latitude, longitude, radiusKm).stream()
+                .map(ShopDistance::getShopId)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     *  반경 안 매장 id 와 거리(km) (순서 없음)
+     */
+    public List<ShopDistance> findDistancesWithin(double latitude, double longitude, double radiusKm) {
+        GeoArea area = GeoArea.around(latitude, longitude, radiusKm);
+        List<ShopDistance> shopDistances = new ArrayList<>();
+        search(area.getMinLatitude(), area.getMaxLatitude(), area.getMinLongitude(), area.getMaxLongitude(), (shopId, shopLatitude, shopLongitude) -> {
+            double distanceKm = GeoArea.distanceKm(latitude, longitude, shopLatitude, shopLongitude);
+            if (distanceKm < radiusKm) {
+                shopDistances.add(new ShopDistance(shopId, distanceKm));
+            }
+        });
+        return shopDistances;
+    }
+
+    /**
+     *  가까운 순서로 최대 limit 개, 거리는 km, 인덱스가 준비되지 않았으면 빈 목록
+     */
+    public List<ShopDistance> findNearest(double latitude, double longitude, int limit, double maxRadiusKm) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return new ArrayList<>();
+        }
+        List<ShopDistance> shopDistances = current.findNearest(latitude, longitude, limit, maxRadiusKm);
+        shopDistances.sort(Comparator.comparingDouble(ShopDistance::getDistanceKm));
+        return shopDistances.size() > limit ? new ArrayList<>(shopDistances.subList(0, limit)) : shopDistances;
+    }
+
+    /**
+     *  사각 영역 안 매장 id (순서 없음), 경도 범위가 날짜 변경선을 넘으면 나눠서 조회
+     */
+    public List<Long> findInBox(double minLatitude, double maxLatitude, double minLongitude, double maxLongitude) {
+        List<Long> shopIds = new ArrayList<>();
+        search(minLatitude, maxLatitude, minLongitude, maxLongitude, (shopId, shopLatitude, shopLongitude) -> shopIds.add(shopId));
+        return shopIds;
+    }
+
+    private void search(double minLatitude, double maxLatitude, double minLongitude, double maxLongitude, LocationConsumer consumer) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return;
+        }
+        if (maxLongitude - minLongitude >= 360) {
+            current.search(minLatitude, maxLatitude, -180, 180, consumer);
+            return;
+        }
+        if (minLongitude < -180) {
+            current.search(minLatitude, maxLatitude, minLongitude + 360, 180, consumer);
+            minLongitude = -180;
+        }
+        if (maxLongitude > 180) {
+            current.search(minLatitude, maxLatitude, -180, maxLongitude - 360, consumer);
+            maxLongitude = 180;
+        }
+        current.search(minLatitude, maxLatitude, minLongitude, maxLongitude, consumer);
+    }
+
+    private static ShopKdTree buildTree(Collection<ShopLocation> locations) {
+        long[] ids = new long[locations.size()];
+        double[] latitudes = new double[locations.size()];
+        double[] longitudes = new double[locations.size()];
+        int index = 0;
+        for (ShopLocation location : locations) {
+            ids[index] = location.getShopId();
+            latitudes[index] = location.getLatitude();
+            longitudes[index] = location.getLongitude();
+            index++;
+        }
+        return ShopKdTree.build(ids, latitudes, longitudes);
+    }
+
+    @FunctionalInterface
+    interface LocationConsumer {
+
+        void accept(long shopId, double latitude, double longitude);
+    }
+
+    private static class Snapshot {
+
+        private final ShopKdTree tree;
+        private final Map<Long, ShopLocation> overlay;
+        private final Set<Long> tombstones;
+
+        private Snapshot(ShopKdTree tree, Map<Long, ShopLocation> overlay, Set<Long> tombstones) {
+            this.tree = tree;
+            this.overlay = overlay;
+            this.tombstones = tombstones;
+        }
+
+        private void search(double minLatitude, double maxLatitude, double minLongitude, double maxLongitude, LocationConsumer consumer) {
+            tree.search(minLatitude, maxLatitude, minLongitude, maxLongitude, index -> {
+                long shopId = tree.id(index);
+                if (!tombstones.contains(shopId)) {
+                    consumer.accept(shopId, tree.latitude(index), tree.longitude(index));
+                }
+            });
+            for (ShopLocation location : overlay.values()) {
+                double latitude = location.getLatitude();
+                double longitude = location.getLongitude();
+                if (minLatitude <= latitude && latitude <= maxLatitude && minLongitude <= longitude && longitude <= maxLongitude) {
+                    consumer.accept(location.getShopId(), latitude, longitude);
+                }
+            }
+        }
+
+        private List<ShopDistance> findNearest(double latitude, double longitude, int limit, double maxRadiusKm) {
+            List<ShopDistance> shopDistances = new ArrayList<>();
+            tree.nearest(latitude, longitude, maxRadiusKm, (index, distanceKm) -> {
+                long shopId = tree.id(index);
+                if (!tombstones.contains(shopId)) {
+                    shopDistances.add(new ShopDistance(shopId, distanceKm));
+                }
+                return shopDistances.size() < limit;
+            });
+            for (ShopLocation location : overlay.values()) {
+                double distanceKm = GeoArea.distanceKm(latitude, longitude, location.getLatitude(), location.getLongitude());
+                if (distanceKm <= maxRadiusKm) {
+                    shopDistances.add(new ShopDistance(location.getShopId(), distanceKm));
+                }
+            }
+            return shopDistances;
+        }
+
+        private boolean needsCompaction() {
+            return overlay.size() + tombstones.size() > Math.max(MIN_COMPACTION_THRESHOLD, tree.size() / COMPACTION_RATIO);
+        }
+
+        private Snapshot compact() {
+            List<ShopLocation> locations = new ArrayList<>(tree.size() + overlay.size());
+            for (int index = 0; index < tree.size(); index++) {
+                long shopId = tree.id(index);
+                if (!tombstones.contains(shopId)) {
+                    locations.add(new ShopLocation(shopId, tree.latitude(index), tree.longitude(index)));
+                }
+            }
+            locations.addAll(overlay.values());
+            return new Snapshot(buildTree(locations), Collections.emptyMap(), Collections.emptySet());
+        }
+    }
+}
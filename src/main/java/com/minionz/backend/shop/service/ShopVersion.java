@@ -0,0 +1,19 @@
+package com.minionz.backend.shop.service;
+
+import lombok.Getter;
+
+/**
+ *  매장 / 테이블 조회 응답의 검증자, eTag 는 서버 기동 시각과 매장별 버전으로 만든 강한 ETag
+ *  Last-Modified 는 초 단위라 1초 안의 변경을 구분하지 못해 오래된 304 가 나갈 수 있으므로 쓰지 않음
+ */
+@Getter
+public class ShopVersion {
+
+    private final String eTag;
+    private final long version;
+
+    public ShopVersion(String epoch, long version) {
+        this.eTag = "\"" + epoch + "-" + version + "\"";
+        this.version = version;
+    }
+}
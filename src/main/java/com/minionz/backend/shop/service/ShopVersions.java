@@ -0,0 +1,72 @@
+package com.minionz.backend.shop.service;
+
+import com.minionz.backend.shop.domain.OccupancyChangedEvent;
+import com.minionz.backend.shop.domain.ShopChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ *  매장별 버전, 매장 정보가 저장/수정/삭제되거나 테이블 인원이 바뀔 때마다 1 씩 증가
+ *  기동 이후 바뀐 매장만 ShopChangeLog 를 들고 있고 나머지는 기동 시각 버전으로 보므로 조건부 요청 비교에 DB 조회가 없음
+ *  버전이 기동 시각(ms)에서 시작하므로 재기동 전에 받은 버전은 floor 보다 작아 전체 재동기화로 처리되고,
+ *  기동 시각이 ETag 에도 들어가 이전 ETag 와 겹치지 않음
+ *  삭제된 매장도 지우지 않고 버전을 올려 두어 캐시된 응답이 304 로 살아나지 않게 함
+ */
+@Component
+public class ShopVersions {
+
+    private final long startedAt = System.currentTimeMillis();
+    private final String epoch = Long.toString(startedAt, 36);
+    private final ShopVersion initialVersion = new ShopVersion(epoch, startedAt);
+    private final ConcurrentMap<Long, ShopChangeLog> changeLogs = new ConcurrentHashMap<>();
+    private final int changeLogCapacity;
+
+    public ShopVersions(@Value("${qrna.table-changes.capacity:64}") int changeLogCapacity) {
+        this.changeLogCapacity = changeLogCapacity;
+    }
+
+    public ShopVersion versionOf(Long shopId) {
+        ShopChangeLog changeLog = changeLogs.get(shopId);
+        if (changeLog == null) {
+            return initialVersion;
+        }
+        return changeLog.version(epoch);
+    }
+
+    /**
+     *  기동 후 한 번이라도 바뀐(삭제 포함) 매장인지
+     */
+    boolean isTracked(Long shopId) {
+        return changeLogs.containsKey(shopId);
+    }
+
+    ShopChangeLog.Changes changesSince(Long shopId, long since) {
+        ShopChangeLog changeLog = changeLogs.get(shopId);
+        if (changeLog == null) {
+            return since == startedAt
+                    ? new ShopChangeLog.Changes(startedAt, false, Collections.emptySet())
+                    : ShopChangeLog.Changes.fullResync(startedAt);
+        }
+        return changeLog.changesSince(since);
+    }
+
+    @TransactionalEventListener
+    public void onShopChanged(ShopChangedEvent event) {
+        changeLogOf(event.getShopId()).recordShop();
+    }
+
+    @EventListener
+    public void onOccupancyChanged(OccupancyChangedEvent event) {
+        changeLogOf(event.getShopId()).recordTable(event.getTableId());
+    }
+
+    private ShopChangeLog changeLogOf(Long shopId) {
+        return changeLogs.computeIfAbsent(shopId, id -> new ShopChangeLog(changeLogCapacity, startedAt));
+    }
+}
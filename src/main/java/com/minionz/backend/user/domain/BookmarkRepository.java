@@ -1,10 +1,20 @@
 package com.minionz.backend.user.domain;
 
+import com.minionz.backend.shop.domain.ShopSearchEntry;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
 
     boolean existsByShopId(Long shopId);
+
+    boolean existsByUserIdAndShopId(Long userId, Long shopId);
+
+    @Query("select new com.minionz.backend.shop.domain.ShopSearchEntry(s.id, s.name, s.address.street, s.address.city) from Bookmark b join b.shop s where b.user.id = :userId order by b.id")
+    List<ShopSearchEntry> findShopEntriesByUserId(@Param("userId") Long userId);
 }
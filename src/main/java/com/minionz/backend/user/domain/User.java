@@ -3,7 +3,6 @@ package com.minionz.backend.user.domain;
 import com.minionz.backend.common.domain.Address;
 import com.minionz.backend.common.exception.NotFoundException;
 import com.minionz.backend.shop.domain.Shop;
-import com.minionz.backend.visit.domain.Visit;
 import lombok.*;
 
 import javax.persistence.*;
@@ -21,9 +20,6 @@ import java.util.List;
 @Entity
 public class User extends UserBaseEntity {
 
-    @OneToMany(mappedBy = "user", cascade = CascadeType.ALL)
-    private List<Visit> visitList = new ArrayList<>();
-
     @Embedded
     private Address address;
 
@@ -5,10 +5,13 @@ import com.minionz.backend.common.exception.BadRequestException;
 import com.minionz.backend.common.exception.NotEqualsException;
 import com.minionz.backend.common.exception.NotFoundException;
 import com.minionz.backend.shop.domain.Shop;
+import com.minionz.backend.shop.domain.ShopChangedEvent;
 import com.minionz.backend.user.controller.dto.*;
 import com.minionz.backend.user.domain.Owner;
 import com.minionz.backend.user.domain.OwnerRepository;
+import com.minionz.backend.visit.domain.VisitRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -29,7 +32,9 @@ public class OwnerService {
     private static final String USER_DUPLICATION_MESSAGE = "해당 유저 이메일이 중복입니다.";
 
     private final OwnerRepository ownerRepository;
+    private final VisitRepository visitRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     @Transactional(readOnly = true)
     public LoginResponseDto login(LoginRequestDto loginRequestDto) {
@@ -60,6 +65,8 @@ public class OwnerService {
     public Message withdraw(Long id) {
         Owner owner = ownerRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException(USER_NOT_FOUND_MESSAGE));
+        owner.getShops().forEach(shop -> applicationEventPublisher.publishEvent(ShopChangedEvent.deleted(shop)));
+        visitRepository.deleteAllByShopOwnerId(owner.getId());
         ownerRepository.delete(owner);
         return new Message(WITHDRAW_SUCCESS_MESSAGE);
     }
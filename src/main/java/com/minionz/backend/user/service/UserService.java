@@ -7,12 +7,14 @@ import com.minionz.backend.common.exception.NotFoundException;
 import com.minionz.backend.shop.controller.dto.CommonShopResponseDto;
 import com.minionz.backend.shop.domain.Shop;
 import com.minionz.backend.shop.domain.ShopRepository;
+import com.minionz.backend.shop.service.ShopOccupancyRegistry;
 import com.minionz.backend.user.controller.dto.*;
 import com.minionz.backend.user.domain.Bookmark;
 import com.minionz.backend.user.domain.BookmarkRepository;
 import com.minionz.backend.user.domain.User;
 import com.minionz.backend.user.domain.UserRepository;
 import com.minionz.backend.visit.domain.Visit;
+import com.minionz.backend.visit.domain.VisitRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -39,6 +41,8 @@ public class UserService {
     private final UserRepository userRepository;
     private final ShopRepository shopRepository;
     private final BookmarkRepository bookmarkRepository;
+    private final VisitRepository visitRepository;
+    private final ShopOccupancyRegistry shopOccupancyRegistry;
     private final PasswordEncoder passwordEncoder;
 
     @Transactional(readOnly = true)
@@ -70,6 +74,7 @@ public class UserService {
     public Message withdraw(Long id) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException(USER_NOT_FOUND_MESSAGE));
+        visitRepository.deleteAllByUserId(user.getId());
         userRepository.delete(user);
         return new Message(WITHDRAW_SUCCESS_MESSAGE);
     }
@@ -78,17 +83,18 @@ public class UserService {
     public UserPageResponseDto viewMyPage(Long id) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException(USER_NOT_FOUND_MESSAGE));
-        List<UserVisitResponseDto> userVisitResponseDtoList = toUserVisitResponseDto(user.getVisitList());
+        List<UserVisitResponseDto> userVisitResponseDtoList = toUserVisitResponseDto(visitRepository.findAllByUserIdWithShop(user.getId()));
         return new UserPageResponseDto(user, userVisitResponseDtoList);
     }
 
     @Transactional(readOnly = true)
     public List<CommonShopResponseDto> viewMyBookmark(Long id) {
-        User user = userRepository.findById(id)
-                .orElseThrow(() -> new NotFoundException(USER_NOT_FOUND_MESSAGE));
-        List<Bookmark> bookmarks = user.getBookmarks();
-        return bookmarks.stream()
-                .map(bookmark -> new CommonShopResponseDto(bookmark.getShop()))
+        if (!userRepository.existsById(id)) {
+            throw new NotFoundException(USER_NOT_FOUND_MESSAGE);
+        }
+        return bookmarkRepository.findShopEntriesByUserId(id)
+                .stream()
+                .map(entry -> new CommonShopResponseDto(entry, shopOccupancyRegistry.snapshot(entry.getShopId())))
                 .collect(Collectors.toList());
     }
 
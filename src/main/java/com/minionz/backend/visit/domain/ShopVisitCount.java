@@ -0,0 +1,15 @@
+package com.minionz.backend.visit.domain;
+
+import lombok.Getter;
+
+@Getter
+public class ShopVisitCount {
+
+    private final Long shopId;
+    private final long visitCount;
+
+    public ShopVisitCount(Long shopId, Long visitCount) {
+        this.shopId = shopId;
+        this.visitCount = visitCount;
+    }
+}
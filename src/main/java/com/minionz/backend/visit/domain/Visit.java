@@ -28,18 +28,7 @@ public class Visit extends BaseEntity {
     @Builder
     public Visit(Long id, LocalDateTime createdDate, LocalDateTime modifiedDate, Shop shop, User user) {
         super(id, createdDate, modifiedDate);
-        setShop(shop);
-        setUser(user);
-    }
-
-    //==연관관계 편의 메소드==//
-    private void setShop(Shop shop) {
         this.shop = shop;
-        shop.getVisitList().add(this);
-    }
-
-    private void setUser(User user) {
         this.user = user;
-        user.getVisitList().add(this);
     }
 }
@@ -1,8 +1,35 @@
 package com.minionz.backend.visit.domain;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Repository
 public interface VisitRepository extends JpaRepository<Visit, Long> {
+
+    @Query("select v from Visit v join fetch v.shop where v.user.id = :userId order by v.id")
+    List<Visit> findAllByUserIdWithShop(@Param("userId") Long userId);
+
+    @Query("select new com.minionz.backend.visit.domain.ShopVisitCount(v.shop.id, count(v)) from Visit v where v.createdDate >= :since group by v.shop.id")
+    List<ShopVisitCount> countByShopSince(@Param("since") LocalDateTime since);
+
+    /**
+     *  매장 / 회원 / 사장님 삭제 전에 방문 기록을 먼저 지움, 이미 만들어진 DB 의 외래 키에는 ON DELETE CASCADE 가 없음
+     */
+    @Modifying
+    @Query("delete from Visit v where v.shop.id = :shopId")
+    void deleteAllByShopId(@Param("shopId") Long shopId);
+
+    @Modifying
+    @Query("delete from Visit v where v.user.id = :userId")
+    void deleteAllByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("delete from Visit v where v.shop.id in (select s.id from Shop s where s.owner.id = :ownerId)")
+    void deleteAllByShopOwnerId(@Param("ownerId") Long ownerId);
 }
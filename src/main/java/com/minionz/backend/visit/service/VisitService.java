@@ -3,8 +3,8 @@ package com.minionz.backend.visit.service;
 import com.minionz.backend.common.domain.Message;
 import com.minionz.backend.common.exception.NotFoundException;
 import com.minionz.backend.shop.domain.Shop;
-import com.minionz.backend.shop.domain.ShopTable;
-import com.minionz.backend.shop.domain.ShopTableRepository;
+import com.minionz.backend.shop.domain.ShopRepository;
+import com.minionz.backend.shop.service.ShopOccupancyRegistry;
 import com.minionz.backend.user.domain.User;
 import com.minionz.backend.user.domain.UserRepository;
 import com.minionz.backend.visit.controller.dto.CheckInRequestDto;
@@ -12,30 +12,34 @@ import com.minionz.backend.visit.domain.VisitRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @RequiredArgsConstructor
 @Service
 public class VisitService {
 
     private static final String NO_USER_ERROR_MESSAGE = "해당 유저가 존재하지 않습니다.";
-    private static final String NO_SHOP_ERROR_MESSAGE = "해당 업체가 존재하지 않습니다.";
-    private static final String NO_TABLE_ERROR_MESSAGE = "해당 테이블이 존재하지 않습니다.";
     private static final String CHECKIN_SUCCESS_MESSAGE = "방문 기록 성공";
 
     private final UserRepository userRepository;
     private final VisitRepository visitRepository;
-    private final ShopTableRepository shopTableRepository;
+    private final ShopRepository shopRepository;
+    private final ShopOccupancyRegistry shopOccupancyRegistry;
 
     @Transactional
     public Message checkIn(CheckInRequestDto checkInRequestDto) {
         User user = userRepository.findById(checkInRequestDto.getUserId())
                 .orElseThrow(() -> new NotFoundException(NO_USER_ERROR_MESSAGE));
-        ShopTable table = shopTableRepository.findById(checkInRequestDto.getTableId())
-                .orElseThrow(() -> new NotFoundException(NO_TABLE_ERROR_MESSAGE));
-        Shop shop = table.getOptionalShop()
-                .orElseThrow(() -> new NotFoundException(NO_SHOP_ERROR_MESSAGE));
-        table.use();
+        Long tableId = checkInRequestDto.getTableId();
+        Shop shop = shopRepository.getById(shopOccupancyRegistry.findShopId(tableId));
         visitRepository.save(checkInRequestDto.toEntity(user, shop));
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                shopOccupancyRegistry.use(tableId);
+            }
+        });
         return new Message(CHECKIN_SUCCESS_MESSAGE);
     }
 }
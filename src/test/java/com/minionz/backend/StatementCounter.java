@@ -0,0 +1,51 @@
+package com.minionz.backend;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import javax.persistence.EntityManagerFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ *  Hibernate 통계로 동작 하나가 준비한 SQL 문 개수를 셈
+ *  조회 건수와 무관하게 정해진 개수 안에서 끝나는지(N+1 이 없는지) 확인할 때 사용
+ */
+public class StatementCounter {
+
+    private final Statistics statistics;
+
+    public StatementCounter(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    public long count(Runnable action) {
+        statistics.setStatisticsEnabled(true);
+        try {
+            statistics.clear();
+            action.run();
+            return statistics.getPrepareStatementCount();
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
+    public long countCollectionLoads(Runnable action) {
+        statistics.setStatisticsEnabled(true);
+        try {
+            statistics.clear();
+            action.run();
+            return statistics.getCollectionLoadCount();
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
+    public long assertWithin(long budget, Runnable action) {
+        long statementCount = count(action);
+        assertThat(statementCount)
+                .as("SQL 문 개수")
+                .isLessThanOrEqualTo(budget);
+        return statementCount;
+    }
+}
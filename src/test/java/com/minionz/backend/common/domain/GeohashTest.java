@@ -0,0 +1,61 @@
+package com.minionz.backend.common.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GeohashTest {
+
+    @DisplayName("geohash 인코딩 테스트")
+    @Test
+    void encodeTest() {
+        // when
+        String geohash = Geohash.encode(57.64911, 10.40744);
+        // then
+        assertThat(geohash).isEqualTo("u4pruy");
+    }
+
+    @DisplayName("정밀도 지정 인코딩과 셀 범위 테스트")
+    @Test
+    void encodePrecisionTest() {
+        // when
+        String geohash = Geohash.encode(57.64911, 10.40744, 11);
+        GeoArea bounds = Geohash.bounds(Geohash.encode(57.64911, 10.40744, 7));
+        // then
+        assertThat(geohash).isEqualTo("u4pruydqqvj");
+        assertThat(Geohash.encode(57.64911, 10.40744, Geohash.PRECISION)).isEqualTo(Geohash.encode(57.64911, 10.40744));
+        assertThat(bounds.getMinLatitude()).isLessThanOrEqualTo(57.64911);
+        assertThat(bounds.getMaxLatitude()).isGreaterThan(57.64911);
+        assertThat(bounds.getMinLongitude()).isLessThanOrEqualTo(10.40744);
+        assertThat(bounds.getMaxLongitude()).isGreaterThan(10.40744);
+        assertThat(bounds.getMaxLatitude() - bounds.getMinLatitude()).isEqualTo(180.0 / (1 << 17));
+    }
+
+    @DisplayName("반경 0.5km 영역이 반경 안의 매장 셀을 모두 포함하는지 테스트")
+    @Test
+    void coveringTest() {
+        // given
+        double latitude = 37.515;
+        double longitude = 126.940;
+        GeoArea area = GeoArea.around(latitude, longitude, 0.5);
+        // when
+        List<String> geohashes = area.coveringGeohashes();
+        // then
+        assertThat(area.isCoverable()).isTrue();
+        assertThat(geohashes).contains(Geohash.encode(37.518378, 126.940114));
+        assertThat(geohashes).contains(Geohash.encode(latitude - 0.0044, longitude + 0.0056));
+        assertThat(geohashes).doesNotContain(Geohash.encode(38.518378, 127.940114));
+    }
+
+    @DisplayName("날짜 변경선에 걸친 영역은 셀 조회 제외 테스트")
+    @Test
+    void antimeridianTest() {
+        // when
+        GeoArea area = GeoArea.around(10.0, 179.999, 0.5);
+        // then
+        assertThat(area.isCoverable()).isFalse();
+    }
+}
@@ -0,0 +1,159 @@
+package com.minionz.backend.shop.controller;
+
+import com.minionz.backend.ApiDocument;
+import com.minionz.backend.common.domain.Message;
+import com.minionz.backend.common.exception.BadRequestException;
+import com.minionz.backend.common.exception.NotFoundException;
+import com.minionz.backend.shop.controller.dto.CongestionHistoryResponseDto;
+import com.minionz.backend.shop.controller.dto.CongestionResponseDto;
+import com.minionz.backend.shop.domain.CongestionStatus;
+import com.minionz.backend.shop.domain.OccupancySnapshot;
+import com.minionz.backend.shop.service.CongestionHistoryService;
+import com.minionz.backend.shop.service.CongestionStreamService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.http.MediaType;
+import org.springframework.restdocs.RestDocumentationExtension;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.willReturn;
+import static org.mockito.BDDMockito.willThrow;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(CongestionController.class)
+@MockBean(JpaMetamodelMappingContext.class)
+@ExtendWith({RestDocumentationExtension.class, SpringExtension.class})
+class CongestionControllerTest extends ApiDocument {
+
+    @MockBean
+    private CongestionStreamService congestionStreamService;
+
+    @MockBean
+    private CongestionHistoryService congestionHistoryService;
+
+    @DisplayName("매장 혼잡도 구독 성공")
+    @Test
+    void 매장혼잡도_구독_성공() throws Exception {
+        // given
+        CongestionResponseDto congestion = new CongestionResponseDto(new OccupancySnapshot(1L, 3, 1, 2, 10));
+        willReturn(completedEmitter(congestion)).given(congestionStreamService).subscribe(any());
+        // when
+        ResultActions resultActions = 혼잡도_구독_요청("/api/v1/shops/1/congestion/stream");
+        // then
+        혼잡도_구독_성공(resultActions, congestion, "shop-congestion-stream-success");
+    }
+
+    @DisplayName("여러 매장 혼잡도 구독 성공")
+    @Test
+    void 여러매장혼잡도_구독_성공() throws Exception {
+        // given
+        CongestionResponseDto congestion1 = new CongestionResponseDto(new OccupancySnapshot(1L, 3, 1, 2, 10));
+        CongestionResponseDto congestion2 = new CongestionResponseDto(new OccupancySnapshot(2L, 4, 3, 9, 16));
+        willReturn(completedEmitter(congestion1, congestion2)).given(congestionStreamService).subscribe(any());
+        // when
+        ResultActions resultActions = 혼잡도_구독_요청("/api/v1/shops/congestion/stream?ids=1,2");
+        // then
+        혼잡도_구독_성공(resultActions, congestion2, "shops-congestion-stream-success");
+    }
+
+    @DisplayName("매장 혼잡도 이력 조회 성공")
+    @Test
+    void 매장혼잡도이력_조회_성공() throws Exception {
+        // given
+        LocalDateTime time = LocalDateTime.of(2021, 10, 1, 12, 0);
+        List<CongestionHistoryResponseDto> histories = Arrays.asList(
+                new CongestionHistoryResponseDto(time, CongestionStatus.SMOOTH, 1, 2),
+                new CongestionHistoryResponseDto(time.plusMinutes(1), CongestionStatus.NORMAL, 3, 7));
+        willReturn(histories).given(congestionHistoryService).viewHistory(eq(1L), eq("1h"));
+        // when
+        ResultActions resultActions = 혼잡도_이력_요청(1L, "1h");
+        // then
+        resultActions.andExpect(status().isOk())
+                .andExpect(content().json(toJson(histories)))
+                .andDo(print())
+                .andDo(toDocument("shop-congestion-history-success"));
+    }
+
+    @DisplayName("매장 혼잡도 이력 조회 실패 - 잘못된 범위")
+    @Test
+    void 매장혼잡도이력_조회_실패_범위() throws Exception {
+        // given
+        Message message = new Message("잘못된 조회 범위입니다.");
+        willThrow(new BadRequestException(message.getMessage())).given(congestionHistoryService).viewHistory(any(Long.class), anyString());
+        // when
+        ResultActions resultActions = 혼잡도_이력_요청(1L, "31d");
+        // then
+        resultActions.andExpect(status().isBadRequest())
+                .andExpect(content().json(toJson(message)))
+                .andDo(print())
+                .andDo(toDocument("shop-congestion-history-bad-range"));
+    }
+
+    @DisplayName("매장 혼잡도 이력 조회 실패 - 없는 매장")
+    @Test
+    void 매장혼잡도이력_조회_실패_매장() throws Exception {
+        // given
+        Message message = new Message("존재 하지 않는 Shop 입니다.");
+        willThrow(new NotFoundException(message.getMessage())).given(congestionHistoryService).viewHistory(any(Long.class), anyString());
+        // when
+        ResultActions resultActions = 혼잡도_이력_요청(100L, "24h");
+        // then
+        resultActions.andExpect(status().isNotFound())
+                .andExpect(content().json(toJson(message)))
+                .andDo(print())
+                .andDo(toDocument("shop-congestion-history-fail"));
+    }
+
+    private SseEmitter completedEmitter(CongestionResponseDto... congestions) throws IOException {
+        SseEmitter emitter = new SseEmitter();
+        for (CongestionResponseDto congestion : congestions) {
+            emitter.send(SseEmitter.event()
+                    .name("congestion")
+                    .data(congestion));
+        }
+        emitter.complete();
+        return emitter;
+    }
+
+    private ResultActions 혼잡도_구독_요청(String uri) throws Exception {
+        MvcResult mvcResult = mockMvc.perform(get(uri)
+                .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(mvcResult));
+    }
+
+    private ResultActions 혼잡도_이력_요청(Long id, String range) throws Exception {
+        return mockMvc.perform(get("/api/v1/shops/" + id + "/congestion/history")
+                .param("range", range));
+    }
+
+    private void 혼잡도_구독_성공(ResultActions resultActions, CongestionResponseDto congestion, String identifier) throws Exception {
+        resultActions.andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(content().string(containsString("event:congestion\ndata:" + toJson(congestion))))
+                .andDo(print())
+                .andDo(toDocument(identifier));
+    }
+}
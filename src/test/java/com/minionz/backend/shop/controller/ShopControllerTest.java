@@ -1,6 +1,8 @@
 package com.minionz.backend.shop.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.minionz.backend.ApiDocument;
 import com.minionz.backend.common.domain.Address;
 import com.minionz.backend.common.domain.Message;
@@ -8,10 +10,16 @@ import com.minionz.backend.common.exception.BadRequestException;
 import com.minionz.backend.common.exception.NotFoundException;
 import com.minionz.backend.shop.controller.dto.*;
 import com.minionz.backend.shop.domain.CongestionStatus;
+import com.minionz.backend.shop.domain.OccupancySnapshot;
+import com.minionz.backend.shop.domain.SearchMode;
+import com.minionz.backend.shop.domain.ShopFields;
 import com.minionz.backend.shop.domain.Shop;
+import com.minionz.backend.shop.domain.ShopSearchEntry;
 import com.minionz.backend.shop.domain.ShopTable;
 import com.minionz.backend.shop.domain.UseStatus;
+import com.minionz.backend.shop.service.ShopExportService;
 import com.minionz.backend.shop.service.ShopService;
+import com.minionz.backend.shop.service.ShopVersion;
 import com.minionz.backend.user.domain.Owner;
 import com.minionz.backend.user.domain.User;
 import org.junit.jupiter.api.DisplayName;
@@ -21,20 +29,32 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.restdocs.RestDocumentationExtension;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.BDDMockito.willReturn;
 import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(ShopController.class)
@@ -45,6 +65,9 @@ class ShopControllerTest extends ApiDocument {
     @MockBean
     private ShopService shopService;
 
+    @MockBean
+    private ShopExportService shopExportService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -137,9 +160,10 @@ class ShopControllerTest extends ApiDocument {
         shopList.add(new ShopResponseDto("매장1", CongestionStatus.SMOOTH));
         shopList.add(new ShopResponseDto("매장2", CongestionStatus.NORMAL));
         shopList.add(new ShopResponseDto("매장3", CongestionStatus.NORMAL));
-        willReturn(shopList).given(shopService).viewAll();
+        ShopPageResponseDto shopPage = new ShopPageResponseDto(shopList, "c2hvcDoz");
+        willReturn(shopPage).given(shopService).viewAll(any(), any(int.class), any(ShopFields.class));
         ResultActions resultActions = 상점목록조회_요청();
-        상점목록조회요청_성공(resultActions, shopList);
+        상점목록조회요청_성공(resultActions, shopPage);
     }
 
     @DisplayName("상점 목록 조회 실패")
@@ -150,7 +174,7 @@ class ShopControllerTest extends ApiDocument {
         shopList.add(new ShopResponseDto("매장2", CongestionStatus.NORMAL));
         shopList.add(new ShopResponseDto("매장3", CongestionStatus.NORMAL));
         Message message = new Message("등록된 매장이 존재하지 않습니다.");
-        willThrow(new NotFoundException("등록된 매장이 존재하지 않습니다.")).given(shopService).viewAll();
+        willThrow(new NotFoundException("등록된 매장이 존재하지 않습니다.")).given(shopService).viewAll(any(), any(int.class), any(ShopFields.class));
         ResultActions resultActions = 상점목록조회_요청();
         상점목록조회요청_실패(resultActions, message);
     }
@@ -202,7 +226,7 @@ class ShopControllerTest extends ApiDocument {
         shopResponseDtoList.add(new CommonShopResponseDto(shop1));
         shopResponseDtoList.add(new CommonShopResponseDto(shop2));
         shopResponseDtoList.add(new CommonShopResponseDto(shop3));
-        willReturn(shopResponseDtoList).given(shopService).searchShop(any(String.class));
+        willReturn(shopResponseDtoList).given(shopService).searchShop(any(String.class), any(SearchMode.class), any(ShopFields.class));
         ResultActions resultActions = 상점검색_요청(query);
         상점검색요청_성공(resultActions, shopResponseDtoList);
     }
@@ -212,7 +236,7 @@ class ShopControllerTest extends ApiDocument {
     void 상점검색_실패() throws Exception {
         String query = "맘스터치";
         Message message = new Message("등록된 매장이 존재하지 않습니다.");
-        willThrow(new NotFoundException("등록된 매장이 존재하지 않습니다.")).given(shopService).searchShop(any(String.class));
+        willThrow(new NotFoundException("등록된 매장이 존재하지 않습니다.")).given(shopService).searchShop(any(String.class), any(SearchMode.class), any(ShopFields.class));
         ResultActions resultActions = 상점검색_요청(query);
         상점검색요청_실패(message, resultActions);
     }
@@ -265,7 +289,7 @@ class ShopControllerTest extends ApiDocument {
         shopResponseDtoList.add(new CommonShopResponseDto(shop1));
         shopResponseDtoList.add(new CommonShopResponseDto(shop2));
         shopResponseDtoList.add(new CommonShopResponseDto(shop3));
-        willReturn(shopResponseDtoList).given(shopService).searchShopByRegion(any(String.class), any(String.class));
+        willReturn(shopResponseDtoList).given(shopService).searchShopByRegion(any(String.class), any(String.class), any(SearchMode.class), any(ShopFields.class));
         ResultActions resultActions = 상점지역검색_요청(query, region);
         상점지역검색요청_성공(resultActions, shopResponseDtoList);
     }
@@ -276,7 +300,7 @@ class ShopControllerTest extends ApiDocument {
         String query = "맘스터치";
         String region = "경기도";
         Message message = new Message("등록된 매장이 존재하지 않습니다.");
-        willThrow(new NotFoundException("등록된 매장이 존재하지 않습니다.")).given(shopService).searchShopByRegion(any(String.class), any(String.class));
+        willThrow(new NotFoundException("등록된 매장이 존재하지 않습니다.")).given(shopService).searchShopByRegion(any(String.class), any(String.class), any(SearchMode.class), any(ShopFields.class));
         ResultActions resultActions = 상점지역검색_요청(query, region);
         상점지역검색요청_실패(message, resultActions);
     }
@@ -329,7 +353,7 @@ class ShopControllerTest extends ApiDocument {
         shopResponseDtoList.add(new CommonShopResponseDto(shop1));
         shopResponseDtoList.add(new CommonShopResponseDto(shop2));
         shopResponseDtoList.add(new CommonShopResponseDto(shop3));
-        willReturn(shopResponseDtoList).given(shopService).nearShop(any(double.class), any(double.class));
+        willReturn(shopResponseDtoList).given(shopService).nearShop(any(double.class), any(double.class), any(ShopFields.class));
         ResultActions resultActions = 유저_주변가게_조회_요청(latitude, longitude);
         유저_주변가게_조회_성공(resultActions, shopResponseDtoList);
     }
@@ -340,11 +364,93 @@ class ShopControllerTest extends ApiDocument {
         double latitude = 0.1;
         double longitude = 0.1;
         Message errorMessage = new Message("해당 유저가 존재하지 않습니다.");
-        willThrow(new NotFoundException("해당 유저가 존재하지 않습니다.")).given(shopService).nearShop(any(double.class), any(double.class));
+        willThrow(new NotFoundException("해당 유저가 존재하지 않습니다.")).given(shopService).nearShop(any(double.class), any(double.class), any(ShopFields.class));
         final ResultActions response = 유저_주변가게_조회_요청(latitude, longitude);
         유저_주변가게_조회_실패(response, errorMessage);
     }
 
+    @DisplayName("가까운 매장 조회 성공")
+    @Test
+    void 가까운_매장_조회_성공() throws Exception {
+        double latitude = 37.515;
+        double longitude = 126.940;
+        Address address = Address.builder().zipcode("111-222").street("구월동").city("인천시 남동구").latitude(37.518378).longitude(126.940114).build();
+        Owner owner = Owner.builder()
+                .email("hjhj@naver.com")
+                .password("123")
+                .telNumber("123-123-123")
+                .name("사장")
+                .build();
+        Shop shop = Shop.builder()
+                .id(1L)
+                .address(address)
+                .name("맘스터치")
+                .owner(owner)
+                .tableList(new ArrayList<>())
+                .build();
+        List<NearestShopResponseDto> nearestShopResponseDtoList = new ArrayList<>();
+        nearestShopResponseDtoList.add(new NearestShopResponseDto(ShopSearchEntry.of(shop), new OccupancySnapshot(1L, 0, 0, 0, 0), 0.376));
+        willReturn(nearestShopResponseDtoList).given(shopService).nearestShops(any(double.class), any(double.class), any(int.class), any(double.class));
+        ResultActions resultActions = 가까운_매장_조회_요청(latitude, longitude);
+        가까운_매장_조회_성공(resultActions, nearestShopResponseDtoList);
+    }
+
+    @DisplayName("매장 이름 자동완성 성공")
+    @Test
+    void 매장_자동완성_성공() throws Exception {
+        List<AutocompleteResponseDto> autocompleteResponseDtoList = new ArrayList<>();
+        autocompleteResponseDtoList.add(new AutocompleteResponseDto(3L, "맘스터치 송도점"));
+        autocompleteResponseDtoList.add(new AutocompleteResponseDto(1L, "맘스터치 구월점"));
+        willReturn(autocompleteResponseDtoList).given(shopService).autocomplete(any(String.class), any(int.class));
+        ResultActions resultActions = 매장_자동완성_요청("맘스");
+        매장_자동완성_성공(resultActions, autocompleteResponseDtoList);
+    }
+
+    @DisplayName("검색 캐시 통계 조회 성공")
+    @Test
+    void 검색_캐시_통계_조회_성공() throws Exception {
+        SearchCacheStatsResponseDto searchCacheStatsResponseDto = new SearchCacheStatsResponseDto(90L, 10L, 0.9, 2L, 35L);
+        willReturn(searchCacheStatsResponseDto).given(shopService).searchCacheStats();
+        ResultActions resultActions = 검색_캐시_통계_조회_요청();
+        검색_캐시_통계_조회_성공(resultActions, searchCacheStatsResponseDto);
+    }
+
+    @DisplayName("검색 인덱스 지역 다시 적재 성공")
+    @Test
+    void 검색_인덱스_지역_적재_성공() throws Exception {
+        // given
+        ShopSearchIndexRequestDto shopSearchIndexRequestDto = new ShopSearchIndexRequestDto(Arrays.asList("인천시 남동구", "인천시 연수구"));
+        // when
+        willReturn(new Message("검색 인덱스 지역 적재 성공")).given(shopService).rebuildSearchIndex(any());
+        ResultActions resultActions = 검색_인덱스_지역_적재_요청(shopSearchIndexRequestDto);
+        // then
+        resultActions.andExpect(status().isNoContent())
+                .andDo(print())
+                .andDo(toDocument("search-index-rebuild-success"));
+    }
+
+    @DisplayName("검색 인덱스 지역 다시 적재 실패")
+    @Test
+    void 검색_인덱스_지역_적재_실패() throws Exception {
+        // given
+        ShopSearchIndexRequestDto shopSearchIndexRequestDto = new ShopSearchIndexRequestDto(new ArrayList<>());
+        Message message = new Message("다시 적재할 지역을 1곳 이상 입력해 주세요.");
+        // when
+        willThrow(new BadRequestException(message.getMessage())).given(shopService).rebuildSearchIndex(any());
+        ResultActions resultActions = 검색_인덱스_지역_적재_요청(shopSearchIndexRequestDto);
+        // then
+        resultActions.andExpect(status().isBadRequest())
+                .andExpect(content().json(toJson(message)))
+                .andDo(print())
+                .andDo(toDocument("search-index-rebuild-fail"));
+    }
+
+    private ResultActions 검색_인덱스_지역_적재_요청(ShopSearchIndexRequestDto shopSearchIndexRequestDto) throws Exception {
+        return mockMvc.perform(post("/api/v1/shops/search/index")
+                .content(objectMapper.writeValueAsString(shopSearchIndexRequestDto))
+                .contentType(MediaType.APPLICATION_JSON));
+    }
+
     @DisplayName("매장 상세보기 조회 성공")
     @Test
     void 매장_상세보기_조회_성공() throws Exception {
@@ -387,18 +493,80 @@ class ShopControllerTest extends ApiDocument {
                 .name("유저")
                 .build();
         ShopDetailResponseDto shopDetailResponseDto = new ShopDetailResponseDto(shop1, list, user);
-        willReturn(shopDetailResponseDto).given(shopService).viewDetail(any(Long.class), any(Long.class));
+        willReturn(shopDetailResponseDto).given(shopService).viewDetail(any(Long.class), any(Long.class), any(ShopFields.class));
         ResultActions resultActions = 유저_매장_상세보기_조회_요청(userId, shopId);
         유저_매장_상세보기_조회_성공(resultActions, shopDetailResponseDto);
     }
 
+    @DisplayName("매장 상세보기 필드 선택 조회 성공")
+    @Test
+    void 매장_상세보기_필드선택_조회_성공() throws Exception {
+        Long userId = 1L;
+        Long shopId = 1L;
+        Shop shop = Shop.builder()
+                .id(shopId)
+                .name("맘스터치1")
+                .owner(Owner.builder().name("사장").build())
+                .build();
+        ShopFields fields = ShopFields.of("name,congestionStatus", ShopDetailResponseDto.FIELDS);
+        ShopDetailResponseDto shopDetailResponseDto = new ShopDetailResponseDto(shop, null, null,
+                new OccupancySnapshot(shopId, 2, 1, 2, 20), fields);
+        willReturn(shopDetailResponseDto).given(shopService).viewDetail(any(Long.class), any(Long.class), any(ShopFields.class));
+        ResultActions resultActions = mockMvc.perform(get("/api/v1/shops/detail/" + shopId + "/" + userId)
+                .param("fields", "name,congestionStatus"));
+        resultActions.andExpect(status().isOk())
+                .andExpect(content().json("{\"name\":\"맘스터치1\",\"congestionStatus\":\"" + shopDetailResponseDto.getCongestionStatus().name() + "\"}", true))
+                .andDo(print())
+                .andDo(toDocument("shop-detail-fields-success"));
+    }
+
+    @DisplayName("매장 상세보기 지원하지 않는 필드 조회 실패")
+    @Test
+    void 매장_상세보기_필드선택_조회_실패() throws Exception {
+        Message message = new Message("지원하지 않는 필드입니다.");
+        ResultActions resultActions = mockMvc.perform(get("/api/v1/shops/detail/1/1")
+                .param("fields", "name,owner"));
+        resultActions.andExpect(status().isBadRequest())
+                .andExpect(content().json(toJson(message)))
+                .andDo(print())
+                .andDo(toDocument("shop-detail-fields-fail"));
+    }
+
+    @DisplayName("미리 만든 조각으로 매장 상세보기 조회 성공")
+    @Test
+    void 매장_상세보기_조각_조회_성공() throws Exception {
+        // given
+        Address address = Address.builder().zipcode("111-222").street("구월동").city("인천시 남동구").build();
+        Shop shop = Shop.builder()
+                .id(1L)
+                .name("맘스터치")
+                .address(address)
+                .telNumber("032-888-8888")
+                .owner(Owner.builder().name("사장").build())
+                .tableList(new ArrayList<>())
+                .build();
+        ShopDetailResponseDto staticPart = new ShopDetailResponseDto(shop, new ArrayList<>(), null, null, ShopFields.ALL);
+        byte[] json = objectMapper.writeValueAsBytes(staticPart);
+        ShopDetailFragment fragment = new ShopDetailFragment(staticPart, Arrays.copyOf(json, json.length - 1));
+        OccupancySnapshot occupancySnapshot = new OccupancySnapshot(1L, 3, 1, 2, 10);
+        ShopDetailResponseDto expected = new ShopDetailResponseDto(shop, new ArrayList<>(), false, occupancySnapshot, ShopFields.ALL);
+        // when
+        willReturn(new EncodedShopDetailResponseDto(fragment, occupancySnapshot, false))
+                .given(shopService).viewDetail(any(Long.class), any(Long.class), any(ShopFields.class));
+        ResultActions resultActions = 유저_매장_상세보기_조회_요청(1L, 1L);
+        // then
+        resultActions.andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(content().string(objectMapper.writeValueAsString(expected)));
+    }
+
     @DisplayName("매장 상세보기 조회 실패")
     @Test
     void 매장_상세보기_조회_실패() throws Exception {
         Long userId = 1L;
         Long shopId = 1L;
         Message message = new Message("매장 상세보기 조회 실패");
-        willThrow(new NotFoundException("매장 상세보기 조회 실패")).given(shopService).viewDetail(any(Long.class), any(Long.class));
+        willThrow(new NotFoundException("매장 상세보기 조회 실패")).given(shopService).viewDetail(any(Long.class), any(Long.class), any(ShopFields.class));
         ResultActions resultActions = 유저_매장_상세보기_조회_요청(userId, shopId);
         유저_매장_상세보기_조회_실패(resultActions, message);
     }
@@ -421,6 +589,41 @@ class ShopControllerTest extends ApiDocument {
                 .andDo(toDocument("shop-detail-success"));
     }
 
+    private ResultActions 매장_자동완성_요청(String prefix) throws Exception {
+        return mockMvc.perform(get("/api/v1/shops/autocomplete")
+                .param("prefix", prefix)
+                .param("limit", "5"));
+    }
+
+    private void 매장_자동완성_성공(ResultActions resultActions, List<AutocompleteResponseDto> autocompleteResponseDtoList) throws Exception {
+        resultActions.andExpect(status().isOk())
+                .andExpect(content().json(toJson(autocompleteResponseDtoList)))
+                .andDo(print())
+                .andDo(toDocument("shop-autocomplete-success"));
+    }
+
+    private ResultActions 검색_캐시_통계_조회_요청() throws Exception {
+        return mockMvc.perform(get("/api/v1/shops/search/cache/stats"));
+    }
+
+    private void 검색_캐시_통계_조회_성공(ResultActions resultActions, SearchCacheStatsResponseDto searchCacheStatsResponseDto) throws Exception {
+        resultActions.andExpect(status().isOk())
+                .andExpect(content().json(toJson(searchCacheStatsResponseDto)))
+                .andDo(print())
+                .andDo(toDocument("search-cache-stats-success"));
+    }
+
+    private ResultActions 가까운_매장_조회_요청(double latitude, double longitude) throws Exception {
+        return mockMvc.perform(get("/api/v1/shops/nearest?lat=" + latitude + "&lng=" + longitude + "&k=5&maxRadius=1"));
+    }
+
+    private void 가까운_매장_조회_성공(ResultActions resultActions, List<NearestShopResponseDto> nearestShopResponseDtoList) throws Exception {
+        resultActions.andExpect(status().isOk())
+                .andExpect(content().json(toJson(nearestShopResponseDtoList)))
+                .andDo(print())
+                .andDo(toDocument("nearest-shop-success"));
+    }
+
     private ResultActions 유저_주변가게_조회_요청(double latitude, double longitude) throws Exception {
         return mockMvc.perform(get("/api/v1/shops/near?latitude=" + latitude + "&longitude=" + longitude));
     }
@@ -476,6 +679,114 @@ class ShopControllerTest extends ApiDocument {
         return mockMvc.perform(get("/api/v1/shops/search?keyword=" + query));
     }
 
+    @DisplayName("상점 검색 Accept 별 응답 형식 성공")
+    @Test
+    void 상점검색_응답형식_성공() throws Exception {
+        // given
+        List<CommonShopResponseDto> shopResponseDtoList = new ArrayList<>();
+        shopResponseDtoList.add(new CommonShopResponseDto(new ShopSearchEntry(1L, "맘스터치1", "구월동", "인천시 남동구"),
+                new OccupancySnapshot(1L, 3, 1, 2, 10)));
+        shopResponseDtoList.add(new CommonShopResponseDto(new ShopSearchEntry(2L, "맘스터치2", "구월동", "인천시 남동구"),
+                new OccupancySnapshot(2L, 2, 2, 6, 6)));
+        willReturn(shopResponseDtoList).given(shopService).searchShop(any(String.class), any(SearchMode.class), any(ShopFields.class));
+        String json = objectMapper.writeValueAsString(shopResponseDtoList);
+        // when
+        byte[] defaultBody = 상점검색_형식_요청(null, MediaType.APPLICATION_JSON);
+        byte[] jsonBody = 상점검색_형식_요청(MediaType.APPLICATION_JSON, MediaType.APPLICATION_JSON);
+        byte[] smileBody = 상점검색_형식_요청(new MediaType("application", "x-jackson-smile"), new MediaType("application", "x-jackson-smile"));
+        byte[] cborBody = 상점검색_형식_요청(MediaType.APPLICATION_CBOR, MediaType.APPLICATION_CBOR);
+        byte[] protobufBody = 상점검색_형식_요청(ShopProtobufHttpMessageConverter.APPLICATION_PROTOBUF, ShopProtobufHttpMessageConverter.APPLICATION_PROTOBUF);
+        // then
+        assertThat(new String(defaultBody, StandardCharsets.UTF_8)).isEqualTo(json);
+        assertThat(new String(jsonBody, StandardCharsets.UTF_8)).isEqualTo(json);
+        assertThat(new ObjectMapper(new SmileFactory()).readTree(smileBody)).isEqualTo(objectMapper.readTree(json));
+        assertThat(new ObjectMapper(new CBORFactory()).readTree(cborBody)).isEqualTo(objectMapper.readTree(json));
+        assertThat(protobufBody.length).isLessThan(jsonBody.length);
+    }
+
+    private byte[] 상점검색_형식_요청(MediaType accept, MediaType expectedContentType) throws Exception {
+        MockHttpServletRequestBuilder request = get("/api/v1/shops/search").param("keyword", "맘스터치");
+        if (accept != null) {
+            request.accept(accept);
+        }
+        return mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(expectedContentType))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+    }
+
+    @DisplayName("매장 목록 내보내기 성공")
+    @Test
+    void 매장목록_내보내기_성공() throws Exception {
+        // given
+        String lines = toJson(new ShopExportResponseDto(1L, "맘스터치1", "032-888-8881", "111-222", "구월동", "인천시 남동구",
+                37.5, 126.9, 3, 10, CongestionStatus.SMOOTH)) + "\n"
+                + toJson(new ShopExportResponseDto(2L, "맘스터치2", "032-888-8882", "111-222", "구월동", "인천시 남동구",
+                37.5, 126.9, 2, 6, CongestionStatus.NORMAL)) + "\n";
+        willAnswer(invocation -> {
+            invocation.getArgument(0, OutputStream.class).write(lines.getBytes(StandardCharsets.UTF_8));
+            return 2L;
+        }).given(shopExportService).export(any(OutputStream.class));
+        willReturn(1_800_000L).given(shopExportService).getTimeoutMillis();
+        // when
+        MvcResult mvcResult = mockMvc.perform(get("/api/v1/shops/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        ResultActions resultActions = mockMvc.perform(asyncDispatch(mvcResult));
+        // then
+        assertThat(mvcResult.getRequest().getAsyncContext().getTimeout()).isEqualTo(1_800_000L);
+        resultActions.andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "application/x-ndjson"))
+                .andExpect(content().string(lines))
+                .andDo(print())
+                .andDo(toDocument("shop-export-success"));
+    }
+
+    @DisplayName("매장 카드 조회 성공")
+    @Test
+    void 매장카드조회_성공() throws Exception {
+        // given
+        ShopCardsRequestDto shopCardsRequestDto = new ShopCardsRequestDto(Arrays.asList(3L, 1L, 3L));
+        Address address = Address.builder().zipcode("111-222").street("구월동").city("인천시 남동구").build();
+        List<CommonShopResponseDto> shopResponseDtoList = new ArrayList<>();
+        shopResponseDtoList.add(new CommonShopResponseDto(new ShopSearchEntry(3L, "맘스터치3", address.getStreet(), address.getCity()),
+                new OccupancySnapshot(3L, 3, 1, 2, 10)));
+        shopResponseDtoList.add(new CommonShopResponseDto(new ShopSearchEntry(1L, "맘스터치1", address.getStreet(), address.getCity()),
+                new OccupancySnapshot(1L, 2, 0, 0, 6)));
+        // when
+        willReturn(shopResponseDtoList).given(shopService).viewCards(any());
+        ResultActions resultActions = 매장카드_조회_요청(shopCardsRequestDto);
+        // then
+        resultActions.andExpect(status().isOk())
+                .andExpect(content().json(toJson(shopResponseDtoList)))
+                .andDo(print())
+                .andDo(toDocument("shop-cards-view-success"));
+    }
+
+    @DisplayName("매장 카드 조회 실패")
+    @Test
+    void 매장카드조회_실패() throws Exception {
+        // given
+        ShopCardsRequestDto shopCardsRequestDto = new ShopCardsRequestDto(new ArrayList<>());
+        Message message = new Message("매장 카드는 1개 이상 100개 이하로 조회할 수 있습니다.");
+        // when
+        willThrow(new BadRequestException(message.getMessage())).given(shopService).viewCards(any());
+        ResultActions resultActions = 매장카드_조회_요청(shopCardsRequestDto);
+        // then
+        resultActions.andExpect(status().isBadRequest())
+                .andExpect(content().json(toJson(message)))
+                .andDo(print())
+                .andDo(toDocument("shop-cards-view-fail"));
+    }
+
+    private ResultActions 매장카드_조회_요청(ShopCardsRequestDto shopCardsRequestDto) throws Exception {
+        return mockMvc.perform(post("/api/v1/shops/cards")
+                .content(objectMapper.writeValueAsString(shopCardsRequestDto))
+                .contentType(MediaType.APPLICATION_JSON));
+    }
+
     @DisplayName("테이블 목록 조회 성공")
     @Test
     void 테이블목록조회_성공() throws Exception {
@@ -485,11 +796,50 @@ class ShopControllerTest extends ApiDocument {
         list.add(new ShopTableResponseDto(1L, 1, 2, 0, UseStatus.EMPTY));
         list.add(new ShopTableResponseDto(2L, 2, 2, 2, UseStatus.USING));
         list.add(new ShopTableResponseDto(3L, 3, 3, 0, UseStatus.EMPTY));
+        ShopVersion shopVersion = new ShopVersion("epoch", 3);
         // when
+        willReturn(shopVersion).given(shopService).versionOf(any(Long.class));
         willReturn(list).given(shopService).viewTables(any(Long.class));
         ResultActions resultActions = 테이블목록_조회_요청(id);
         // then
         테이블목록_조회_요청_성공(resultActions, list);
+        resultActions.andExpect(header().string(HttpHeaders.ETAG, shopVersion.getETag()))
+                .andExpect(header().doesNotExist(HttpHeaders.LAST_MODIFIED));
+    }
+
+    @DisplayName("If-Modified-Since 만으로는 304 를 내지 않음")
+    @Test
+    void 테이블목록조회_수정시각_무시() throws Exception {
+        // given
+        Long id = 1L;
+        List<ShopTableResponseDto> list = new ArrayList<>();
+        list.add(new ShopTableResponseDto(1L, 1, 2, 0, UseStatus.EMPTY));
+        // when
+        willReturn(new ShopVersion("epoch", 3)).given(shopService).versionOf(any(Long.class));
+        willReturn(list).given(shopService).viewTables(any(Long.class));
+        ResultActions resultActions = mockMvc.perform(get("/api/v1/shops/" + id)
+                .header(HttpHeaders.IF_MODIFIED_SINCE, "Wed, 21 Oct 2099 07:28:00 GMT"));
+        // then
+        resultActions.andExpect(status().isOk())
+                .andExpect(content().json(toJson(list)));
+    }
+
+    @DisplayName("테이블 목록 변경 없음")
+    @Test
+    void 테이블목록조회_변경없음() throws Exception {
+        // given
+        Long id = 1L;
+        ShopVersion shopVersion = new ShopVersion("epoch", 3);
+        // when
+        willReturn(shopVersion).given(shopService).versionOf(any(Long.class));
+        ResultActions resultActions = mockMvc.perform(get("/api/v1/shops/" + id)
+                .header(HttpHeaders.IF_NONE_MATCH, shopVersion.getETag()));
+        // then
+        resultActions.andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, shopVersion.getETag()))
+                .andDo(print())
+                .andDo(toDocument("table-list-view-not-modified"));
+        verify(shopService, never()).viewTables(any(Long.class));
     }
 
     @DisplayName("테이블 목록 조회 실패")
@@ -499,12 +849,49 @@ class ShopControllerTest extends ApiDocument {
         Long id = 1L;
         Message message = new Message("테이블 목록 조회 실패");
         // when
+        willReturn(new ShopVersion("epoch", 0)).given(shopService).versionOf(any(Long.class));
         willThrow(new NotFoundException("테이블 목록 조회 실패")).given(shopService).viewTables(any(Long.class));
         ResultActions resultActions = 테이블목록_조회_요청(id);
         // then
         테이블목록_조회_요청_실패(resultActions, message);
     }
 
+    @DisplayName("테이블 변경분 조회 성공")
+    @Test
+    void 테이블변경분조회_성공() throws Exception {
+        // given
+        Long id = 1L;
+        List<ShopTableResponseDto> list = new ArrayList<>();
+        list.add(new ShopTableResponseDto(2L, 2, 2, 2, UseStatus.USING));
+        ShopTableChangesResponseDto shopTableChangesResponseDto = new ShopTableChangesResponseDto(12L, false, list);
+        // when
+        willReturn(shopTableChangesResponseDto).given(shopService).viewTableChanges(any(Long.class), any(long.class));
+        ResultActions resultActions = mockMvc.perform(get("/api/v1/shops/" + id + "/tables/changes")
+                .param("since", "10"));
+        // then
+        resultActions.andExpect(status().isOk())
+                .andExpect(content().json(toJson(shopTableChangesResponseDto)))
+                .andDo(print())
+                .andDo(toDocument("table-changes-view-success"));
+    }
+
+    @DisplayName("테이블 변경분 조회 실패")
+    @Test
+    void 테이블변경분조회_실패() throws Exception {
+        // given
+        Long id = 1L;
+        Message message = new Message("존재 하지 않는 Shop 입니다.");
+        // when
+        willThrow(new NotFoundException(message.getMessage())).given(shopService).viewTableChanges(any(Long.class), any(long.class));
+        ResultActions resultActions = mockMvc.perform(get("/api/v1/shops/" + id + "/tables/changes")
+                .param("since", "10"));
+        // then
+        resultActions.andExpect(status().isNotFound())
+                .andExpect(content().json(toJson(message)))
+                .andDo(print())
+                .andDo(toDocument("table-changes-view-fail"));
+    }
+
     private ResultActions 테이블목록_조회_요청(Long id) throws Exception {
         return mockMvc.perform(get("/api/v1/shops/" + id));
     }
@@ -581,12 +968,13 @@ class ShopControllerTest extends ApiDocument {
     }
 
     private ResultActions 상점목록조회_요청() throws Exception {
-        return mockMvc.perform(get("/api/v1/shops"));
+        return mockMvc.perform(get("/api/v1/shops")
+                .param("limit", "3"));
     }
 
-    private void 상점목록조회요청_성공(ResultActions resultActions, List<ShopResponseDto> shopList) throws Exception {
+    private void 상점목록조회요청_성공(ResultActions resultActions, ShopPageResponseDto shopPage) throws Exception {
         resultActions.andExpect(status().isOk())
-                .andExpect(content().json(toJson(shopList)))
+                .andExpect(content().json(toJson(shopPage)))
                 .andDo(print())
                 .andDo(toDocument("shop-all-view-success"));
     }
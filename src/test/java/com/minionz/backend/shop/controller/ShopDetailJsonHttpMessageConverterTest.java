@@ -0,0 +1,100 @@
+package com.minionz.backend.shop.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minionz.backend.common.domain.Address;
+import com.minionz.backend.shop.controller.dto.EncodedShopDetailResponseDto;
+import com.minionz.backend.shop.controller.dto.ShopDetailFragment;
+import com.minionz.backend.shop.controller.dto.ShopDetailResponseDto;
+import com.minionz.backend.shop.controller.dto.ShopTableCountResponseDto;
+import com.minionz.backend.shop.domain.OccupancySnapshot;
+import com.minionz.backend.shop.domain.Shop;
+import com.minionz.backend.shop.domain.ShopChangedEvent;
+import com.minionz.backend.shop.domain.ShopFields;
+import com.minionz.backend.shop.domain.ShopTable;
+import com.minionz.backend.shop.service.ShopDetailFragments;
+import com.minionz.backend.user.domain.Owner;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ShopDetailJsonHttpMessageConverterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ShopDetailFragments shopDetailFragments = new ShopDetailFragments(objectMapper, 100);
+    private final ShopDetailJsonHttpMessageConverter converter = new ShopDetailJsonHttpMessageConverter();
+
+    @DisplayName("미리 만든 조각에 이어 쓴 JSON 이 Jackson 결과와 같은지 테스트")
+    @Test
+    void writeTest() throws IOException {
+        // given
+        Shop shop = shop("맘스터치 \"구월\"점", "032-888-8888");
+        List<ShopTableCountResponseDto> tableInfoList = Arrays.asList(new ShopTableCountResponseDto(shop, 2),
+                new ShopTableCountResponseDto(shop, 4));
+        ShopDetailFragment fragment = shopDetailFragments.get(shop.getId(),
+                () -> new ShopDetailResponseDto(shop, tableInfoList, null, null, ShopFields.ALL));
+        OccupancySnapshot occupancySnapshot = new OccupancySnapshot(shop.getId(), 3, 1, 12, 130);
+        EncodedShopDetailResponseDto shopDetail = new EncodedShopDetailResponseDto(fragment, occupancySnapshot, true);
+        ShopDetailResponseDto expected = new ShopDetailResponseDto(shop, tableInfoList, true, occupancySnapshot, ShopFields.ALL);
+        // when
+        MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+        converter.write(shopDetail, MediaType.APPLICATION_JSON, outputMessage);
+        // then
+        assertThat(outputMessage.getBodyAsString()).isEqualTo(objectMapper.writeValueAsString(expected));
+        assertThat(objectMapper.writeValueAsString(shopDetail)).isEqualTo(objectMapper.writeValueAsString(expected));
+        assertThat(converter.canWrite(ShopDetailResponseDto.class, MediaType.APPLICATION_JSON)).isFalse();
+    }
+
+    @DisplayName("매장이 바뀔 때만 조각을 다시 만드는지 테스트")
+    @Test
+    void rebuildOnShopChangedTest() {
+        // given
+        Shop shop = shop("맘스터치 구월점", "032-888-8888");
+        AtomicInteger loadCount = new AtomicInteger();
+        // when
+        ShopDetailFragment first = load(shop, loadCount);
+        ShopDetailFragment cached = load(shop, loadCount);
+        shopDetailFragments.onShopChanged(ShopChangedEvent.updated(shop));
+        ShopDetailFragment rebuilt = load(shop, loadCount);
+        // then
+        assertThat(cached).isSameAs(first);
+        assertThat(rebuilt).isNotSameAs(first);
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    private ShopDetailFragment load(Shop shop, AtomicInteger loadCount) {
+        return shopDetailFragments.get(shop.getId(), () -> {
+            loadCount.incrementAndGet();
+            return new ShopDetailResponseDto(shop, new ArrayList<>(), null, null, ShopFields.ALL);
+        });
+    }
+
+    private Shop shop(String name, String telNumber) {
+        Owner owner = Owner.builder()
+                .name("주인")
+                .build();
+        Address address = Address.builder()
+                .street("구월동")
+                .city("인천시 남동구")
+                .build();
+        List<ShopTable> tableList = new ArrayList<>();
+        tableList.add(ShopTable.builder().id(1L).maxUser(2).tableNumber(1).build());
+        tableList.add(ShopTable.builder().id(2L).maxUser(4).tableNumber(2).build());
+        return Shop.builder()
+                .id(1L)
+                .name(name)
+                .telNumber(telNumber)
+                .owner(owner)
+                .address(address)
+                .tableList(tableList)
+                .build();
+    }
+}
@@ -0,0 +1,84 @@
+package com.minionz.backend.shop.controller;
+
+import com.minionz.backend.common.domain.Address;
+import com.minionz.backend.shop.controller.dto.ShopRequestDto;
+import com.minionz.backend.shop.controller.dto.ShopTableRequestDto;
+import com.minionz.backend.shop.domain.ShopRepository;
+import com.minionz.backend.shop.service.ShopExportService;
+import com.minionz.backend.shop.service.ShopService;
+import com.minionz.backend.user.domain.Owner;
+import com.minionz.backend.user.domain.OwnerRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.willAnswer;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"spring.mvc.async.request-timeout=200", "qrna.export.timeout-ms=10000"})
+public class ShopExportTimeoutTest {
+
+    private static final long EXPORT_DELAY_MILLIS = 1000;
+
+    @Autowired
+    private TestRestTemplate testRestTemplate;
+
+    @SpyBean
+    private ShopExportService shopExportService;
+
+    @Autowired
+    private ShopService shopService;
+
+    @Autowired
+    private ShopRepository shopRepository;
+
+    @Autowired
+    private OwnerRepository ownerRepository;
+
+    @AfterEach
+    void cleanUp() {
+        shopRepository.deleteAll();
+        ownerRepository.deleteAll();
+    }
+
+    @DisplayName("기본 비동기 제한 시간보다 오래 걸리는 내보내기도 끝까지 응답 테스트")
+    @Test
+    void exportLongerThanDefaultTimeoutTest() {
+        // given
+        Owner owner = Owner.builder()
+                .name("주인")
+                .email("jhnj841@naba.com")
+                .password("123")
+                .telNumber("123123")
+                .build();
+        Owner savedOwner = ownerRepository.save(owner);
+        Address address = Address.builder().zipcode("111-222").street("구월동").city("인천시 남동구").latitude(37.5).longitude(126.9).build();
+        List<ShopTableRequestDto> list = new ArrayList<>();
+        list.add(new ShopTableRequestDto(2));
+        shopService.save(new ShopRequestDto("맘스터치1", address, "032-888-8881", list, savedOwner.getId()));
+        willAnswer(invocation -> {
+            Thread.sleep(EXPORT_DELAY_MILLIS);
+            return invocation.callRealMethod();
+        }).given(shopExportService).export(any(OutputStream.class));
+        // when
+        ResponseEntity<String> response = testRestTemplate.getForEntity("/api/v1/shops/export", String.class);
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).contains("\"name\":\"맘스터치1\"").endsWith("\n");
+    }
+}
@@ -0,0 +1,142 @@
+package com.minionz.backend.shop.controller;
+
+import com.minionz.backend.common.domain.Message;
+import com.minionz.backend.proto.ShopCard;
+import com.minionz.backend.proto.ShopCardList;
+import com.minionz.backend.proto.TableChanges;
+import com.minionz.backend.proto.TableState;
+import com.minionz.backend.proto.TableStateList;
+import com.minionz.backend.shop.controller.dto.AutocompleteResponseDto;
+import com.minionz.backend.shop.controller.dto.CommonShopResponseDto;
+import com.minionz.backend.shop.controller.dto.ShopTableChangesResponseDto;
+import com.minionz.backend.shop.controller.dto.ShopTableResponseDto;
+import com.minionz.backend.shop.domain.CongestionStatus;
+import com.minionz.backend.shop.domain.OccupancySnapshot;
+import com.minionz.backend.shop.domain.ShopFields;
+import com.minionz.backend.shop.domain.ShopSearchEntry;
+import com.minionz.backend.shop.domain.UseStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static com.minionz.backend.shop.controller.ShopProtobufHttpMessageConverter.APPLICATION_PROTOBUF;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ *  응답을 qrna.proto 로 생성한 클래스로 읽어 스키마와 맞는지 확인
+ */
+public class ShopProtobufHttpMessageConverterTest {
+
+    private static final Type SHOP_CARDS = new ParameterizedTypeReference<List<CommonShopResponseDto>>() {
+    }.getType();
+    private static final Type TABLES = new ParameterizedTypeReference<List<ShopTableResponseDto>>() {
+    }.getType();
+    private static final Type AUTOCOMPLETES = new ParameterizedTypeReference<List<AutocompleteResponseDto>>() {
+    }.getType();
+
+    private final ShopProtobufHttpMessageConverter converter = new ShopProtobufHttpMessageConverter();
+
+    @DisplayName("스키마에 있는 응답 타입만 protobuf 로 응답 테스트")
+    @Test
+    void canWriteTest() {
+        assertThat(converter.canWrite(SHOP_CARDS, ArrayList.class, APPLICATION_PROTOBUF)).isTrue();
+        assertThat(converter.canWrite(TABLES, ArrayList.class, APPLICATION_PROTOBUF)).isTrue();
+        assertThat(converter.canWrite(ShopTableChangesResponseDto.class, ShopTableChangesResponseDto.class, APPLICATION_PROTOBUF)).isTrue();
+        assertThat(converter.canWrite(Message.class, Message.class, null)).isTrue();
+        assertThat(converter.canWrite(AUTOCOMPLETES, ArrayList.class, APPLICATION_PROTOBUF)).isFalse();
+        assertThat(converter.canWrite(SHOP_CARDS, ArrayList.class, MediaType.APPLICATION_JSON)).isFalse();
+        assertThat(converter.canRead(Message.class, APPLICATION_PROTOBUF)).isFalse();
+    }
+
+    @DisplayName("매장 카드 목록 protobuf 응답 테스트")
+    @Test
+    void writeShopCardsTest() throws IOException {
+        // given
+        List<CommonShopResponseDto> shops = Arrays.asList(
+                new CommonShopResponseDto(new ShopSearchEntry(3L, "맘스터치 구월점", "구월동", "인천시 남동구"),
+                        new OccupancySnapshot(3L, 10, 4, 8, 40)),
+                new CommonShopResponseDto(new ShopSearchEntry(1L, "스타벅스", "송도동", "인천시 연수구"),
+                        null, ShopFields.of("id,name", CommonShopResponseDto.FIELDS)));
+        // when
+        ShopCardList cards = ShopCardList.parseFrom(write(shops, SHOP_CARDS));
+        // then
+        assertThat(cards.getShopsCount()).isEqualTo(2);
+        ShopCard first = cards.getShops(0);
+        assertThat(first.getUnknownFields().asMap()).isEmpty();
+        assertThat(first.getId()).isEqualTo(3L);
+        assertThat(first.getName()).isEqualTo("맘스터치 구월점");
+        assertThat(first.getAddress().getStreet()).isEqualTo("구월동");
+        assertThat(first.getAddress().getCity()).isEqualTo("인천시 남동구");
+        assertThat(first.getCongestionStatus().name()).isEqualTo(shops.get(0).getCongestionStatus().name());
+        assertThat(first.getNumberOfTables()).isEqualTo(10);
+        assertThat(first.getUseTables()).isEqualTo(4);
+
+        ShopCard second = cards.getShops(1);
+        assertThat(second.getId()).isEqualTo(1L);
+        assertThat(second.getName()).isEqualTo("스타벅스");
+        assertThat(second.hasAddress()).isFalse();
+        assertThat(second.getCongestionStatus()).isEqualTo(com.minionz.backend.proto.CongestionStatus.CONGESTION_STATUS_UNSPECIFIED);
+    }
+
+    @DisplayName("테이블 변경분 / 메시지 protobuf 응답 테스트")
+    @Test
+    void writeTableChangesAndMessageTest() throws IOException {
+        // given
+        ShopTableChangesResponseDto changes = new ShopTableChangesResponseDto(12L, true,
+                Collections.singletonList(new ShopTableResponseDto(2L, 2, 4, 2, UseStatus.USING)));
+        // when
+        TableChanges decoded = TableChanges.parseFrom(write(changes, ShopTableChangesResponseDto.class));
+        com.minionz.backend.proto.Message message = com.minionz.backend.proto.Message.parseFrom(
+                write(new Message("테이블 퇴장 성공"), Message.class));
+        // then
+        assertThat(decoded.getUnknownFields().asMap()).isEmpty();
+        assertThat(decoded.getVersion()).isEqualTo(12L);
+        assertThat(decoded.getFullResync()).isTrue();
+        assertThat(decoded.getTablesCount()).isEqualTo(1);
+        TableState table = decoded.getTables(0);
+        assertThat(table.getTableId()).isEqualTo(2L);
+        assertThat(table.getTableNumber()).isEqualTo(2);
+        assertThat(table.getMaxUser()).isEqualTo(4);
+        assertThat(table.getCountUser()).isEqualTo(2);
+        assertThat(table.getUseStatus().name()).isEqualTo(UseStatus.USING.name());
+        assertThat(message.getMessage()).isEqualTo("테이블 퇴장 성공");
+    }
+
+    @DisplayName("혼잡도 / 사용 상태가 모두 같은 이름의 스키마 enum 으로 옮겨지는지 테스트")
+    @Test
+    void writeEnumsTest() throws IOException {
+        // given
+        List<CommonShopResponseDto> shops = Arrays.asList(
+                new CommonShopResponseDto(new ShopSearchEntry(1L, "맘스터치", "구월동", "인천시 남동구"), new OccupancySnapshot(1L, 10, 0, 0, 40)),
+                new CommonShopResponseDto(new ShopSearchEntry(2L, "스타벅스", "구월동", "인천시 남동구"), new OccupancySnapshot(2L, 10, 5, 10, 40)),
+                new CommonShopResponseDto(new ShopSearchEntry(3L, "버거킹", "구월동", "인천시 남동구"), new OccupancySnapshot(3L, 10, 8, 16, 40)));
+        List<ShopTableResponseDto> tables = Arrays.asList(new ShopTableResponseDto(1L, 1, 4, 2, UseStatus.USING),
+                new ShopTableResponseDto(2L, 2, 4, 0, UseStatus.EMPTY));
+        // when
+        ShopCardList cards = ShopCardList.parseFrom(write(shops, SHOP_CARDS));
+        TableStateList tableStates = TableStateList.parseFrom(write(tables, TABLES));
+        // then
+        assertThat(cards.getShopsList())
+                .extracting(card -> card.getCongestionStatus().name())
+                .containsExactly(Arrays.stream(CongestionStatus.values()).map(Enum::name).toArray(String[]::new));
+        assertThat(tableStates.getTablesList())
+                .extracting(table -> table.getUseStatus().name())
+                .containsExactly(Arrays.stream(UseStatus.values()).map(Enum::name).toArray(String[]::new));
+    }
+
+    private byte[] write(Object value, Type type) throws IOException {
+        MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+        converter.write(value, type, APPLICATION_PROTOBUF, outputMessage);
+        assertThat(outputMessage.getHeaders().getContentType()).isEqualTo(APPLICATION_PROTOBUF);
+        return outputMessage.getBodyAsBytes();
+    }
+}
@@ -0,0 +1,32 @@
+package com.minionz.backend.shop.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CongestionStatusTest {
+
+    @DisplayName("사용 중인 테이블 비율로 혼잡도 계산 테스트")
+    @Test
+    void ofTest() {
+        // given
+        int numberOfTables = 10;
+        // when
+        // then
+        assertThat(CongestionStatus.of(2, numberOfTables)).isEqualTo(CongestionStatus.SMOOTH);
+        assertThat(CongestionStatus.of(3, numberOfTables)).isEqualTo(CongestionStatus.NORMAL);
+        assertThat(CongestionStatus.of(7, numberOfTables)).isEqualTo(CongestionStatus.CONGESTED);
+    }
+
+    @DisplayName("테이블이 없는 매장은 원활인지 테스트")
+    @Test
+    void noTableTest() {
+        // given
+        int numberOfTables = 0;
+        // when
+        CongestionStatus congestionStatus = CongestionStatus.of(0, numberOfTables);
+        // then
+        assertThat(congestionStatus).isEqualTo(CongestionStatus.SMOOTH);
+    }
+}
@@ -1,6 +1,7 @@
 package com.minionz.backend.shop.domain;
 
 import com.minionz.backend.common.domain.Address;
+import com.minionz.backend.common.domain.GeoArea;
 import com.minionz.backend.user.domain.Owner;
 import com.minionz.backend.user.domain.OwnerRepository;
 import org.junit.jupiter.api.AfterEach;
@@ -14,6 +15,7 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 @ExtendWith(SpringExtension.class)
@@ -62,4 +64,47 @@ public class ShopRepositoryTest {
         // then
         shop.getTableList().forEach(s -> assertThat(s.getTableNumber()).isEqualTo(expectTableNumber.getAndIncrement()));
     }
+
+    @DisplayName("geohash 셀로 좁힌 근처 매장 조회가 전체 거리 계산 조회와 같은지 테스트")
+    @Test
+    public void findByNearShopInAreaTest() {
+        // given
+        double latitude = 37.4563;
+        double longitude = 126.7052;
+        Owner owner = ownerRepository.save(Owner.builder()
+                .name("주인")
+                .email("near@naba.com")
+                .password("123")
+                .telNumber("123123")
+                .build());
+        for (int i = -4; i <= 4; i++) {
+            for (int j = -4; j <= 4; j++) {
+                Address address = new Address("111-222", "구월동", "인천시 남동구", latitude + i * 0.0015, longitude + j * 0.002);
+                shopRepository.save(Shop.builder()
+                        .name("맘스터치" + i + "_" + j)
+                        .telNumber("032-" + i + "-" + j)
+                        .address(address)
+                        .tableList(new ArrayList<>())
+                        .owner(owner)
+                        .build());
+            }
+        }
+        GeoArea area = GeoArea.around(latitude, longitude, 0.5);
+        // when
+        List<Long> nearShopIds = idsOf(shopRepository.findByNearShop(latitude, longitude, 0.5));
+        List<Long> nearShopInAreaIds = idsOf(shopRepository.findByNearShopInArea(latitude, longitude, area.coveringGeohashes(),
+                area.getMinLatitude(), area.getMaxLatitude(), area.getMinLongitude(), area.getMaxLongitude(), 0.5));
+        // then
+        assertThat(area.isCoverable()).isTrue();
+        assertThat(nearShopIds).isNotEmpty();
+        assertThat(nearShopIds.size()).isLessThan(81);
+        assertThat(nearShopInAreaIds).isEqualTo(nearShopIds);
+    }
+
+    private List<Long> idsOf(List<Shop> shops) {
+        return shops.stream()
+                .map(Shop::getId)
+                .sorted()
+                .collect(Collectors.toList());
+    }
 }
@@ -0,0 +1,138 @@
+package com.minionz.backend.shop.service;
+
+import com.minionz.backend.common.exception.BadRequestException;
+import com.minionz.backend.common.exception.NotFoundException;
+import com.minionz.backend.shop.controller.dto.CongestionHistoryResponseDto;
+import com.minionz.backend.shop.domain.CongestionRollup;
+import com.minionz.backend.shop.domain.CongestionRollupRepository;
+import com.minionz.backend.shop.domain.CongestionStatus;
+import com.minionz.backend.shop.domain.OccupancyChangedEvent;
+import com.minionz.backend.shop.domain.OccupancySnapshot;
+import com.minionz.backend.shop.domain.ShopRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class CongestionHistoryServiceTest {
+
+    private static final Long SHOP_ID = 1L;
+    private static final Long UNKNOWN_SHOP_ID = 2L;
+    private static final int CAPACITY_MINUTES = 60;
+
+    private CongestionRollupRepository congestionRollupRepository;
+    private CongestionHistoryService congestionHistoryService;
+
+    @BeforeEach
+    void setUp() {
+        ShopRepository shopRepository = mock(ShopRepository.class);
+        given(shopRepository.existsById(SHOP_ID)).willReturn(true);
+        given(shopRepository.existsById(UNKNOWN_SHOP_ID)).willReturn(false);
+        congestionRollupRepository = mock(CongestionRollupRepository.class);
+        given(congestionRollupRepository.findByShopIdAndStartedAtGreaterThanEqualOrderByStartedAt(any(Long.class), any(LocalDateTime.class)))
+                .willReturn(Collections.emptyList());
+        congestionHistoryService = new CongestionHistoryService(shopRepository, congestionRollupRepository, mock(JdbcTemplate.class), CAPACITY_MINUTES);
+    }
+
+    @DisplayName("분 / 시간 / 일 단위 조회 범위 테스트")
+    @Test
+    void rangeTest() {
+        // given
+        List<String> ranges = Arrays.asList("1m", "60m", "9999m", "2h", "720h", "1d", "30d");
+        // when
+        // then
+        for (String range : ranges) {
+            assertThatCode(() -> congestionHistoryService.viewHistory(SHOP_ID, range)).doesNotThrowAnyException();
+        }
+    }
+
+    @DisplayName("잘못된 조회 범위 및 30일 초과 범위 테스트")
+    @Test
+    void invalidRangeTest() {
+        // given
+        List<String> ranges = Arrays.asList("", "h", "24", "1w", "-1h", "1.5h", "0m", "0d", "12345m", "721h", "31d", "24H");
+        // when
+        // then
+        for (String range : ranges) {
+            assertThatThrownBy(() -> congestionHistoryService.viewHistory(SHOP_ID, range))
+                    .isInstanceOf(BadRequestException.class);
+        }
+    }
+
+    @DisplayName("존재하지 않는 매장 이력 조회 테스트")
+    @Test
+    void notFoundShopTest() {
+        // given
+        // when
+        // then
+        assertThatThrownBy(() -> congestionHistoryService.viewHistory(UNKNOWN_SHOP_ID, "24h"))
+                .isInstanceOf(NotFoundException.class);
+        assertThatThrownBy(() -> congestionHistoryService.viewHistory(UNKNOWN_SHOP_ID, "1w"))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @DisplayName("버퍼 범위 안의 이력은 분 단위 버퍼에서 조회하는지 테스트")
+    @Test
+    void recentHistoryTest() {
+        // given
+        OccupancySnapshot snapshot = new OccupancySnapshot(SHOP_ID, 10, 8, 20, 40);
+        congestionHistoryService.onOccupancyChanged(new OccupancyChangedEvent(SHOP_ID, 10L, 0, 1, snapshot));
+        // when
+        List<CongestionHistoryResponseDto> histories = congestionHistoryService.viewHistory(SHOP_ID, CAPACITY_MINUTES + "m");
+        // then
+        assertThat(histories).isNotEmpty();
+        CongestionHistoryResponseDto latest = histories.get(histories.size() - 1);
+        assertThat(latest.getUseTables()).isEqualTo(8);
+        assertThat(latest.getUseUser()).isEqualTo(20);
+        assertThat(latest.getCongestionStatus()).isEqualTo(CongestionStatus.CONGESTED);
+        verify(congestionRollupRepository, never()).findByShopIdAndStartedAtGreaterThanEqualOrderByStartedAt(any(Long.class), any(LocalDateTime.class));
+    }
+
+    @DisplayName("버퍼보다 긴 범위는 시간 단위 집계에서 조회하는지 테스트")
+    @Test
+    void rollupHistoryTest() {
+        // given
+        LocalDateTime startedAt = LocalDateTime.now().withMinute(0).withSecond(0).withNano(0);
+        CongestionRollup rollup = CongestionRollup.builder()
+                .shopId(SHOP_ID)
+                .startedAt(startedAt)
+                .maxUseTables(6)
+                .averageUseTables(3.5)
+                .maxUseUser(14)
+                .peakCongestionStatus(CongestionStatus.NORMAL)
+                .build();
+        given(congestionRollupRepository.findByShopIdAndStartedAtGreaterThanEqualOrderByStartedAt(eq(SHOP_ID), any(LocalDateTime.class)))
+                .willReturn(Collections.singletonList(rollup));
+        ArgumentCaptor<LocalDateTime> from = ArgumentCaptor.forClass(LocalDateTime.class);
+        LocalDateTime before = LocalDateTime.now();
+        // when
+        List<CongestionHistoryResponseDto> histories = congestionHistoryService.viewHistory(SHOP_ID, "3h");
+        LocalDateTime after = LocalDateTime.now();
+        // then
+        verify(congestionRollupRepository).findByShopIdAndStartedAtGreaterThanEqualOrderByStartedAt(eq(SHOP_ID), from.capture());
+        assertThat(from.getValue()).isAfter(before.minus(Duration.ofMinutes(181)));
+        assertThat(from.getValue()).isBefore(after.minus(Duration.ofMinutes(178)));
+        assertThat(histories).hasSize(1);
+        assertThat(histories.get(0).getTime()).isEqualTo(startedAt);
+        assertThat(histories.get(0).getUseTables()).isEqualTo(6);
+        assertThat(histories.get(0).getUseUser()).isEqualTo(14);
+        assertThat(histories.get(0).getCongestionStatus()).isEqualTo(CongestionStatus.NORMAL);
+    }
+}
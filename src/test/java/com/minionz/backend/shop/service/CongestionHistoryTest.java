@@ -0,0 +1,62 @@
+package com.minionz.backend.shop.service;
+
+import com.minionz.backend.shop.domain.CongestionStatus;
+import com.minionz.backend.shop.domain.OccupancySnapshot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CongestionHistoryTest {
+
+    private static final Long SHOP_ID = 1L;
+    private static final int START_MINUTE = 27_000_000;
+
+    @DisplayName("분 단위 최대값 기록 및 빈 분 이어 채우기 테스트")
+    @Test
+    void recordAndReadTest() {
+        // given
+        CongestionHistory congestionHistory = new CongestionHistory(60);
+        // when
+        congestionHistory.record(START_MINUTE, new OccupancySnapshot(SHOP_ID, 10, 8, 20, 40));
+        congestionHistory.record(START_MINUTE, new OccupancySnapshot(SHOP_ID, 10, 1, 2, 40));
+        List<CongestionHistory.Bucket> buckets = congestionHistory.read(START_MINUTE, START_MINUTE + 2);
+        // then
+        assertThat(buckets).hasSize(3);
+        assertThat(buckets.get(0).getUseTables()).isEqualTo(8);
+        assertThat(buckets.get(0).getUseUser()).isEqualTo(20);
+        assertThat(buckets.get(0).getCongestionStatus()).isEqualTo(CongestionStatus.CONGESTED);
+        assertThat(buckets.get(2).getUseTables()).isEqualTo(1);
+        assertThat(buckets.get(2).getCongestionStatus()).isEqualTo(CongestionStatus.SMOOTH);
+    }
+
+    @DisplayName("버퍼 용량을 넘는 범위 조회 테스트")
+    @Test
+    void boundedCapacityTest() {
+        // given
+        CongestionHistory congestionHistory = new CongestionHistory(60);
+        congestionHistory.record(START_MINUTE, new OccupancySnapshot(SHOP_ID, 10, 5, 10, 40));
+        // when
+        List<CongestionHistory.Bucket> buckets = congestionHistory.read(START_MINUTE, START_MINUTE + 600);
+        // then
+        assertThat(buckets).hasSize(60);
+        assertThat(buckets.get(0).getMinute()).isEqualTo(START_MINUTE + 541);
+    }
+
+    @DisplayName("완료된 시간대 집계 대상 추출 테스트")
+    @Test
+    void drainCompletedHoursTest() {
+        // given
+        CongestionHistory congestionHistory = new CongestionHistory(180);
+        congestionHistory.record(START_MINUTE, new OccupancySnapshot(SHOP_ID, 10, 5, 10, 40));
+        // when
+        List<List<CongestionHistory.Bucket>> firstDrain = congestionHistory.drainCompletedHours(START_MINUTE + 120);
+        List<List<CongestionHistory.Bucket>> secondDrain = congestionHistory.drainCompletedHours(START_MINUTE + 121);
+        // then
+        assertThat(firstDrain).hasSize(2);
+        assertThat(firstDrain.get(1)).hasSize(60);
+        assertThat(secondDrain).isEmpty();
+    }
+}
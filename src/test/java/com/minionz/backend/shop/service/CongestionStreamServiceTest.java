@@ -0,0 +1,176 @@
+package com.minionz.backend.shop.service;
+
+import com.minionz.backend.shop.controller.CongestionController;
+import com.minionz.backend.shop.domain.OccupancyChangedEvent;
+import com.minionz.backend.shop.domain.ShopRepository;
+import com.minionz.backend.shop.domain.ShopTableRepository;
+import com.minionz.backend.shop.domain.ShopTableState;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+public class CongestionStreamServiceTest {
+
+    private static final Long SHOP_ID = 1L;
+    private static final String EVENT_LINE = "event:congestion";
+    private static final Pattern USE_TABLES = Pattern.compile("\"useTables\":(\\d+)");
+    private static final long AWAIT_MILLIS = 5000;
+
+    private ShopOccupancyRegistry shopOccupancyRegistry;
+    private CongestionStreamService congestionStreamService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        List<ShopTableState> tableStates = new ArrayList<>();
+        tableStates.add(new ShopTableState(SHOP_ID, 10L, 1, 2, 0));
+        tableStates.add(new ShopTableState(SHOP_ID, 11L, 2, 4, 0));
+        tableStates.add(new ShopTableState(SHOP_ID, 12L, 3, 4, 0));
+        ShopTableRepository shopTableRepository = mock(ShopTableRepository.class);
+        given(shopTableRepository.findAllStates()).willReturn(tableStates);
+        ShopRepository shopRepository = mock(ShopRepository.class);
+        given(shopRepository.existsById(any(Long.class))).willReturn(true);
+        shopOccupancyRegistry = new ShopOccupancyRegistry(shopTableRepository,
+                event -> congestionStreamService.onOccupancyChanged((OccupancyChangedEvent) event));
+        shopOccupancyRegistry.rebuild();
+        congestionStreamService = new CongestionStreamService(shopRepository, shopOccupancyRegistry);
+        mockMvc = MockMvcBuilders.standaloneSetup(new CongestionController(congestionStreamService, mock(CongestionHistoryService.class)))
+                .build();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        congestionStreamService.close();
+    }
+
+    @DisplayName("여러 번의 점유 변경을 모아 한 번만 전송하는지 테스트")
+    @Test
+    void coalesceTest() throws Exception {
+        // given
+        MvcResult mvcResult = 혼잡도_구독();
+        awaitEvents(mvcResult, 1);
+        // when
+        shopOccupancyRegistry.use(10L);
+        shopOccupancyRegistry.use(11L);
+        shopOccupancyRegistry.use(12L);
+        congestionStreamService.dispatch();
+        congestionStreamService.dispatch();
+        awaitEvents(mvcResult, 2);
+        // then
+        assertThat(useTablesOf(mvcResult)).containsExactly(0, 3);
+    }
+
+    @DisplayName("사용 테이블 수가 그대로면 다시 전송하지 않는지 테스트")
+    @Test
+    void deduplicateTest() throws Exception {
+        // given
+        MvcResult mvcResult = 혼잡도_구독();
+        shopOccupancyRegistry.use(10L);
+        congestionStreamService.dispatch();
+        awaitEvents(mvcResult, 2);
+        // when
+        shopOccupancyRegistry.exit(10L);
+        shopOccupancyRegistry.use(10L);
+        shopOccupancyRegistry.use(10L);
+        congestionStreamService.dispatch();
+        shopOccupancyRegistry.use(11L);
+        congestionStreamService.dispatch();
+        awaitEvents(mvcResult, 3);
+        // then
+        assertThat(useTablesOf(mvcResult)).containsExactly(0, 1, 2);
+    }
+
+    @DisplayName("연결 종료 시 구독 해제 테스트")
+    @Test
+    void unsubscribeOnCompletionTest() throws Exception {
+        // given
+        MvcResult mvcResult = 혼잡도_구독();
+        int subscriberCount = congestionStreamService.subscriberCount(SHOP_ID);
+        // when
+        mvcResult.getRequest().getAsyncContext().complete();
+        // then
+        assertThat(subscriberCount).isEqualTo(1);
+        assertThat(congestionStreamService.subscriberCount(SHOP_ID)).isZero();
+    }
+
+    @DisplayName("연결 시간 초과 시 구독 해제 테스트")
+    @Test
+    void unsubscribeOnTimeoutTest() throws Exception {
+        // given
+        MvcResult mvcResult = 혼잡도_구독();
+        MockAsyncContext asyncContext = (MockAsyncContext) mvcResult.getRequest().getAsyncContext();
+        // when
+        for (AsyncListener listener : asyncContext.getListeners()) {
+            listener.onTimeout(new AsyncEvent(asyncContext));
+        }
+        // then
+        assertThat(congestionStreamService.subscriberCount(SHOP_ID)).isZero();
+    }
+
+    @DisplayName("연결 오류 시 구독 해제 테스트")
+    @Test
+    void unsubscribeOnErrorTest() throws Exception {
+        // given
+        MvcResult mvcResult = 혼잡도_구독();
+        MockAsyncContext asyncContext = (MockAsyncContext) mvcResult.getRequest().getAsyncContext();
+        // when
+        for (AsyncListener listener : asyncContext.getListeners()) {
+            listener.onError(new AsyncEvent(asyncContext, new IOException("연결 끊김")));
+        }
+        // then
+        assertThat(congestionStreamService.subscriberCount(SHOP_ID)).isZero();
+    }
+
+    private MvcResult 혼잡도_구독() throws Exception {
+        return mockMvc.perform(get("/api/v1/shops/" + SHOP_ID + "/congestion/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    private void awaitEvents(MvcResult mvcResult, int count) throws Exception {
+        long deadline = System.currentTimeMillis() + AWAIT_MILLIS;
+        while (countEvents(mvcResult) < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(countEvents(mvcResult)).isEqualTo(count);
+    }
+
+    private int countEvents(MvcResult mvcResult) throws Exception {
+        String body = mvcResult.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        int count = 0;
+        for (int index = body.indexOf(EVENT_LINE); index >= 0; index = body.indexOf(EVENT_LINE, index + 1)) {
+            count++;
+        }
+        return count;
+    }
+
+    private List<Integer> useTablesOf(MvcResult mvcResult) throws Exception {
+        Matcher matcher = USE_TABLES.matcher(mvcResult.getResponse().getContentAsString(StandardCharsets.UTF_8));
+        List<Integer> useTables = new ArrayList<>();
+        while (matcher.find()) {
+            useTables.add(Integer.parseInt(matcher.group(1)));
+        }
+        return useTables;
+    }
+}
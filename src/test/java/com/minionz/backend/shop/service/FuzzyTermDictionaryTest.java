@@ -0,0 +1,92 @@
+package com.minionz.backend.shop.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FuzzyTermDictionaryTest {
+
+    private static final String CHARACTERS = "맘스터치타벅송도점ab";
+
+    @DisplayName("편집 거리 검색 결과가 전체 비교 결과와 같은지 테스트")
+    @Test
+    void searchTest() {
+        // given
+        Random random = new Random(7);
+        FuzzyTermDictionary dictionary = new FuzzyTermDictionary();
+        List<String> terms = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            String term = randomTerm(random);
+            if (dictionary.add(term) == terms.size()) {
+                terms.add(term);
+            }
+            if (i == 4000) {
+                dictionary.build();
+            }
+        }
+        for (int i = 0; i < 200; i++) {
+            String query = randomTerm(random);
+            for (int maxDistance = 0; maxDistance <= 2; maxDistance++) {
+                // when
+                Map<String, Integer> result = new HashMap<>();
+                dictionary.search(query, maxDistance, (termId, distance) -> result.put(terms.get(termId), distance));
+                // then
+                assertThat(result).isEqualTo(bruteForce(terms, query, maxDistance));
+            }
+        }
+    }
+
+    @DisplayName("같은 단어는 같은 번호 테스트")
+    @Test
+    void addTest() {
+        FuzzyTermDictionary dictionary = new FuzzyTermDictionary();
+        int termId = dictionary.add("맘스터치");
+        dictionary.add("스타벅스");
+        dictionary.build();
+        assertThat(dictionary.add("맘스터치")).isEqualTo(termId);
+    }
+
+    private Map<String, Integer> bruteForce(List<String> terms, String query, int maxDistance) {
+        Map<String, Integer> result = new HashMap<>();
+        for (String term : terms) {
+            int distance = distance(query, term);
+            if (distance <= maxDistance) {
+                result.put(term, distance);
+            }
+        }
+        return result;
+    }
+
+    private int distance(String source, String target) {
+        int[][] distances = new int[source.length() + 1][target.length() + 1];
+        for (int i = 0; i <= source.length(); i++) {
+            distances[i][0] = i;
+        }
+        for (int j = 0; j <= target.length(); j++) {
+            distances[0][j] = j;
+        }
+        for (int i = 1; i <= source.length(); i++) {
+            for (int j = 1; j <= target.length(); j++) {
+                int substitution = distances[i - 1][j - 1] + (source.charAt(i - 1) == target.charAt(j - 1) ? 0 : 1);
+                distances[i][j] = Math.min(substitution, Math.min(distances[i - 1][j], distances[i][j - 1]) + 1);
+            }
+        }
+        return distances[source.length()][target.length()];
+    }
+
+    private String randomTerm(Random random) {
+        int length = 1 + random.nextInt(6);
+        StringBuilder term = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            term.append(CHARACTERS.charAt(random.nextInt(CHARACTERS.length())));
+        }
+        return term.toString();
+    }
+}
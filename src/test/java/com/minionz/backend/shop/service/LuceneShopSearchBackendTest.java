@@ -0,0 +1,166 @@
+package com.minionz.backend.shop.service;
+
+import com.minionz.backend.common.domain.Address;
+import com.minionz.backend.shop.domain.SearchMode;
+import com.minionz.backend.shop.domain.Shop;
+import com.minionz.backend.shop.domain.ShopChangedEvent;
+import com.minionz.backend.shop.domain.ShopRepository;
+import com.minionz.backend.shop.domain.ShopSearchDocument;
+import com.minionz.backend.user.domain.Owner;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class LuceneShopSearchBackendTest {
+
+    @TempDir
+    Path indexPath;
+
+    private ShopRepository shopRepository;
+    private ShopNameIndex shopNameIndex;
+    private LuceneShopSearchBackend luceneShopSearchBackend;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        List<ShopSearchDocument> documents = new ArrayList<>();
+        documents.add(new ShopSearchDocument(1L, "맘스터치 구월점", "구월동", "인천시 남동구", "111-222"));
+        documents.add(new ShopSearchDocument(2L, "스타벅스 송도점", "송도동", "인천시 연수구", "333-444"));
+        documents.add(new ShopSearchDocument(3L, "맘스터치 송도점", "송도동", "인천시 연수구", "333-555"));
+        documents.add(new ShopSearchDocument(4L, "Starbucks Reserve", "을지로", "서울시 중구", "100-100"));
+        shopRepository = mock(ShopRepository.class);
+        given(shopRepository.findAllSearchDocuments()).willReturn(documents);
+        shopNameIndex = mock(ShopNameIndex.class);
+        luceneShopSearchBackend = new LuceneShopSearchBackend(shopRepository, shopNameIndex, indexPath.toString(), 1000);
+        luceneShopSearchBackend.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        luceneShopSearchBackend.close();
+    }
+
+    @DisplayName("이름 / 지역 / 우편번호 검색 테스트")
+    @Test
+    void findHitsTest() {
+        assertThat(search("맘스터치", null, SearchMode.NAME)).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(search("맘스터치", "인천시 연수구", SearchMode.NAME)).containsExactly(3L);
+        assertThat(search("starbucks", null, SearchMode.NAME)).containsExactly(4L);
+        assertThat(search("333-444", null, SearchMode.NAME)).containsExactly(2L);
+        assertThat(search("롯데리아", null, SearchMode.NAME)).isEmpty();
+    }
+
+    @DisplayName("오타 검색 테스트")
+    @Test
+    void findHitsFuzzyTest() {
+        assertThat(search("starbucka", null, SearchMode.FUZZY)).containsExactly(4L);
+        assertThat(search("starbucka", null, SearchMode.NAME)).isEmpty();
+    }
+
+    @DisplayName("매장 변경이 커밋 없이 바로 검색에 반영되는지 테스트")
+    @Test
+    void onShopChangedTest() {
+        // when
+        luceneShopSearchBackend.onShopChanged(ShopChangedEvent.saved(shop(5L, "롯데리아 구월점", "인천시 남동구")));
+        luceneShopSearchBackend.onShopChanged(ShopChangedEvent.updated(shop(1L, "버거킹 구월점", "인천시 남동구")));
+        luceneShopSearchBackend.onShopChanged(ShopChangedEvent.deleted(shop(2L, "스타벅스 송도점", "인천시 연수구")));
+        // then
+        assertThat(search("롯데리아", null, SearchMode.NAME)).containsExactly(5L);
+        assertThat(search("맘스터치", null, SearchMode.NAME)).containsExactly(3L);
+        assertThat(search("스타벅스", null, SearchMode.NAME)).isEmpty();
+    }
+
+    @DisplayName("지역 적재는 새 인덱스에 만들어 바꿔 끼우고 적재 중 변경도 반영하는지 테스트")
+    @Test
+    void rebuildCitiesTest() throws IOException {
+        // given
+        luceneShopSearchBackend.onShopChanged(ShopChangedEvent.saved(shop(5L, "롯데리아 구월점", "인천시 남동구")));
+        given(shopRepository.findSearchDocumentsByCityIn(anyList())).willAnswer(invocation -> {
+            luceneShopSearchBackend.onShopChanged(ShopChangedEvent.saved(shop(8L, "버거킹 연수점", "인천시 연수구")));
+            return Arrays.asList(new ShopSearchDocument(3L, "버거킹 송도점", "송도동", "인천시 연수구", "333-555"),
+                    new ShopSearchDocument(7L, "롯데리아 송도점", "송도동", "인천시 연수구", "333-666"));
+        });
+        // when
+        luceneShopSearchBackend.rebuildCities(Collections.singletonList("인천시 연수구"));
+        // then
+        assertThat(search("스타벅스", null, SearchMode.NAME)).isEmpty();
+        assertThat(search("맘스터치", null, SearchMode.NAME)).containsExactly(1L);
+        assertThat(search("버거킹", null, SearchMode.NAME)).containsExactlyInAnyOrder(3L, 8L);
+        assertThat(search("롯데리아", null, SearchMode.NAME)).containsExactlyInAnyOrder(5L, 7L);
+        assertThat(search("starbucks", null, SearchMode.NAME)).containsExactly(4L);
+        try (Stream<Path> generations = Files.list(indexPath)) {
+            assertThat(generations.count()).isEqualTo(1);
+        }
+    }
+
+    @DisplayName("적재 전이나 오류 뒤에는 메모리 인덱스로 검색하다 다시 적재해 복구 테스트")
+    @Test
+    void recoverTest() throws IOException {
+        // given
+        ShopRepository shopRepository = mock(ShopRepository.class);
+        given(shopRepository.findAllSearchDocuments())
+                .willReturn(Collections.singletonList(new ShopSearchDocument(6L, "버거킹 부평점", "부평동", "인천시 부평구", "222-333")));
+        given(shopNameIndex.findHits(any(String.class), any(), any(SearchMode.class))).willReturn(Collections.emptyList());
+        luceneShopSearchBackend.close();
+        luceneShopSearchBackend = new LuceneShopSearchBackend(shopRepository, shopNameIndex, indexPath.resolve("recover").toString(), 1000);
+        // when
+        List<Long> beforeRecover = search("버거킹", null, SearchMode.NAME);
+        luceneShopSearchBackend.recover();
+        // then
+        assertThat(beforeRecover).isEmpty();
+        verify(shopNameIndex).findHits("버거킹", null, SearchMode.NAME);
+        assertThat(search("버거킹", null, SearchMode.NAME)).containsExactly(6L);
+    }
+
+    @DisplayName("초성 검색은 메모리 인덱스로 검색 테스트")
+    @Test
+    void findHitsChosungTest() {
+        // given
+        given(shopNameIndex.findHits(any(String.class), any(), any(SearchMode.class))).willReturn(Collections.emptyList());
+        // when
+        luceneShopSearchBackend.findHits("ㅁㅅㅌㅊ", null, SearchMode.CHOSUNG);
+        // then
+        verify(shopNameIndex).findHits("ㅁㅅㅌㅊ", null, SearchMode.CHOSUNG);
+    }
+
+    private List<Long> search(String keyword, String city, SearchMode searchMode) {
+        return luceneShopSearchBackend.findHits(keyword, city, searchMode)
+                .stream()
+                .map(hit -> hit.getEntry().getShopId())
+                .collect(Collectors.toList());
+    }
+
+    private Shop shop(Long id, String name, String city) {
+        Owner owner = Owner.builder()
+                .name("주인")
+                .build();
+        Address address = Address.builder()
+                .street("구월동")
+                .city(city)
+                .build();
+        return Shop.builder()
+                .id(id)
+                .name(name)
+                .owner(owner)
+                .address(address)
+                .build();
+    }
+}
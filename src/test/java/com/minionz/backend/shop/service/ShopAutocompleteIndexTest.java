@@ -0,0 +1,139 @@
+package com.minionz.backend.shop.service;
+
+import com.minionz.backend.shop.controller.dto.AutocompleteResponseDto;
+import com.minionz.backend.shop.domain.Shop;
+import com.minionz.backend.shop.domain.ShopChangedEvent;
+import com.minionz.backend.shop.domain.ShopRepository;
+import com.minionz.backend.shop.domain.ShopSearchEntry;
+import com.minionz.backend.user.domain.Owner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class ShopAutocompleteIndexTest {
+
+    private ShopRepository shopRepository;
+    private ShopPopularity shopPopularity;
+    private List<ShopSearchEntry> entries;
+    private ShopAutocompleteIndex shopAutocompleteIndex;
+
+    @BeforeEach
+    void setUp() {
+        entries = new ArrayList<>();
+        entries.add(new ShopSearchEntry(1L, "맘스터치 구월점", "구월동", "인천시 남동구"));
+        entries.add(new ShopSearchEntry(2L, "스타벅스 송도점", "송도동", "인천시 연수구"));
+        entries.add(new ShopSearchEntry(3L, "맘스터치 송도점", "송도동", "인천시 연수구"));
+        entries.add(new ShopSearchEntry(4L, "Starbucks Reserve", "을지로", "서울시 중구"));
+        entries.add(new ShopSearchEntry(5L, "스타벅스 구월점", "구월동", "인천시 남동구"));
+        shopRepository = mock(ShopRepository.class);
+        shopPopularity = mock(ShopPopularity.class);
+        given(shopRepository.findAllSearchEntries()).willReturn(entries);
+        given(shopPopularity.visitCountOf(any(Long.class))).willReturn(0L);
+        given(shopPopularity.visitCountOf(3L)).willReturn(20L);
+        given(shopPopularity.visitCountOf(2L)).willReturn(10L);
+        given(shopPopularity.visitCountOf(5L)).willReturn(7L);
+        shopAutocompleteIndex = new ShopAutocompleteIndex(shopRepository, shopPopularity);
+        shopAutocompleteIndex.rebuild();
+    }
+
+    @DisplayName("접두어 자동완성 방문 수 순 정렬 테스트")
+    @Test
+    void suggestTest() {
+        assertThat(suggest("맘", 10)).containsExactly(3L, 1L);
+        assertThat(suggest("스타", 10)).containsExactly(2L, 5L);
+        assertThat(suggest("", 3)).containsExactly(3L, 2L, 5L);
+        assertThat(suggest("커피", 10)).isEmpty();
+    }
+
+    @DisplayName("단어 시작 위치와 대소문자 무시 자동완성 테스트")
+    @Test
+    void suggestWordStartTest() {
+        assertThat(suggest("송도", 10)).containsExactly(3L, 2L);
+        assertThat(suggest("res", 10)).containsExactly(4L);
+        assertThat(suggest("STAR", 10)).containsExactly(4L);
+        assertThat(suggest("도점", 10)).isEmpty();
+    }
+
+    @DisplayName("자동완성 개수 제한 테스트")
+    @Test
+    void suggestLimitTest() {
+        assertThat(suggest("점", 10)).isEmpty();
+        assertThat(suggest("맘스터치", 1)).containsExactly(3L);
+    }
+
+    @DisplayName("매장 추가 / 수정 / 삭제를 트라이를 다시 만들지 않고 반영하는지 테스트")
+    @Test
+    void shopChangedTest() {
+        // given
+        given(shopPopularity.visitCountOf(6L)).willReturn(15L);
+        // when
+        shopAutocompleteIndex.onShopChanged(ShopChangedEvent.saved(shop(6L, "맘스터치 부평점")));
+        shopAutocompleteIndex.onShopChanged(ShopChangedEvent.updated(shop(1L, "버거킹 구월점")));
+        shopAutocompleteIndex.onShopChanged(ShopChangedEvent.deleted(shop(2L, "스타벅스 송도점")));
+        // then
+        assertThat(suggest("맘", 10)).containsExactly(3L, 6L);
+        assertThat(suggest("버거", 10)).containsExactly(1L);
+        assertThat(suggest("구월", 10)).containsExactly(5L, 1L);
+        assertThat(suggest("스타", 10)).containsExactly(5L);
+        assertThat(suggest("부평", 10)).containsExactly(6L);
+        verify(shopRepository, times(1)).findAllSearchEntries();
+    }
+
+    @DisplayName("다시 만드는 동안 들어온 변경분은 유지하는지 테스트")
+    @Test
+    void changeDuringRebuildTest() {
+        // given
+        shopAutocompleteIndex.onShopChanged(ShopChangedEvent.saved(shop(6L, "맘스터치 부평점")));
+        given(shopRepository.findAllSearchEntries()).willAnswer(invocation -> {
+            shopAutocompleteIndex.onShopChanged(ShopChangedEvent.saved(shop(7L, "맘스터치 계산점")));
+            List<ShopSearchEntry> rebuiltEntries = new ArrayList<>(entries);
+            rebuiltEntries.add(new ShopSearchEntry(6L, "맘스터치 부평점", "부평동", "인천시 부평구"));
+            return rebuiltEntries;
+        });
+        // when
+        shopAutocompleteIndex.rebuild();
+        // then
+        assertThat(suggest("맘", 10)).containsExactly(3L, 1L, 6L, 7L);
+    }
+
+    @DisplayName("인덱스를 만들기 전 자동완성은 DB 를 읽지 않는지 테스트")
+    @Test
+    void coldSuggestTest() {
+        // given
+        ShopRepository coldShopRepository = mock(ShopRepository.class);
+        ShopAutocompleteIndex coldIndex = new ShopAutocompleteIndex(coldShopRepository, shopPopularity);
+        // when
+        List<AutocompleteResponseDto> suggestions = coldIndex.suggest("맘", 10);
+        // then
+        assertThat(suggestions).isEmpty();
+        verify(coldShopRepository, never()).findAllSearchEntries();
+    }
+
+    private Shop shop(Long id, String name) {
+        return Shop.builder()
+                .id(id)
+                .name(name)
+                .owner(Owner.builder().name("주인").build())
+                .tableList(new ArrayList<>())
+                .build();
+    }
+
+    private List<Long> suggest(String prefix, int limit) {
+        return shopAutocompleteIndex.suggest(prefix, limit)
+                .stream()
+                .map(AutocompleteResponseDto::getId)
+                .collect(Collectors.toList());
+    }
+}
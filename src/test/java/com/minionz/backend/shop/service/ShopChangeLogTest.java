@@ -0,0 +1,56 @@
+package com.minionz.backend.shop.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ShopChangeLogTest {
+
+    private static final long INITIAL_VERSION = 100;
+
+    @DisplayName("since 이후 바뀐 테이블만 한 번씩 조회 테스트")
+    @Test
+    void changesSinceTest() {
+        // given
+        ShopChangeLog shopChangeLog = new ShopChangeLog(8, INITIAL_VERSION);
+        // when
+        shopChangeLog.recordTable(1L);
+        shopChangeLog.recordTable(2L);
+        shopChangeLog.recordTable(1L);
+        // then
+        ShopChangeLog.Changes changes = shopChangeLog.changesSince(INITIAL_VERSION + 1);
+        assertThat(changes.getVersion()).isEqualTo(INITIAL_VERSION + 3);
+        assertThat(changes.isFullResync()).isFalse();
+        assertThat(changes.getTableIds()).containsExactly(2L, 1L);
+        assertThat(shopChangeLog.changesSince(INITIAL_VERSION + 3).getTableIds()).isEmpty();
+    }
+
+    @DisplayName("기록에서 밀려난 버전이나 모르는 버전은 전체 재동기화 테스트")
+    @Test
+    void fullResyncTest() {
+        // given
+        ShopChangeLog shopChangeLog = new ShopChangeLog(2, INITIAL_VERSION);
+        // when
+        shopChangeLog.recordTable(1L);
+        shopChangeLog.recordTable(2L);
+        shopChangeLog.recordTable(3L);
+        // then
+        assertThat(shopChangeLog.changesSince(INITIAL_VERSION).isFullResync()).isTrue();
+        assertThat(shopChangeLog.changesSince(INITIAL_VERSION + 1).getTableIds()).containsExactly(2L, 3L);
+        assertThat(shopChangeLog.changesSince(INITIAL_VERSION + 4).isFullResync()).isTrue();
+    }
+
+    @DisplayName("매장 정보가 바뀌면 이전 버전은 전체 재동기화 테스트")
+    @Test
+    void recordShopTest() {
+        // given
+        ShopChangeLog shopChangeLog = new ShopChangeLog(8, INITIAL_VERSION);
+        shopChangeLog.recordTable(1L);
+        // when
+        shopChangeLog.recordShop();
+        // then
+        assertThat(shopChangeLog.changesSince(INITIAL_VERSION + 1).isFullResync()).isTrue();
+        assertThat(shopChangeLog.changesSince(INITIAL_VERSION + 2).isFullResync()).isFalse();
+    }
+}
@@ -0,0 +1,88 @@
+package com.minionz.backend.shop.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minionz.backend.common.domain.Address;
+import com.minionz.backend.shop.controller.dto.ShopExportResponseDto;
+import com.minionz.backend.shop.controller.dto.ShopRequestDto;
+import com.minionz.backend.shop.controller.dto.ShopTableRequestDto;
+import com.minionz.backend.shop.domain.CongestionStatus;
+import com.minionz.backend.shop.domain.ShopRepository;
+import com.minionz.backend.user.domain.Owner;
+import com.minionz.backend.user.domain.OwnerRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+public class ShopExportServiceTest {
+
+    @Autowired
+    private ShopExportService shopExportService;
+
+    @Autowired
+    private ShopService shopService;
+
+    @Autowired
+    private ShopRepository shopRepository;
+
+    @Autowired
+    private OwnerRepository ownerRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @AfterEach
+    void cleanUp() {
+        shopRepository.deleteAll();
+        ownerRepository.deleteAll();
+    }
+
+    @DisplayName("전체 매장을 id 순으로 한 줄에 하나씩 내보내기 테스트")
+    @Test
+    void exportTest() throws IOException {
+        // given
+        Owner owner = Owner.builder()
+                .name("주인")
+                .email("jhnj841@naba.com")
+                .password("123")
+                .telNumber("123123")
+                .build();
+        Owner savedOwner = ownerRepository.save(owner);
+        Address address = Address.builder().zipcode("111-222").street("구월동").city("인천시 남동구").latitude(37.5).longitude(126.9).build();
+        List<Long> shopIds = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            List<ShopTableRequestDto> list = new ArrayList<>();
+            list.add(new ShopTableRequestDto(2));
+            list.add(new ShopTableRequestDto(4));
+            shopIds.add(shopService.save(new ShopRequestDto("맘스터치" + i, address, "032-888-888" + i, list, savedOwner.getId())).getId());
+        }
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        // when
+        long count = shopExportService.export(outputStream);
+        // then
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8.name()).split("\n");
+        assertThat(count).isEqualTo(3);
+        assertThat(lines).hasSize(3);
+        ShopExportResponseDto first = objectMapper.readValue(lines[0], ShopExportResponseDto.class);
+        assertThat(first.getId()).isEqualTo(shopIds.get(0));
+        assertThat(first.getName()).isEqualTo("맘스터치1");
+        assertThat(first.getCity()).isEqualTo("인천시 남동구");
+        assertThat(first.getNumberOfTables()).isEqualTo(2);
+        assertThat(first.getMaxUser()).isEqualTo(6);
+        assertThat(first.getCongestionStatus()).isEqualTo(CongestionStatus.SMOOTH);
+        assertThat(objectMapper.readValue(lines[2], ShopExportResponseDto.class).getId()).isEqualTo(shopIds.get(2));
+    }
+}
@@ -0,0 +1,76 @@
+package com.minionz.backend.shop.service;
+
+import com.minionz.backend.common.domain.Address;
+import com.minionz.backend.common.domain.Geohash;
+import com.minionz.backend.shop.domain.Shop;
+import com.minionz.backend.shop.domain.ShopRepository;
+import com.minionz.backend.user.domain.Owner;
+import com.minionz.backend.user.domain.OwnerRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+public class ShopGeohashInitializerTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    @Autowired
+    private ShopRepository shopRepository;
+
+    @Autowired
+    private OwnerRepository ownerRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        shopRepository.deleteAll();
+        ownerRepository.deleteAll();
+    }
+
+    @DisplayName("geohash 가 없는 매장을 id 순 배치로 채우는지 테스트")
+    @Test
+    void initializeTest() {
+        // given
+        Owner owner = ownerRepository.save(Owner.builder()
+                .name("주인")
+                .email("geohash@naba.com")
+                .password("123")
+                .telNumber("123123")
+                .build());
+        for (int i = 1; i <= 5; i++) {
+            Address address = new Address("111-222", "구월동", "인천시 남동구", 37.45 + i * 0.01, 126.70 + i * 0.01);
+            shopRepository.save(Shop.builder()
+                    .name("맘스터치" + i)
+                    .telNumber("032-888-888" + i)
+                    .address(address)
+                    .tableList(new ArrayList<>())
+                    .owner(owner)
+                    .build());
+        }
+        jdbcTemplate.update("update shop set geohash = null");
+        ShopGeohashInitializer shopGeohashInitializer = new ShopGeohashInitializer(shopRepository, jdbcTemplate, BATCH_SIZE);
+        // when
+        int count = shopGeohashInitializer.initialize();
+        // then
+        List<Shop> shops = shopRepository.findAll();
+        assertThat(count).isEqualTo(shops.size());
+        assertThat(shopRepository.findLocationsWithoutGeohashAfter(0, PageRequest.of(0, BATCH_SIZE))).isEmpty();
+        shops.forEach(shop -> assertThat(shop.getAddress().getGeohash())
+                .isEqualTo(Geohash.encode(shop.getAddress().getLatitude(), shop.getAddress().getLongitude())));
+    }
+}
@@ -0,0 +1,192 @@
+package com.minionz.backend.shop.service;
+
+import com.minionz.backend.common.domain.Address;
+import com.minionz.backend.shop.domain.SearchMode;
+import com.minionz.backend.shop.domain.Shop;
+import com.minionz.backend.shop.domain.ShopChangedEvent;
+import com.minionz.backend.shop.domain.ShopRepository;
+import com.minionz.backend.shop.domain.ShopSearchEntry;
+import com.minionz.backend.user.domain.Owner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+public class ShopNameIndexTest {
+
+    private ShopNameIndex shopNameIndex;
+    private ShopRepository shopRepository;
+
+    @BeforeEach
+    void setUp() {
+        List<ShopSearchEntry> entries = new ArrayList<>();
+        entries.add(new ShopSearchEntry(1L, "맘스터치 구월점", "구월동", "인천시 남동구"));
+        entries.add(new ShopSearchEntry(2L, "스타벅스 송도점", "송도동", "인천시 연수구"));
+        entries.add(new ShopSearchEntry(3L, "맘스터치 송도점", "송도동", "인천시 연수구"));
+        entries.add(new ShopSearchEntry(4L, "Starbucks Reserve", "을지로", "서울시 중구"));
+        shopRepository = mock(ShopRepository.class);
+        given(shopRepository.findAllSearchEntries()).willReturn(entries);
+        shopNameIndex = new ShopNameIndex(shopRepository);
+        shopNameIndex.rebuild();
+    }
+
+    @DisplayName("이름 부분 일치 검색 테스트")
+    @Test
+    void searchTest() {
+        assertThat(search("맘스터치", SearchMode.NAME)).containsExactly(1L, 3L);
+        assertThat(search("송도", SearchMode.NAME)).containsExactly(2L, 3L);
+        assertThat(search("점", SearchMode.NAME)).containsExactly(1L, 2L, 3L);
+        assertThat(search("starbucks", SearchMode.NAME)).containsExactly(4L);
+        assertThat(search("맘스치", SearchMode.NAME)).isEmpty();
+        assertThat(search("", SearchMode.NAME)).containsExactly(1L, 2L, 3L, 4L);
+    }
+
+    @DisplayName("n-gram 이 모두 있어도 연속하지 않으면 제외 테스트")
+    @Test
+    void verifyCandidateTest() {
+        assertThat(search("맘스터치 송도", SearchMode.NAME)).containsExactly(3L);
+        assertThat(search("송도점 맘스", SearchMode.NAME)).isEmpty();
+    }
+
+    @DisplayName("초성 검색 테스트")
+    @Test
+    void searchChosungTest() {
+        assertThat(search("ㅅㅂ", SearchMode.CHOSUNG)).containsExactly(2L);
+        assertThat(search("ㅁㅅㅌㅊ ㅅ", SearchMode.CHOSUNG)).containsExactly(3L);
+        assertThat(search("ㅅㄷㅈ", SearchMode.CHOSUNG)).containsExactly(2L, 3L);
+        assertThat(search("ㅂㅋ", SearchMode.CHOSUNG)).isEmpty();
+    }
+
+    @DisplayName("입력 중인 글자 자모 검색 테스트")
+    @Test
+    void searchJamoTest() {
+        assertThat(search("스타ㅂ", SearchMode.CHOSUNG)).containsExactly(2L);
+        assertThat(search("맘스턱", SearchMode.CHOSUNG)).isEmpty();
+        assertThat(search("송도저", SearchMode.CHOSUNG)).containsExactly(2L, 3L);
+    }
+
+    @DisplayName("오타 허용 검색 테스트")
+    @Test
+    void searchFuzzyTest() {
+        assertThat(search("맘스터지", SearchMode.FUZZY)).containsExactly(1L, 3L);
+        assertThat(search("맘스터치 송도잠", SearchMode.FUZZY)).containsExactly(3L);
+        assertThat(search("starbuks reserv", SearchMode.FUZZY)).containsExactly(4L);
+        assertThat(search("맘수", SearchMode.FUZZY)).isEmpty();
+        assertThat(search("맘스터지", SearchMode.NAME)).isEmpty();
+    }
+
+    @DisplayName("오타 허용 검색 편집 거리 순 정렬 테스트")
+    @Test
+    void searchFuzzyRankingTest() {
+        // given
+        shopNameIndex.onShopChanged(ShopChangedEvent.saved(shop(5L, "맘스터지 부평점")));
+        // when
+        List<Long> result = search("맘스터지", SearchMode.FUZZY);
+        // then
+        assertThat(result).containsExactly(5L, 1L, 3L);
+    }
+
+    @DisplayName("지역 검색 테스트")
+    @Test
+    void searchByRegionTest() {
+        assertThat(searchByRegion("맘스터치", "인천시 연수구")).containsExactly(3L);
+        assertThat(searchByRegion("맘스터치", "서울시 중구")).isEmpty();
+        assertThat(shopNameIndex.searchByRegion("맘스터지", "인천시 연수구", SearchMode.FUZZY)
+                .stream()
+                .map(ShopSearchEntry::getShopId)
+                .collect(Collectors.toList())).containsExactly(3L);
+    }
+
+    @DisplayName("지역 이동 반영 테스트")
+    @Test
+    void onShopCityChangedTest() {
+        // when
+        shopNameIndex.onShopChanged(ShopChangedEvent.updated(shop(3L, "맘스터치 송도점")));
+        // then
+        assertThat(searchByRegion("맘스터치", "인천시 연수구")).isEmpty();
+        assertThat(searchByRegion("맘스터치", "인천시 부평구")).containsExactly(3L);
+        assertThat(search("맘스터치", SearchMode.NAME)).containsExactly(1L, 3L);
+    }
+
+    @DisplayName("지역 단위 다시 적재 테스트")
+    @Test
+    void rebuildCitiesTest() {
+        // given
+        List<ShopSearchEntry> entries = new ArrayList<>();
+        entries.add(new ShopSearchEntry(2L, "스타벅스 송도점", "송도동", "인천시 연수구"));
+        entries.add(new ShopSearchEntry(5L, "맘스터치 연수점", "연수동", "인천시 연수구"));
+        given(shopRepository.findSearchEntriesByCityIn(Collections.singletonList("인천시 연수구"))).willReturn(entries);
+        // when
+        shopNameIndex.rebuildCities(Collections.singletonList("인천시 연수구"));
+        // then
+        assertThat(searchByRegion("맘스터치", "인천시 연수구")).containsExactly(5L);
+        assertThat(search("맘스터치", SearchMode.NAME)).containsExactly(1L, 5L);
+        assertThat(search("맘스터치 연수잠", SearchMode.FUZZY)).containsExactly(5L);
+    }
+
+    @DisplayName("지역 다시 적재 중 들어온 매장 변경 반영 테스트")
+    @Test
+    void changeDuringRebuildCitiesTest() {
+        // given
+        List<ShopSearchEntry> staleEntries = new ArrayList<>();
+        staleEntries.add(new ShopSearchEntry(2L, "스타벅스 송도점", "송도동", "인천시 연수구"));
+        staleEntries.add(new ShopSearchEntry(3L, "맘스터치 송도점", "송도동", "인천시 연수구"));
+        given(shopRepository.findSearchEntriesByCityIn(Collections.singletonList("인천시 연수구"))).willAnswer(invocation -> {
+            shopNameIndex.onShopChanged(ShopChangedEvent.updated(shop(2L, "버거킹 부평점")));
+            shopNameIndex.onShopChanged(ShopChangedEvent.deleted(shop(3L, "맘스터치 송도점")));
+            return staleEntries;
+        });
+        // when
+        shopNameIndex.rebuildCities(Collections.singletonList("인천시 연수구"));
+        // then
+        assertThat(searchByRegion("송도", "인천시 연수구")).isEmpty();
+        assertThat(searchByRegion("버거킹", "인천시 부평구")).containsExactly(2L);
+        assertThat(search("맘스터치", SearchMode.NAME)).containsExactly(1L);
+    }
+
+    @DisplayName("매장 등록/수정/삭제 반영 테스트")
+    @Test
+    void onShopChangedTest() {
+        // when
+        shopNameIndex.onShopChanged(ShopChangedEvent.saved(shop(5L, "맘스터치 부평점")));
+        shopNameIndex.onShopChanged(ShopChangedEvent.updated(shop(1L, "버거킹 구월점")));
+        shopNameIndex.onShopChanged(ShopChangedEvent.deleted(shop(3L, "맘스터치 송도점")));
+        // then
+        assertThat(search("맘스터치", SearchMode.NAME)).containsExactly(5L);
+        assertThat(search("버거킹", SearchMode.NAME)).containsExactly(1L);
+    }
+
+    private List<Long> search(String keyword, SearchMode searchMode) {
+        return shopNameIndex.search(keyword, searchMode)
+                .stream()
+                .map(ShopSearchEntry::getShopId)
+                .collect(Collectors.toList());
+    }
+
+    private List<Long> searchByRegion(String keyword, String city) {
+        return shopNameIndex.searchByRegion(keyword, city, SearchMode.NAME)
+                .stream()
+                .map(ShopSearchEntry::getShopId)
+                .collect(Collectors.toList());
+    }
+
+    private Shop shop(Long id, String name) {
+        Owner owner = Owner.builder()
+                .name("주인")
+                .build();
+        return Shop.builder()
+                .id(id)
+                .name(name)
+                .owner(owner)
+                .address(Address.builder().city("인천시 부평구").build())
+                .build();
+    }
+}
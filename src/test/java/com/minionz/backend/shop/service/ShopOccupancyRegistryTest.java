@@ -0,0 +1,88 @@
+package com.minionz.backend.shop.service;
+
+import com.minionz.backend.common.exception.NotFoundException;
+import com.minionz.backend.shop.domain.CongestionStatus;
+import com.minionz.backend.shop.domain.OccupancySnapshot;
+import com.minionz.backend.shop.domain.ShopTableRepository;
+import com.minionz.backend.shop.domain.ShopTableState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+public class ShopOccupancyRegistryTest {
+
+    private static final Long SHOP_ID = 1L;
+
+    private ShopOccupancyRegistry shopOccupancyRegistry;
+
+    @BeforeEach
+    void setUp() {
+        List<ShopTableState> tableStates = new ArrayList<>();
+        tableStates.add(new ShopTableState(SHOP_ID, 10L, 1, 2, 0));
+        tableStates.add(new ShopTableState(SHOP_ID, 11L, 2, 4, 0));
+        tableStates.add(new ShopTableState(SHOP_ID, 12L, 3, 4, 0));
+        ShopTableRepository shopTableRepository = mock(ShopTableRepository.class);
+        given(shopTableRepository.findAllStates()).willReturn(tableStates);
+        given(shopTableRepository.findShopIdById(any(Long.class))).willReturn(Optional.empty());
+        shopOccupancyRegistry = new ShopOccupancyRegistry(shopTableRepository, mock(ApplicationEventPublisher.class));
+        shopOccupancyRegistry.rebuild();
+    }
+
+    @DisplayName("동시 체크인 점유 집계 테스트")
+    @Test
+    void concurrentUseTest() throws InterruptedException {
+        // given
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        // when
+        for (int i = 0; i < 8000; i++) {
+            long tableId = 10L + (i % 2);
+            executorService.execute(() -> shopOccupancyRegistry.use(tableId));
+        }
+        executorService.shutdown();
+        executorService.awaitTermination(10, TimeUnit.SECONDS);
+        OccupancySnapshot snapshot = shopOccupancyRegistry.snapshot(SHOP_ID);
+        // then
+        assertThat(snapshot.getUseUser()).isEqualTo(8000);
+        assertThat(snapshot.getNumberOfUsingTables()).isEqualTo(2);
+        assertThat(snapshot.getMaxUser()).isEqualTo(10);
+        assertThat(snapshot.getCongestionStatus()).isEqualTo(CongestionStatus.NORMAL);
+    }
+
+    @DisplayName("퇴장 시 테이블 인원 초기화 테스트")
+    @Test
+    void exitTest() {
+        // given
+        shopOccupancyRegistry.use(10L);
+        shopOccupancyRegistry.use(10L);
+        shopOccupancyRegistry.use(11L);
+        // when
+        OccupancySnapshot snapshot = shopOccupancyRegistry.exit(10L);
+        // then
+        assertThat(snapshot.getUseUser()).isEqualTo(1);
+        assertThat(snapshot.getNumberOfUsingTables()).isEqualTo(1);
+        assertThat(shopOccupancyRegistry.countUserOf(10L, -1)).isZero();
+        assertThat(shopOccupancyRegistry.countUserOf(11L, -1)).isEqualTo(1);
+    }
+
+    @DisplayName("존재하지 않는 테이블 체크인 실패 테스트")
+    @Test
+    void useUnknownTableTest() {
+        assertThatThrownBy(() -> shopOccupancyRegistry.use(99L))
+                .isInstanceOf(NotFoundException.class)
+                .hasMessage("해당 테이블이 존재하지 않습니다.");
+    }
+}
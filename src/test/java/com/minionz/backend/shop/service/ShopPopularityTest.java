@@ -0,0 +1,63 @@
+package com.minionz.backend.shop.service;
+
+import com.minionz.backend.shop.domain.OccupancyChangedEvent;
+import com.minionz.backend.shop.domain.OccupancySnapshot;
+import com.minionz.backend.visit.domain.ShopVisitCount;
+import com.minionz.backend.visit.domain.VisitRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class ShopPopularityTest {
+
+    private static final Long SHOP_ID = 1L;
+
+    private VisitRepository visitRepository;
+    private ShopPopularity shopPopularity;
+
+    @BeforeEach
+    void setUp() {
+        visitRepository = mock(VisitRepository.class);
+        given(visitRepository.countByShopSince(any(LocalDateTime.class)))
+                .willReturn(Collections.singletonList(new ShopVisitCount(SHOP_ID, 5L)));
+        shopPopularity = new ShopPopularity(visitRepository);
+    }
+
+    @DisplayName("집계 전 방문 수 조회는 DB 를 읽지 않는지 테스트")
+    @Test
+    void coldVisitCountTest() {
+        // given
+        shopPopularity.onOccupancyChanged(checkIn());
+        // when
+        long visitCount = shopPopularity.visitCountOf(SHOP_ID);
+        // then
+        assertThat(visitCount).isEqualTo(1);
+        verify(visitRepository, never()).countByShopSince(any(LocalDateTime.class));
+    }
+
+    @DisplayName("집계 후 체크인 수를 더하는지 테스트")
+    @Test
+    void visitCountTest() {
+        // given
+        shopPopularity.refresh();
+        // when
+        shopPopularity.onOccupancyChanged(checkIn());
+        // then
+        assertThat(shopPopularity.visitCountOf(SHOP_ID)).isEqualTo(6);
+        assertThat(shopPopularity.visitCountOf(2L)).isZero();
+    }
+
+    private OccupancyChangedEvent checkIn() {
+        return new OccupancyChangedEvent(SHOP_ID, 10L, 0, 1, new OccupancySnapshot(SHOP_ID, 3, 1, 1, 10));
+    }
+}
@@ -0,0 +1,102 @@
+package com.minionz.backend.shop.service;
+
+import com.minionz.backend.shop.domain.CongestionStatus;
+import com.minionz.backend.shop.domain.ShopDistance;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class ShopRankerTest {
+
+    private ShopOccupancyRegistry shopOccupancyRegistry;
+    private ShopPopularity shopPopularity;
+    private ShopRanker shopRanker;
+
+    @BeforeEach
+    void setUp() {
+        shopOccupancyRegistry = mock(ShopOccupancyRegistry.class);
+        shopPopularity = mock(ShopPopularity.class);
+        given(shopOccupancyRegistry.congestionStatusOf(any(Long.class))).willReturn(CongestionStatus.SMOOTH);
+        given(shopPopularity.visitCountOf(any(Long.class))).willReturn(0L);
+        shopRanker = new ShopRanker(shopOccupancyRegistry, shopPopularity);
+    }
+
+    @DisplayName("거리 점수 순 상위 매장 테스트")
+    @Test
+    void topByDistanceTest() {
+        // given
+        List<ShopDistance> candidates = Arrays.asList(new ShopDistance(1L, 0.4), new ShopDistance(2L, 0.1),
+                new ShopDistance(3L, 0.3), new ShopDistance(4L, 0.1));
+        // when
+        List<Long> shopIds = top(candidates, new ShopRankingProperties.Weights(0, 1.0, 0, 0, 3));
+        // then
+        assertThat(shopIds).containsExactly(2L, 4L, 3L);
+        verify(shopOccupancyRegistry, never()).congestionStatusOf(any(Long.class));
+        verify(shopPopularity, never()).visitCountOf(any(Long.class));
+    }
+
+    @DisplayName("혼잡도와 방문 수 반영 테스트")
+    @Test
+    void topByCongestionAndPopularityTest() {
+        // given
+        given(shopOccupancyRegistry.congestionStatusOf(2L)).willReturn(CongestionStatus.CONGESTED);
+        given(shopPopularity.visitCountOf(3L)).willReturn(100L);
+        List<ShopDistance> candidates = Arrays.asList(new ShopDistance(1L, 0.2), new ShopDistance(2L, 0.1),
+                new ShopDistance(3L, 0.3));
+        // when
+        List<Long> shopIds = top(candidates, new ShopRankingProperties.Weights(0, 1.0, 1.0, 1.0, 10));
+        // then
+        assertThat(shopIds).containsExactly(3L, 1L, 2L);
+    }
+
+    @DisplayName("후보가 많을 때 전체 정렬 결과와 같은 상위 매장 테스트")
+    @Test
+    void topLimitTest() {
+        // given
+        List<ShopDistance> candidates = new ArrayList<>();
+        for (long shopId = 1; shopId <= 1000; shopId++) {
+            candidates.add(new ShopDistance(shopId, (shopId * 7919 % 500) / 1000.0));
+        }
+        List<Long> expected = candidates.stream()
+                .sorted((a, b) -> a.getDistanceKm() != b.getDistanceKm()
+                        ? Double.compare(a.getDistanceKm(), b.getDistanceKm())
+                        : Long.compare(a.getShopId(), b.getShopId()))
+                .limit(20)
+                .map(ShopDistance::getShopId)
+                .collect(Collectors.toList());
+        // when
+        List<Long> shopIds = top(candidates, new ShopRankingProperties.Weights(0, 1.0, 0, 0, 20));
+        // then
+        assertThat(shopIds).isEqualTo(expected);
+    }
+
+    @DisplayName("이름 일치도 테스트")
+    @Test
+    void textRelevanceTest() {
+        assertThat(ShopRanker.textRelevance("맘스터치", "맘스터치", 0)).isEqualTo(1.0);
+        assertThat(ShopRanker.textRelevance("맘스터치 구월점", "맘스터치", 0)).isEqualTo(0.8);
+        assertThat(ShopRanker.textRelevance("인천 맘스터치", "맘스터치", 0)).isEqualTo(0.6);
+        assertThat(ShopRanker.textRelevance("인천맘스터치", "맘스터치", 0)).isEqualTo(0.4);
+        assertThat(ShopRanker.textRelevance("맘스터치 구월점", "맘스터지", 1)).isEqualTo(0.2);
+    }
+
+    private List<Long> top(List<ShopDistance> candidates, ShopRankingProperties.Weights weights) {
+        return shopRanker.top(candidates, ShopDistance::getShopId, candidate -> 0,
+                candidate -> 1 - candidate.getDistanceKm() / 0.5, weights)
+                .stream()
+                .map(ShopDistance::getShopId)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,166 @@
+package com.minionz.backend.shop.service;
+
+import com.minionz.backend.common.domain.Address;
+import com.minionz.backend.shop.domain.OccupancyChangedEvent;
+import com.minionz.backend.shop.domain.OccupancySnapshot;
+import com.minionz.backend.shop.domain.SearchMode;
+import com.minionz.backend.shop.domain.Shop;
+import com.minionz.backend.shop.domain.ShopChangedEvent;
+import com.minionz.backend.shop.domain.ShopRepository;
+import com.minionz.backend.shop.domain.ShopSearchEntry;
+import com.minionz.backend.user.domain.Owner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+public class ShopSearchCacheTest {
+
+    private static final ShopSearchKey SEARCH_KEY = ShopSearchKey.search("맘스터치", SearchMode.NAME);
+    private static final ShopSearchKey REGION_KEY = ShopSearchKey.region("맘스터치", "인천시 남동구", SearchMode.NAME);
+    private static final ShopSearchKey NEAR_KEY = ShopSearchKey.near(37.5, 127.0, 0.5);
+
+    private ShopSearchCache shopSearchCache;
+    private AtomicInteger loadCount;
+
+    @BeforeEach
+    void setUp() {
+        shopSearchCache = new ShopSearchCache(new ShopNameIndex(mock(ShopRepository.class)), 1000);
+        loadCount = new AtomicInteger();
+    }
+
+    @DisplayName("같은 조건은 한 번만 계산 테스트")
+    @Test
+    void getTest() {
+        // when
+        load(SEARCH_KEY, 1L, 2L);
+        load(SEARCH_KEY, 1L, 2L);
+        // then
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(shopSearchCache.stats().hitCount()).isEqualTo(1);
+        assertThat(shopSearchCache.stats().missCount()).isEqualTo(1);
+    }
+
+    @DisplayName("결과에 들어 있던 매장이 수정/삭제되면 그 결과만 무효화 테스트")
+    @Test
+    void invalidateContainedShopTest() {
+        // given
+        load(SEARCH_KEY, 1L, 2L);
+        load(REGION_KEY, 1L);
+        // when
+        shopSearchCache.onShopChanged(ShopChangedEvent.deleted(shop(2L, "맘스터치 송도점", "인천시 연수구", 37.4, 126.6)));
+        load(SEARCH_KEY, 1L);
+        load(REGION_KEY, 1L);
+        // then
+        assertThat(loadCount.get()).isEqualTo(3);
+    }
+
+    @DisplayName("새로 걸리는 매장이 저장되면 무효화 테스트")
+    @Test
+    void invalidateMatchingShopTest() {
+        // given
+        load(SEARCH_KEY, 1L);
+        load(REGION_KEY, 1L);
+        load(NEAR_KEY, 1L);
+        // when
+        shopSearchCache.onShopChanged(ShopChangedEvent.saved(shop(3L, "맘스터치 송도점", "인천시 연수구", 37.4, 126.6)));
+        // then
+        assertThat(isCached(SEARCH_KEY)).isFalse();
+        assertThat(isCached(REGION_KEY)).isTrue();
+        assertThat(isCached(NEAR_KEY)).isTrue();
+
+        // when
+        shopSearchCache.onShopChanged(ShopChangedEvent.saved(shop(4L, "스타벅스", "서울시 중구", 37.501, 127.001)));
+        // then
+        assertThat(isCached(REGION_KEY)).isTrue();
+        assertThat(isCached(NEAR_KEY)).isFalse();
+    }
+
+    @DisplayName("혼잡도 단계가 바뀔 때만 무효화 테스트")
+    @Test
+    void invalidateCongestionChangedTest() {
+        // given
+        load(SEARCH_KEY, 1L);
+        // when
+        shopSearchCache.onOccupancyChanged(new OccupancyChangedEvent(1L, 10L, 0, 2, new OccupancySnapshot(1L, 10, 4, 8, 40)));
+        // then
+        assertThat(isCached(SEARCH_KEY)).isTrue();
+
+        // when
+        shopSearchCache.onOccupancyChanged(new OccupancyChangedEvent(1L, 10L, 0, 2, new OccupancySnapshot(1L, 10, 3, 6, 40)));
+        // then
+        assertThat(isCached(SEARCH_KEY)).isFalse();
+    }
+
+    @DisplayName("계산 중 관련 없는 매장 변경은 결과를 버리지 않음 테스트")
+    @Test
+    void changeDuringLoadTest() {
+        // when
+        shopSearchCache.get(SEARCH_KEY, () -> {
+            shopSearchCache.onShopChanged(ShopChangedEvent.deleted(shop(9L, "버거킹 부평점", "인천시 부평구", 37.4, 126.6)));
+            return new ShopSearchCache.Result(Collections.emptyList(), Arrays.asList(1L, 2L));
+        });
+        shopSearchCache.get(REGION_KEY, () -> {
+            shopSearchCache.onShopChanged(ShopChangedEvent.deleted(shop(1L, "맘스터치 구월점", "인천시 남동구", 37.4, 126.6)));
+            return new ShopSearchCache.Result(Collections.emptyList(), Collections.singletonList(1L));
+        });
+        shopSearchCache.get(NEAR_KEY, () -> {
+            shopSearchCache.onShopChanged(ShopChangedEvent.saved(shop(5L, "스타벅스", "서울시 중구", 37.501, 127.001)));
+            return new ShopSearchCache.Result(Collections.emptyList(), Collections.singletonList(1L));
+        });
+        // then
+        assertThat(isCached(SEARCH_KEY)).isTrue();
+        assertThat(isCached(REGION_KEY)).isFalse();
+        assertThat(isCached(NEAR_KEY)).isFalse();
+    }
+
+    @DisplayName("같은 셀 안 좌표는 근처 매장 키를 함께 쓰고 반경은 셀 크기만큼 늘어나는지 테스트")
+    @Test
+    void nearKeyTest() {
+        // when
+        ShopSearchKey nearKey = ShopSearchKey.near(37.50001, 127.00001, 0.5);
+        // then
+        assertThat(nearKey).isEqualTo(NEAR_KEY);
+        assertThat(nearKey.getRadiusKm()).isBetween(0.5, 0.65);
+        assertThat(ShopSearchKey.near(37.51, 127.0, 0.5)).isNotEqualTo(NEAR_KEY);
+    }
+
+    private void load(ShopSearchKey key, Long... shopIds) {
+        shopSearchCache.get(key, () -> {
+            loadCount.incrementAndGet();
+            return new ShopSearchCache.Result(Collections.emptyList(), Arrays.asList(shopIds));
+        });
+    }
+
+    private boolean isCached(ShopSearchKey key) {
+        AtomicInteger count = new AtomicInteger();
+        shopSearchCache.get(key, () -> {
+            count.incrementAndGet();
+            return new ShopSearchCache.Result(Collections.<ShopSearchEntry>emptyList(), Collections.emptyList());
+        });
+        return count.get() == 0;
+    }
+
+    private Shop shop(Long id, String name, String city, double latitude, double longitude) {
+        Owner owner = Owner.builder()
+                .name("주인")
+                .build();
+        Address address = Address.builder()
+                .city(city)
+                .latitude(latitude)
+                .longitude(longitude)
+                .build();
+        return Shop.builder()
+                .id(id)
+                .name(name)
+                .owner(owner)
+                .address(address)
+                .build();
+    }
+}
@@ -1,13 +1,20 @@
 package com.minionz.backend.shop.service;
 
+import com.minionz.backend.StatementCounter;
 import com.minionz.backend.common.domain.Address;
+import com.minionz.backend.common.exception.BadRequestException;
 import com.minionz.backend.common.exception.NotFoundException;
 import com.minionz.backend.shop.controller.dto.ShopDetailResponseDto;
 import com.minionz.backend.shop.controller.dto.CommonShopResponseDto;
+import com.minionz.backend.shop.controller.dto.EncodedShopDetailResponseDto;
+import com.minionz.backend.shop.controller.dto.ShopPageResponseDto;
 import com.minionz.backend.shop.controller.dto.ShopRequestDto;
 import com.minionz.backend.shop.controller.dto.ShopSaveResponseDto;
 import com.minionz.backend.shop.controller.dto.ShopTableRequestDto;
+import com.minionz.backend.shop.controller.dto.ShopTableChangesResponseDto;
 import com.minionz.backend.shop.controller.dto.ShopTableResponseDto;
+import com.minionz.backend.shop.domain.SearchMode;
+import com.minionz.backend.shop.domain.ShopFields;
 import com.minionz.backend.shop.domain.Shop;
 import com.minionz.backend.shop.domain.ShopRepository;
 import com.minionz.backend.shop.domain.ShopTableRepository;
@@ -16,6 +23,7 @@ import com.minionz.backend.user.domain.OwnerRepository;
 import com.minionz.backend.user.domain.User;
 import com.minionz.backend.user.domain.UserRepository;
 import com.minionz.backend.visit.controller.dto.CheckInRequestDto;
+import com.minionz.backend.visit.domain.VisitRepository;
 import com.minionz.backend.visit.service.VisitService;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
@@ -25,7 +33,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import javax.persistence.EntityManagerFactory;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -35,6 +45,15 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 @SpringBootTest
 public class ShopServiceTest {
 
+    private static final long LIST_STATEMENT_BUDGET = 1;
+    private static final long SEARCH_STATEMENT_BUDGET = 0;
+    private static final long NEAR_STATEMENT_BUDGET = 1;
+    private static final long NEAREST_STATEMENT_BUDGET = 1;
+    private static final long TABLES_STATEMENT_BUDGET = 1;
+    private static final long CARDS_STATEMENT_BUDGET = 1;
+    private static final long SPARSE_DETAIL_STATEMENT_BUDGET = 1;
+    private static final long ENCODED_DETAIL_STATEMENT_BUDGET = 2;
+
     @Autowired
     private ShopRepository shopRepository;
 
@@ -53,8 +72,15 @@ public class ShopServiceTest {
     @Autowired
     private VisitService visitService;
 
+    @Autowired
+    private VisitRepository visitRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @AfterEach
     void cleanUp() {
+        visitRepository.deleteAll();
         shopRepository.deleteAll();
         ownerRepository.deleteAll();
         shopTableRepository.deleteAll();
@@ -85,6 +111,40 @@ public class ShopServiceTest {
         assertThat(shopSaveResponseDto.getId()).isEqualTo(shop.getId());
     }
 
+    @DisplayName("매장 목록 커서 페이지 조회 테스트")
+    @Test
+    void viewAllPageTest() {
+        // given
+        Address address = Address.builder().zipcode("111-222").street("구월동").city("인천시 남동구").build();
+        Owner owner = Owner.builder()
+                .name("주인")
+                .email("jhnj841@naba.com")
+                .password("123")
+                .telNumber("123123")
+                .build();
+        Owner savedOwner = ownerRepository.save(owner);
+        for (int i = 1; i <= 3; i++) {
+            List<ShopTableRequestDto> list = new ArrayList<>();
+            list.add(new ShopTableRequestDto(2));
+            shopService.save(new ShopRequestDto("매장" + i, address, "032-888-888" + i, list, savedOwner.getId()));
+        }
+        // when
+        List<String> names = new ArrayList<>();
+        String cursor = null;
+        do {
+            ShopPageResponseDto shopPage = shopService.viewAll(cursor, 2, ShopFields.ALL);
+            assertThat(shopPage.getShops().size()).isLessThanOrEqualTo(2);
+            shopPage.getShops().forEach(shop -> names.add(shop.getName()));
+            cursor = shopPage.getNextCursor();
+        } while (cursor != null);
+        // then
+        assertThat(names).containsSubsequence("매장1", "매장2", "매장3");
+        assertThatThrownBy(() -> shopService.viewAll("잘못된커서", 2, ShopFields.ALL))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> shopService.viewAll(null, 101, ShopFields.ALL))
+                .isInstanceOf(BadRequestException.class);
+    }
+
     @DisplayName("Shop 상세보기 매장(공통) 테스트")
     @Test
     public void viewShopDetailTest() {
@@ -174,6 +234,28 @@ public class ShopServiceTest {
                 .hasMessage("등록된 매장이 존재하지 않습니다.");
     }
 
+    @DisplayName("매장 오타 허용 검색 성공")
+    @Test
+    void 매장오타검색_성공() {
+        //given
+        List<ShopTableRequestDto> list = new ArrayList<>();
+        list.add(new ShopTableRequestDto(2));
+        Address address = Address.builder().zipcode("111-222").street("구월동").city("인천시 남동구").build();
+        Owner owner = Owner.builder()
+                .name("주인")
+                .email("fuzzy@naba.com")
+                .password("123")
+                .telNumber("123123")
+                .build();
+        Owner savedOwner = ownerRepository.save(owner);
+        ShopRequestDto shopRequestDto = new ShopRequestDto("맘스터치", address, "032-888-8888", list, savedOwner.getId());
+        shopService.save(shopRequestDto);
+        // when
+        List<CommonShopResponseDto> commonShopResponseDtos = shopService.searchShop("맘스터지", SearchMode.FUZZY, ShopFields.ALL);
+        // then
+        assertThat(commonShopResponseDtos).extracting(CommonShopResponseDto::getName).contains("맘스터치");
+    }
+
     @DisplayName("매장 지역 + 키워드 검색 성공")
     @Test
     void 매장지역_키워드_검색_성공() {
@@ -309,4 +391,208 @@ public class ShopServiceTest {
                 .isInstanceOf(NotFoundException.class)
                 .hasMessage("등록된 매장이 존재하지 않습니다.");
     }
+
+    @DisplayName("매장 수와 무관한 목록 / 검색 / 근처 / 가까운 순 / 테이블 조회 쿼리 수 테스트")
+    @Test
+    void statementCountTest() {
+        // given
+        Owner owner = Owner.builder()
+                .name("주인")
+                .email("jhnj841@naba.com")
+                .password("123")
+                .telNumber("123123")
+                .build();
+        Owner savedOwner = ownerRepository.save(owner);
+        Long shopId = saveNearShops(savedOwner, 1, 2);
+        StatementCounter statementCounter = new StatementCounter(entityManagerFactory);
+        long listCount = statementCounter.assertWithin(LIST_STATEMENT_BUDGET, () -> shopService.viewAll(null, 20, ShopFields.ALL));
+        long searchCount = statementCounter.assertWithin(SEARCH_STATEMENT_BUDGET, () -> shopService.searchShop("맘스터치"));
+        long nearCount = statementCounter.assertWithin(NEAR_STATEMENT_BUDGET, () -> shopService.nearShop(37.515, 126.940));
+        long nearestCount = statementCounter.assertWithin(NEAREST_STATEMENT_BUDGET, () -> shopService.nearestShops(37.515, 126.940, 20, 1.0));
+        long tablesCount = statementCounter.assertWithin(TABLES_STATEMENT_BUDGET, () -> shopService.viewTables(shopId));
+        // when
+        saveNearShops(savedOwner, 3, 10);
+        // then
+        assertThat(statementCounter.count(() -> shopService.viewAll(null, 20, ShopFields.ALL))).isEqualTo(listCount);
+        assertThat(statementCounter.count(() -> shopService.searchShop("맘스터치"))).isEqualTo(searchCount);
+        assertThat(statementCounter.count(() -> shopService.nearShop(37.515, 126.940))).isEqualTo(nearCount);
+        assertThat(statementCounter.count(() -> shopService.nearestShops(37.515, 126.940, 20, 1.0))).isEqualTo(nearestCount);
+        assertThat(statementCounter.count(() -> shopService.viewTables(shopId))).isEqualTo(tablesCount);
+    }
+
+    @DisplayName("요청한 필드만 조회하는 매장 상세보기 테스트")
+    @Test
+    void viewDetailFieldsTest() {
+        // given
+        Owner owner = Owner.builder()
+                .name("주인")
+                .email("jhnj841@naba.com")
+                .password("123")
+                .telNumber("123123")
+                .build();
+        Owner savedOwner = ownerRepository.save(owner);
+        Long shopId = saveNearShops(savedOwner, 1, 1);
+        ShopFields fields = ShopFields.of("name,congestionStatus", ShopDetailResponseDto.FIELDS);
+        StatementCounter statementCounter = new StatementCounter(entityManagerFactory);
+        List<ShopDetailResponseDto> details = new ArrayList<>();
+        // when
+        statementCounter.assertWithin(SPARSE_DETAIL_STATEMENT_BUDGET, () -> details.add(shopService.viewDetail(-1L, shopId, fields)));
+        long collectionLoads = statementCounter.countCollectionLoads(() -> shopService.viewDetail(-1L, shopId, fields));
+        // then
+        ShopDetailResponseDto shopDetailResponseDto = details.get(0);
+        assertThat(collectionLoads).isZero();
+        assertThat(shopDetailResponseDto.getName()).isEqualTo("맘스터치 1호점");
+        assertThat(shopDetailResponseDto.getCongestionStatus()).isNotNull();
+        assertThat(shopDetailResponseDto.getTableInfoList()).isNull();
+        assertThat(shopDetailResponseDto.getMaxUser()).isNull();
+        assertThat(shopDetailResponseDto.getBookMark()).isNull();
+        assertThatThrownBy(() -> shopService.viewDetail(-1L, shopId, ShopFields.ALL))
+                .isInstanceOf(NotFoundException.class);
+    }
+
+    @DisplayName("매장 상세보기 정적인 부분 재사용 / 매장 수정 시 다시 만드는지 테스트")
+    @Test
+    void viewDetailFragmentTest() {
+        // given
+        Owner owner = Owner.builder()
+                .name("주인")
+                .email("jhnj841@naba.com")
+                .password("123")
+                .telNumber("123123")
+                .build();
+        Owner savedOwner = ownerRepository.save(owner);
+        Long shopId = saveNearShops(savedOwner, 1, 1);
+        User user = User.builder()
+                .name("정재욱")
+                .password("12345")
+                .telNumber("010-9969-9777")
+                .address(Address.builder().zipcode("111-222").street("구월동").city("인천시 남동구").build())
+                .email("fragment@naver.com")
+                .nickName("조각")
+                .build();
+        userRepository.save(user);
+        List<ShopTableRequestDto> tableList = new ArrayList<>();
+        tableList.add(new ShopTableRequestDto(2));
+        tableList.add(new ShopTableRequestDto(4));
+        Address address = Address.builder().zipcode("111-222").street("송도동").city("인천시 연수구").build();
+        StatementCounter statementCounter = new StatementCounter(entityManagerFactory);
+        List<ShopDetailResponseDto> details = new ArrayList<>();
+        // when
+        details.add(shopService.viewDetail(user.getId(), shopId));
+        statementCounter.assertWithin(ENCODED_DETAIL_STATEMENT_BUDGET, () -> details.add(shopService.viewDetail(user.getId(), shopId)));
+        shopService.update(shopId, new ShopRequestDto("버거킹 1호점", address, "032-888-9999", tableList, savedOwner.getId()));
+        details.add(shopService.viewDetail(user.getId(), shopId));
+        // then
+        EncodedShopDetailResponseDto first = (EncodedShopDetailResponseDto) details.get(0);
+        EncodedShopDetailResponseDto cached = (EncodedShopDetailResponseDto) details.get(1);
+        EncodedShopDetailResponseDto updated = (EncodedShopDetailResponseDto) details.get(2);
+        assertThat(cached.getFragment()).isSameAs(first.getFragment());
+        assertThat(cached.getName()).isEqualTo("맘스터치 1호점");
+        assertThat(cached.getBookMark()).isFalse();
+        assertThat(updated.getFragment()).isNotSameAs(first.getFragment());
+        assertThat(updated.getName()).isEqualTo("버거킹 1호점");
+        assertThat(updated.getTelNumber()).isEqualTo("032-888-9999");
+        assertThat(updated.getAddress().getCity()).isEqualTo("인천시 연수구");
+        assertThat(updated.getMaxUser()).isEqualTo(6);
+    }
+
+    @DisplayName("매장 카드 여러 개 한 번에 조회 테스트")
+    @Test
+    void viewCardsTest() {
+        // given
+        Owner owner = Owner.builder()
+                .name("주인")
+                .email("jhnj841@naba.com")
+                .password("123")
+                .telNumber("123123")
+                .build();
+        Owner savedOwner = ownerRepository.save(owner);
+        Long firstShopId = saveNearShops(savedOwner, 1, 1);
+        Long secondShopId = saveNearShops(savedOwner, 2, 2);
+        Long thirdShopId = saveNearShops(savedOwner, 3, 3);
+        List<Long> shopIds = Arrays.asList(thirdShopId, firstShopId, thirdShopId, -1L, secondShopId);
+        StatementCounter statementCounter = new StatementCounter(entityManagerFactory);
+        // when
+        List<CommonShopResponseDto> cards = new ArrayList<>();
+        statementCounter.assertWithin(CARDS_STATEMENT_BUDGET, () -> cards.addAll(shopService.viewCards(shopIds)));
+        // then
+        assertThat(cards).extracting(CommonShopResponseDto::getId)
+                .containsExactly(thirdShopId, firstShopId, secondShopId);
+        assertThat(cards.get(0).getName()).isEqualTo("맘스터치 3호점");
+        assertThat(cards.get(0).getNumberOfTables()).isEqualTo(2);
+        assertThatThrownBy(() -> shopService.viewCards(new ArrayList<>()))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @DisplayName("기동 후 바뀐 적 없는 매장의 테이블 변경분 조회 테스트")
+    @Test
+    void viewTableChangesTest() {
+        // given
+        Owner owner = Owner.builder()
+                .name("주인")
+                .email("jhnj841@naba.com")
+                .password("123")
+                .telNumber("123123")
+                .build();
+        Owner savedOwner = ownerRepository.save(owner);
+        Address address = Address.builder().zipcode("111-222").street("구월동").city("인천시 남동구").build();
+        Shop shop = shopRepository.save(Shop.builder()
+                .name("맘스터치")
+                .telNumber("032-777-7777")
+                .address(address)
+                .owner(savedOwner)
+                .tableList(new ArrayList<>())
+                .build());
+        long startedAt = shopService.versionOf(-1L).getVersion();
+        // when
+        ShopTableChangesResponseDto changes = shopService.viewTableChanges(shop.getId(), shopService.versionOf(shop.getId()).getVersion());
+        // then
+        assertThat(changes.isFullResync()).isFalse();
+        assertThat(changes.getTables()).isEmpty();
+        assertThatThrownBy(() -> shopService.viewTableChanges(-1L, startedAt))
+                .isInstanceOf(NotFoundException.class);
+    }
+
+    @DisplayName("이벤트 없이 적재한 지역 검색 인덱스 다시 적재 테스트")
+    @Test
+    void rebuildSearchIndexTest() {
+        // given
+        Owner owner = Owner.builder()
+                .name("주인")
+                .email("jhnj841@naba.com")
+                .password("123")
+                .telNumber("123123")
+                .build();
+        Owner savedOwner = ownerRepository.save(owner);
+        Address address = Address.builder().zipcode("111-222").street("구월동").city("인천시 남동구").build();
+        Shop shop = shopRepository.save(Shop.builder()
+                .name("대량적재 매장")
+                .telNumber("032-777-7777")
+                .address(address)
+                .owner(savedOwner)
+                .tableList(new ArrayList<>())
+                .build());
+        assertThatThrownBy(() -> shopService.searchShop("대량적재"))
+                .isInstanceOf(NotFoundException.class);
+        // when
+        shopService.rebuildSearchIndex(Arrays.asList("인천시 남동구", null));
+        // then
+        assertThat(shopService.searchShop("대량적재")).extracting(CommonShopResponseDto::getId)
+                .containsExactly(shop.getId());
+        assertThatThrownBy(() -> shopService.rebuildSearchIndex(new ArrayList<>()))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    private Long saveNearShops(Owner owner, int from, int to) {
+        Long shopId = null;
+        for (int i = from; i <= to; i++) {
+            List<ShopTableRequestDto> list = new ArrayList<>();
+            list.add(new ShopTableRequestDto(2));
+            list.add(new ShopTableRequestDto(4));
+            Address address = Address.builder().zipcode("111-222").street("구월동").city("인천시 남동구")
+                    .latitude(37.518378 + i * 0.0001).longitude(126.940114).build();
+            shopId = shopService.save(new ShopRequestDto("맘스터치 " + i + "호점", address, "032-888-" + (8000 + i), list, owner.getId())).getId();
+        }
+        return shopId;
+    }
 }
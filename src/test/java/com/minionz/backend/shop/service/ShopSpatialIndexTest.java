@@ -0,0 +1,138 @@
+package com.minionz.backend.shop.service;
+
+import com.minionz.backend.common.domain.Address;
+import com.minionz.backend.common.domain.GeoArea;
+import com.minionz.backend.shop.domain.Shop;
+import com.minionz.backend.shop.domain.ShopChangedEvent;
+import com.minionz.backend.shop.domain.ShopDistance;
+import com.minionz.backend.shop.domain.ShopLocation;
+import com.minionz.backend.shop.domain.ShopRepository;
+import com.minionz.backend.user.domain.Owner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class ShopSpatialIndexTest {
+
+    private final List<ShopLocation> locations = new ArrayList<>();
+    private ShopSpatialIndex shopSpatialIndex;
+
+    @BeforeEach
+    void setUp() {
+        Random random = new Random(7);
+        for (long shopId = 1; shopId <= 10000; shopId++) {
+            locations.add(new ShopLocation(shopId, 37.4 + random.nextDouble() * 0.2, 126.9 + random.nextDouble() * 0.2));
+        }
+        ShopRepository shopRepository = mock(ShopRepository.class);
+        given(shopRepository.findAllLocations()).willReturn(locations);
+        shopSpatialIndex = new ShopSpatialIndex(shopRepository);
+        shopSpatialIndex.rebuild();
+    }
+
+    @DisplayName("반경 조회 결과가 전체 비교 결과와 같은지 테스트")
+    @Test
+    void findWithinTest() {
+        // given
+        double latitude = 37.5;
+        double longitude = 127.0;
+        List<Long> expected = new ArrayList<>();
+        for (ShopLocation location : locations) {
+            if (GeoArea.distanceKm(latitude, longitude, location.getLatitude(), location.getLongitude()) < 0.5) {
+                expected.add(location.getShopId());
+            }
+        }
+        // when
+        List<Long> shopIds = shopSpatialIndex.findWithin(latitude, longitude, 0.5);
+        // then
+        assertThat(expected).isNotEmpty();
+        assertThat(shopIds).containsExactlyInAnyOrderElementsOf(expected);
+    }
+
+    @DisplayName("가까운 매장 k개 거리순 조회 테스트")
+    @Test
+    void findNearestTest() {
+        // given
+        double latitude = 37.5;
+        double longitude = 127.0;
+        List<Double> expected = new ArrayList<>();
+        for (ShopLocation location : locations) {
+            expected.add(GeoArea.distanceKm(latitude, longitude, location.getLatitude(), location.getLongitude()));
+        }
+        expected.sort(null);
+        shopSpatialIndex.onShopChanged(ShopChangedEvent.saved(shop(20000L, 37.5, 127.0)));
+        // when
+        List<ShopDistance> shopDistances = shopSpatialIndex.findNearest(latitude, longitude, 5, 1);
+        // then
+        assertThat(shopDistances).hasSize(5);
+        assertThat(shopDistances.get(0).getShopId()).isEqualTo(20000L);
+        assertThat(shopDistances.get(0).getDistanceKm()).isZero();
+        assertThat(shopDistances.subList(1, 5))
+                .extracting(ShopDistance::getDistanceKm)
+                .containsExactlyElementsOf(expected.subList(0, 4));
+    }
+
+    @DisplayName("인덱스 적재 전에는 요청 스레드에서 적재하지 않고 빈 목록 반환 테스트")
+    @Test
+    void findNearestBeforeRebuildTest() {
+        // given
+        ShopRepository shopRepository = mock(ShopRepository.class);
+        ShopSpatialIndex notReadyIndex = new ShopSpatialIndex(shopRepository);
+        // when
+        List<ShopDistance> shopDistances = notReadyIndex.findNearest(37.5, 127.0, 5, 1);
+        // then
+        assertThat(shopDistances).isEmpty();
+        verify(shopRepository, never()).findAllLocations();
+    }
+
+    @DisplayName("반경 안에 매장이 없으면 빈 목록 반환 테스트")
+    @Test
+    void findNearestEmptyTest() {
+        // when
+        List<ShopDistance> shopDistances = shopSpatialIndex.findNearest(35.0, 129.0, 5, 1);
+        // then
+        assertThat(shopDistances).isEmpty();
+    }
+
+    @DisplayName("매장 등록/이동/삭제 반영 테스트")
+    @Test
+    void onShopChangedTest() {
+        // given
+        Shop savedShop = shop(20000L, 37.5, 127.0);
+        Shop movedShop = shop(1L, 35.0, 129.0);
+        // when
+        shopSpatialIndex.onShopChanged(ShopChangedEvent.saved(savedShop));
+        shopSpatialIndex.onShopChanged(ShopChangedEvent.updated(movedShop));
+        shopSpatialIndex.onShopChanged(ShopChangedEvent.deleted(shop(2L, 0, 0)));
+        List<Long> nearSeoul = shopSpatialIndex.findInBox(37.4, 37.6, 126.9, 127.1);
+        List<Long> nearBusan = shopSpatialIndex.findWithin(35.0, 129.0, 0.1);
+        // then
+        assertThat(nearSeoul).contains(20000L).doesNotContain(1L, 2L).hasSize(9999);
+        assertThat(nearBusan).containsExactly(1L);
+    }
+
+    private Shop shop(Long id, double latitude, double longitude) {
+        Owner owner = Owner.builder()
+                .name("주인")
+                .build();
+        Address address = Address.builder()
+                .latitude(latitude)
+                .longitude(longitude)
+                .build();
+        return Shop.builder()
+                .id(id)
+                .name("매장")
+                .owner(owner)
+                .address(address)
+                .build();
+    }
+}
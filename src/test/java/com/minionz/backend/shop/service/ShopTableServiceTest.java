@@ -11,6 +11,7 @@ import com.minionz.backend.user.domain.OwnerRepository;
 import com.minionz.backend.user.domain.User;
 import com.minionz.backend.user.domain.UserRepository;
 import com.minionz.backend.visit.controller.dto.CheckInRequestDto;
+import com.minionz.backend.visit.domain.VisitRepository;
 import com.minionz.backend.visit.service.VisitService;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -51,6 +52,9 @@ public class ShopTableServiceTest {
     @Autowired
     private VisitService visitService;
 
+    @Autowired
+    private VisitRepository visitRepository;
+
     @BeforeEach
     void setUp() {
         Address address = new Address("123-456", "송도동", "인천시 연수구", 1.0, 2.0);
@@ -92,6 +96,7 @@ public class ShopTableServiceTest {
 
     @AfterEach
     void cleanUp() {
+        visitRepository.deleteAll();
         shopTableRepository.deleteAll();
         shopRepository.deleteAll();
         userRepository.deleteAll();
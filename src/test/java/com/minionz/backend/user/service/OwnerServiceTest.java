@@ -1,10 +1,13 @@
 package com.minionz.backend.user.service;
 
+import com.minionz.backend.StatementCounter;
 import com.minionz.backend.common.domain.Address;
 import com.minionz.backend.common.domain.Message;
 import com.minionz.backend.common.exception.NotFoundException;
 import com.minionz.backend.shop.controller.dto.ShopRequestDto;
 import com.minionz.backend.shop.controller.dto.ShopTableRequestDto;
+import com.minionz.backend.shop.domain.ShopTableRepository;
+import com.minionz.backend.shop.service.ShopOccupancyRegistry;
 import com.minionz.backend.shop.service.ShopService;
 import com.minionz.backend.user.controller.dto.JoinRequestDto;
 import com.minionz.backend.user.controller.dto.LoginRequestDto;
@@ -20,6 +23,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.context.web.WebAppConfiguration;
 
+import javax.persistence.EntityManagerFactory;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -31,6 +35,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 @SpringBootTest
 class OwnerServiceTest {
 
+    private static final long OWNER_SHOP_STATEMENT_BUDGET = 2;
+
     @Autowired
     private OwnerRepository ownerRepository;
 
@@ -40,6 +46,15 @@ class OwnerServiceTest {
     @Autowired
     private ShopService shopService;
 
+    @Autowired
+    private ShopTableRepository shopTableRepository;
+
+    @Autowired
+    private ShopOccupancyRegistry shopOccupancyRegistry;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @AfterEach
     void cleanUp() {
         ownerRepository.deleteAll();
@@ -80,6 +95,30 @@ class OwnerServiceTest {
         assertThat(message.getMessage()).isEqualTo("회원탈퇴 성공");
     }
 
+    @Test
+    void 회원탈퇴_매장_점유상태_삭제_테스트_오너() {
+        //given
+        Owner owner = Owner.builder()
+                .name("주인")
+                .email("jhnj841@naba.com")
+                .password("123")
+                .telNumber("123123")
+                .build();
+        Owner savedOwner = ownerRepository.save(owner);
+        List<Long> tableIds = new ArrayList<>();
+        shopTableRepository.findAll().forEach(shopTable -> tableIds.add(shopTable.getId()));
+        saveShops(savedOwner, 1, 2);
+        List<Long> ownerTableIds = new ArrayList<>();
+        shopTableRepository.findAll().forEach(shopTable -> ownerTableIds.add(shopTable.getId()));
+        ownerTableIds.removeAll(tableIds);
+        assertThat(ownerTableIds).hasSize(4);
+        assertThat(ownerTableIds).allSatisfy(tableId -> assertThat(shopOccupancyRegistry.countUserOf(tableId, -1)).isZero());
+        //when
+        ownerService.withdraw(savedOwner.getId());
+        //then
+        assertThat(ownerTableIds).allSatisfy(tableId -> assertThat(shopOccupancyRegistry.countUserOf(tableId, -1)).isEqualTo(-1));
+    }
+
     @Test
     void 오너샵조회_성공() {
         //given
@@ -137,4 +176,33 @@ class OwnerServiceTest {
         assertThatThrownBy(() -> ownerService.viewMyShop(2L))
                 .isInstanceOf(NotFoundException.class);
     }
-}
\ No newline at end of file
+
+    @Test
+    void 오너샵조회_쿼리수_테스트() {
+        //given
+        Owner owner = Owner.builder()
+                .name("주인")
+                .email("jhnj841@naba.com")
+                .password("123")
+                .telNumber("123123")
+                .build();
+        Owner savedOwner = ownerRepository.save(owner);
+        StatementCounter statementCounter = new StatementCounter(entityManagerFactory);
+        saveShops(savedOwner, 1, 1);
+        long statementCount = statementCounter.assertWithin(OWNER_SHOP_STATEMENT_BUDGET, () -> ownerService.viewMyShop(savedOwner.getId()));
+        //when
+        saveShops(savedOwner, 2, 5);
+        //then
+        assertThat(statementCounter.count(() -> ownerService.viewMyShop(savedOwner.getId()))).isEqualTo(statementCount);
+    }
+
+    private void saveShops(Owner owner, int from, int to) {
+        Address address = new Address("믿음", "소망", "씨티", 1.0, 2.0);
+        for (int i = from; i <= to; i++) {
+            List<ShopTableRequestDto> shopTables = new ArrayList<>();
+            shopTables.add(new ShopTableRequestDto(2));
+            shopTables.add(new ShopTableRequestDto(4));
+            shopService.save(new ShopRequestDto("맘스터치" + i, address, "010-111-3333" + i, shopTables, owner.getId()));
+        }
+    }
+}
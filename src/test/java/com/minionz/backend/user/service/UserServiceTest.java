@@ -1,5 +1,6 @@
 package com.minionz.backend.user.service;
 
+import com.minionz.backend.StatementCounter;
 import com.minionz.backend.common.domain.Address;
 import com.minionz.backend.common.domain.Message;
 import com.minionz.backend.common.exception.BadRequestException;
@@ -27,6 +28,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.context.web.WebAppConfiguration;
 
+import javax.persistence.EntityManagerFactory;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -38,6 +40,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 @SpringBootTest
 public class UserServiceTest {
 
+    private static final long BOOKMARK_STATEMENT_BUDGET = 2;
+
     @Autowired
     private UserRepository userRepository;
 
@@ -65,6 +69,9 @@ public class UserServiceTest {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @AfterEach
     void cleanUp() {
         visitRepository.deleteAll();
@@ -539,4 +546,47 @@ public class UserServiceTest {
                 .isInstanceOf(NotFoundException.class)
                 .hasMessage("해당 유저가 존재하지 않습니다.");
     }
+
+    @DisplayName("즐겨찾기 수와 무관한 즐겨찾기 조회 쿼리 수 테스트")
+    @Test
+    public void 즐겨찾기_조회_쿼리수_테스트() {
+        //given
+        Address address = new Address("안산시", "상록구", "성포동", 1.0, 2.0);
+        User user = User.builder()
+                .email("jhnj741@naver.com")
+                .password("123456t")
+                .name("동현")
+                .nickName("DongLee99")
+                .telNumber("010-111-1111")
+                .address(address)
+                .build();
+        User savedUser = userRepository.save(user);
+        Owner owner = Owner.builder()
+                .name("주인")
+                .email("223@naver.com")
+                .password("123")
+                .telNumber("012030123")
+                .build();
+        Owner savedOwner = ownerRepository.save(owner);
+        StatementCounter statementCounter = new StatementCounter(entityManagerFactory);
+        addBookmarks(savedUser, savedOwner, 1, 1);
+        long statementCount = statementCounter.assertWithin(BOOKMARK_STATEMENT_BUDGET, () -> userService.viewMyBookmark(savedUser.getId()));
+        //when
+        addBookmarks(savedUser, savedOwner, 2, 5);
+        //then
+        assertThat(statementCounter.count(() -> userService.viewMyBookmark(savedUser.getId()))).isEqualTo(statementCount);
+        assertThat(userService.viewMyBookmark(savedUser.getId())).hasSize(5);
+    }
+
+    private void addBookmarks(User user, Owner owner, int from, int to) {
+        for (int i = from; i <= to; i++) {
+            List<ShopTableRequestDto> list = new ArrayList<>();
+            list.add(new ShopTableRequestDto(2));
+            list.add(new ShopTableRequestDto(4));
+            Address address = new Address("안산시", "상록구", "성포동", 1.0, 2.0);
+            ShopRequestDto shopRequestDto = new ShopRequestDto("맘스터치" + i, address, "032-888-888" + i, list, owner.getId());
+            ShopSaveResponseDto save = shopService.save(shopRequestDto);
+            userService.addBookmark(new BookmarkRequestDto(user.getId(), save.getId()));
+        }
+    }
 }
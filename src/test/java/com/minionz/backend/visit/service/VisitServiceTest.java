@@ -1,5 +1,6 @@
 package com.minionz.backend.visit.service;
 
+import com.minionz.backend.StatementCounter;
 import com.minionz.backend.common.domain.Address;
 import com.minionz.backend.common.domain.Message;
 import com.minionz.backend.common.exception.NotFoundException;
@@ -9,12 +10,16 @@ import com.minionz.backend.shop.domain.Shop;
 import com.minionz.backend.shop.domain.ShopRepository;
 import com.minionz.backend.shop.domain.ShopTable;
 import com.minionz.backend.shop.domain.ShopTableRepository;
+import com.minionz.backend.shop.service.ShopOccupancyFlusher;
 import com.minionz.backend.shop.service.ShopService;
 import com.minionz.backend.user.domain.Owner;
 import com.minionz.backend.user.domain.OwnerRepository;
 import com.minionz.backend.user.domain.User;
 import com.minionz.backend.user.domain.UserRepository;
+import com.minionz.backend.user.service.OwnerService;
+import com.minionz.backend.user.service.UserService;
 import com.minionz.backend.visit.controller.dto.CheckInRequestDto;
+import com.minionz.backend.visit.domain.VisitRepository;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -24,6 +29,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import javax.persistence.EntityManagerFactory;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -33,6 +39,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 @SpringBootTest
 public class VisitServiceTest {
 
+    private static final long CHECK_IN_STATEMENT_BUDGET = 2;
+
     @Autowired
     private UserRepository userRepository;
 
@@ -51,6 +59,21 @@ public class VisitServiceTest {
     @Autowired
     private VisitService visitService;
 
+    @Autowired
+    private VisitRepository visitRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private OwnerService ownerService;
+
+    @Autowired
+    private ShopOccupancyFlusher shopOccupancyFlusher;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @BeforeEach
     void setUp() {
         Address address = new Address("123-456", "송도동", "인천시 연수구", 1.0, 2.0);
@@ -92,6 +115,7 @@ public class VisitServiceTest {
 
     @AfterEach
     void cleanUp() {
+        visitRepository.deleteAll();
         shopRepository.deleteAll();
         userRepository.deleteAll();
         ownerRepository.deleteAll();
@@ -102,7 +126,7 @@ public class VisitServiceTest {
     public void checkInTest() {
         // given
         User user = userRepository.findAll().get(0);
-        ShopTable shopTable = shopRepository.findAll().get(0).getTableList().get(0);
+        ShopTable shopTable = shopTableRepository.findAll().get(0);
         CheckInRequestDto checkInRequestDto = new CheckInRequestDto(user.getId(), shopTable.getId());
         // when
         Message message = visitService.checkIn(checkInRequestDto);
@@ -110,6 +134,42 @@ public class VisitServiceTest {
         assertThat(message.getMessage()).isEqualTo("방문 기록 성공");
     }
 
+    @DisplayName("방문 기록이 있는 회원 / 사장님 탈퇴 테스트")
+    @Test
+    public void withdrawWithVisitsTest() {
+        // given
+        Long userId1 = userRepository.findAll().get(0).getId();
+        Long userId2 = userRepository.findAll().get(1).getId();
+        Long tableId = shopTableRepository.findAll().get(0).getId();
+        Long ownerId = ownerRepository.findAll().get(0).getId();
+        visitService.checkIn(new CheckInRequestDto(userId1, tableId));
+        visitService.checkIn(new CheckInRequestDto(userId2, tableId));
+        // when
+        userService.withdraw(userId1);
+        long remainingVisitCount = visitRepository.count();
+        ownerService.withdraw(ownerId);
+        // then
+        assertThat(remainingVisitCount).isEqualTo(1);
+        assertThat(visitRepository.count()).isZero();
+        assertThat(ownerRepository.findById(ownerId)).isEmpty();
+    }
+
+    @DisplayName("방문 기록이 있는 매장 삭제 테스트")
+    @Test
+    public void deleteShopWithVisitsTest() {
+        // given
+        Long userId = userRepository.findAll().get(0).getId();
+        Long tableId = shopTableRepository.findAll().get(0).getId();
+        Long shopId = shopRepository.findAll().get(0).getId();
+        visitService.checkIn(new CheckInRequestDto(userId, tableId));
+        // when
+        shopService.delete(shopId);
+        // then
+        assertThat(visitRepository.count()).isZero();
+        assertThat(shopRepository.findById(shopId)).isEmpty();
+        assertThat(userRepository.findById(userId)).isPresent();
+    }
+
     @DisplayName("혼잡도 변경 테스트")
     @Test
     public void changeCongestionStatusTest() {
@@ -123,10 +183,30 @@ public class VisitServiceTest {
         // when
         visitService.checkIn(checkInRequestDto);
         visitService.checkIn(checkInRequestDto1);
+        shopOccupancyFlusher.flush();
 
         Shop findShop = shopRepository.findByTelNumber("032-888-8888")
                 .orElseThrow(() -> new NotFoundException("해당 업체가 존재하지 않습니다."));
         // then
         assertThat(findShop.getCongestionStatus().getMessage()).isEqualTo("보통");
     }
+
+    @DisplayName("방문 이력과 무관한 체크인 쿼리 수 테스트")
+    @Test
+    public void checkInStatementCountTest() {
+        // given
+        Long userId = userRepository.findAll().get(0).getId();
+        Long tableId = shopTableRepository.findAll().get(0).getId();
+        for (int i = 0; i < 20; i++) {
+            visitService.checkIn(new CheckInRequestDto(userId, tableId));
+        }
+        StatementCounter statementCounter = new StatementCounter(entityManagerFactory);
+        long statementCount = statementCounter.assertWithin(CHECK_IN_STATEMENT_BUDGET, () -> visitService.checkIn(new CheckInRequestDto(userId, tableId)));
+        // when
+        for (int i = 0; i < 20; i++) {
+            visitService.checkIn(new CheckInRequestDto(userId, tableId));
+        }
+        // then
+        assertThat(statementCounter.count(() -> visitService.checkIn(new CheckInRequestDto(userId, tableId)))).isEqualTo(statementCount);
+    }
 }